@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.example"
@@ -10,13 +11,15 @@ description = "Yacht_Dice"
 
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(21)
     }
 }
 
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -25,6 +28,57 @@ dependencies {
     implementation ("org.springframework.boot:spring-boot-starter-web")
 }
 
+// STOMP 부하 생성기 (src/loadtest/java) : 서버를 띄워 둔 상태에서
+// ./gradlew loadTest -Prooms=100 -Pplayers=4 -Pduration=2m  (url, rampUp, rows, cols, mines, think, actionTimeout도 가능)
+val loadtest: SourceSet by sourceSets.creating
+
+dependencies {
+    "loadtestImplementation"("org.springframework:spring-websocket")
+    "loadtestImplementation"("org.springframework:spring-messaging")
+    "loadtestImplementation"("tools.jackson.core:jackson-databind")
+    "loadtestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+    "loadtestRuntimeOnly"("org.apache.tomcat.embed:tomcat-embed-websocket")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "실행 중인 서버에 STOMP 부하를 걸고 지연 시간 리포트를 남김"
+    classpath = loadtest.runtimeClasspath
+    mainClass = "org.example.mine.loadtest.LoadGenerator"
+    val keys = listOf("url", "rooms", "players", "duration", "rampUp", "rows", "cols", "mines", "think", "actionTimeout")
+    args = keys.mapNotNull { key -> project.findProperty(key)?.let { "--$key=$it" } } +
+            "--out=${layout.buildDirectory.dir("loadtest").get().asFile.path}"
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 게임 엔진 벤치마크 (src/jmh/java) : ./gradlew jmh
+// 특정 벤치마크만 : ./gradlew jmh -PjmhIncludes=MineRoomBenchmark
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc") // 연산당 할당량(gc.alloc.rate.norm)도 함께 기록
+    fork = 1
+    warmupIterations = 3
+    warmup = "2s"
+    iterations = 5
+    timeOnIteration = "2s"
+    resultFormat = "JSON"
+    project.findProperty("jmhIncludes")?.let { includes = listOf(it.toString()) }
+    // 동시성 벤치마크 스레드 수 (@Threads 대신) : ./gradlew jmh -PjmhThreads=8
+    project.findProperty("jmhThreads")?.let { threads = it.toString().toInt() }
+}
+
+// 방 하나당 힙 사용량 (보드 저장소 / MineRoom 전체) : ./gradlew roomFootprint -Prooms=10000 -Psize=30x30x100
+tasks.register<JavaExec>("roomFootprint") {
+    group = "verification"
+    description = "방 N개를 만들어 방 하나당 힙 사용량을 출력"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.example.mine.dto.RoomFootprint"
+    jvmArgs("-Xmx2g", "-XX:+UseSerialGC")
+    args(
+        project.findProperty("rooms")?.toString() ?: "10000",
+        project.findProperty("size")?.toString() ?: "30x30x100",
+    )
+}
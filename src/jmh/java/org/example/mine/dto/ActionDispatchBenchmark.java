@@ -0,0 +1,62 @@
+package org.example.mine.dto;
+
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 액션 수신 경로 : STOMP 본문(JSON) -> GameMessage 역직렬화 -> 액션 해석 -> MineRoom.handleAction 분기
+// data : 예전 클라이언트 형식 (data 맵 -> GameAction.fromData 변환)
+// action : 타입 있는 액션 (Jackson이 actionType으로 record를 바로 만듦)
+// 이미 열린 칸을 여는 OPEN이라 방 상태는 바뀌지 않고 분기 비용만 남음
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionDispatchBenchmark {
+    private static final String PLAYER_ID = "p1";
+
+    @Param({"data", "action"})
+    public String format;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private MineRoom room;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        room = new MineRoom("bench", 16, 30, 99);
+        room.enterUser(new Player("bench", PLAYER_ID));
+        room.startGame(new Random(42), MineBoardGenerator.generate(room.getROWS(), room.getCOLS(), room.getMINES(), 42, false));
+
+        // 아무 칸이나 열어 두고 그 칸을 계속 다시 여는 요청
+        int[][] board = room.getBoard();
+        int row = 0;
+        int col = 0;
+        while (board[row][col] == -1) col++;
+        room.handleAction(GameMessage.builder()
+                .senderId(PLAYER_ID)
+                .action(new GameAction.Open(row, col))
+                .build());
+
+        String body = "{\"type\":\"ACTION\",\"senderId\":\"" + PLAYER_ID + "\",\"sender\":\"bench\",\"" + format
+                + "\":{\"actionType\":\"OPEN\",\"row\":" + row + ",\"col\":" + col + "}}";
+        payload = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public GameMessage deserialize() {
+        return mapper.readValue(payload, GameMessage.class);
+    }
+
+    @Benchmark
+    public GameAction deserializeAndResolve() {
+        return mapper.readValue(payload, GameMessage.class).resolveAction();
+    }
+
+    @Benchmark
+    public GameMessage deserializeAndDispatch() {
+        return room.handleAction(mapper.readValue(payload, GameMessage.class));
+    }
+}
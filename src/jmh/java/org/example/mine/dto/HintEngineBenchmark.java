@@ -0,0 +1,99 @@
+package org.example.mine.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 힌트 계산 : 칸을 하나씩 열면서 매번 힌트를 요청하는 한 판을 증분 엔진 vs 매번 새로 풀기로 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HintEngineBenchmark {
+
+    @Param({"16x16x40", "16x30x99", "50x50x400"})
+    public String preset;
+
+    // 한 판에서 힌트를 요청하는 횟수 (사이사이 안전한 칸 하나씩 열기)
+    @Param({"20"})
+    public int hints;
+
+    private int rows;
+    private int cols;
+    private int mines;
+    private byte[] initialCells;
+    private List<int[]> clicks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = preset.split("x");
+        rows = Integer.parseInt(parts[0]);
+        cols = Integer.parseInt(parts[1]);
+        mines = Integer.parseInt(parts[2]);
+
+        GeneratedBoard generated = MineBoardGenerator.generate(rows, cols, mines, 7L, false);
+        initialCells = new byte[rows * cols];
+        for (int i = 0; i < rows * cols; i++) initialCells[i] = BoardCodec.cell(generated.cells()[i], 0);
+        reveal(initialCells, null, generated.startRow(), generated.startCol());
+
+        // 매 판 같은 순서로 열 안전한 칸들
+        Random rand = new Random(7);
+        byte[] scratch = initialCells.clone();
+        clicks = new ArrayList<>();
+        while (clicks.size() < hints) {
+            int r = rand.nextInt(rows);
+            int c = rand.nextInt(cols);
+            byte cell = scratch[r * cols + c];
+            if (BoardCodec.view(cell) != 0 || BoardCodec.value(cell) == -1) continue;
+            clicks.add(new int[]{r, c});
+            reveal(scratch, null, r, c);
+        }
+    }
+
+    @Benchmark
+    public int incremental() {
+        byte[] cells = initialCells.clone();
+        HintEngine engine = new HintEngine(rows, cols, mines, cells);
+        int sum = 0;
+        for (int[] click : clicks) {
+            sum += engine.probabilities().interiorPermille();
+            reveal(cells, engine, click[0], click[1]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int fromScratch() {
+        byte[] cells = initialCells.clone();
+        int sum = 0;
+        for (int[] click : clicks) {
+            sum += new HintEngine(rows, cols, mines, cells).probabilities().interiorPermille();
+            reveal(cells, null, click[0], click[1]);
+        }
+        return sum;
+    }
+
+    private void reveal(byte[] cells, HintEngine engine, int r, int c) {
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        cells[r * cols + c] = BoardCodec.withView(cells[r * cols + c], BoardCodec.OPEN);
+        if (engine != null) engine.onReveal(r, c);
+        queue.add(new int[]{r, c});
+        while (!queue.isEmpty()) {
+            int[] cur = queue.poll();
+            if (BoardCodec.value(cells[cur[0] * cols + cur[1]]) != 0) continue;
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int nr = cur[0] + dr;
+                    int nc = cur[1] + dc;
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || BoardCodec.view(cells[nr * cols + nc]) != 0) continue;
+                    cells[nr * cols + nc] = BoardCodec.withView(cells[nr * cols + nc], BoardCodec.OPEN);
+                    if (engine != null) engine.onReveal(nr, nc);
+                    queue.add(new int[]{nr, nc});
+                }
+            }
+        }
+    }
+}
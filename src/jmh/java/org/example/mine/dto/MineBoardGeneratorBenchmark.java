@@ -0,0 +1,37 @@
+package org.example.mine.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 보드 생성 처리량 : 일반(첫 칸만 안전) vs no-guess (풀이기로 검증될 때까지 다시 섞음)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MineBoardGeneratorBenchmark {
+
+    // rows x cols x mines (초급 / 중급 / 고급 / 기본 방)
+    @Param({"9x9x10", "16x16x40", "16x30x99", "10x10x15"})
+    public String preset;
+
+    @Param({"false", "true"})
+    public boolean noGuess;
+
+    private int rows;
+    private int cols;
+    private int mines;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = preset.split("x");
+        rows = Integer.parseInt(parts[0]);
+        cols = Integer.parseInt(parts[1]);
+        mines = Integer.parseInt(parts[2]);
+    }
+
+    @Benchmark
+    public GeneratedBoard generate() {
+        return MineBoardGenerator.generate(rows, cols, mines, seed++, noGuess);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.mine.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 게임 엔진 핫패스 : 보드 생성(MineBoardGenerator) + 판 시작, 빈칸 연쇄 열기, 한 판 전체 handleAction
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MineRoomBenchmark {
+    private static final String PLAYER_ID = "p1";
+
+    @Param({"10x10", "16x30", "100x100"})
+    public String size;
+
+    @Param({"0.10", "0.20"})
+    public double density;
+
+    private int rows;
+    private int cols;
+    private int mines;
+    private MineRoom room;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = size.split("x");
+        rows = Integer.parseInt(parts[0]);
+        cols = Integer.parseInt(parts[1]);
+        mines = Math.max(1, (int) (rows * cols * density));
+        room = newRoom();
+    }
+
+    @Benchmark
+    public int startGame() {
+        start(room, seed++);
+        return room.getRemainingNonMineCells();
+    }
+
+    // 연쇄 열기만 재기 위해 매 호출 전에 새 보드 + 빈칸 위치를 준비 (준비 시간은 측정에서 빠짐)
+    @State(Scope.Thread)
+    public static class FloodState {
+        GameMessage click;
+
+        @Setup(Level.Invocation)
+        public void prepare(MineRoomBenchmark bench) {
+            start(bench.room, bench.seed++);
+            click = open(firstZeroCell(bench.room));
+        }
+    }
+
+    @Benchmark
+    public GameMessage floodFill(FloodState flood) {
+        return room.handleAction(flood.click);
+    }
+
+    // 한 판 전체 : 시작 후 안전한 칸을 행 순서대로 열어 끝날 때까지 (열린 칸은 null 반환으로 빨리 넘어감)
+    @Benchmark
+    public int playFullGame() {
+        MineRoom game = newRoom();
+        start(game, seed++);
+        int[][] board = game.getBoard();
+        int actions = 0;
+        for (int r = 0; r < rows && game.isPlaying(); r++) {
+            for (int c = 0; c < cols && game.isPlaying(); c++) {
+                if (board[r][c] == -1) continue;
+                if (game.handleAction(open(new int[]{r, c})) != null) actions++;
+            }
+        }
+        return actions;
+    }
+
+    // 시드 고정 보드로 시작 (모든 칸이 닫힌 상태)
+    private static void start(MineRoom room, long seed) {
+        room.startGame(new Random(seed),
+                MineBoardGenerator.generate(room.getROWS(), room.getCOLS(), room.getMINES(), seed, false));
+    }
+
+    private MineRoom newRoom() {
+        MineRoom newRoom = new MineRoom("bench", rows, cols, mines);
+        newRoom.enterUser(new Player("bench", PLAYER_ID));
+        return newRoom;
+    }
+
+    // 첫 0칸 (없으면 첫 안전 칸)
+    private static int[] firstZeroCell(MineRoom room) {
+        int[][] board = room.getBoard();
+        int[] fallback = null;
+        for (int r = 0; r < board.length; r++) {
+            for (int c = 0; c < board[r].length; c++) {
+                if (board[r][c] == 0) return new int[]{r, c};
+                if (fallback == null && board[r][c] > 0) fallback = new int[]{r, c};
+            }
+        }
+        return fallback;
+    }
+
+    private static GameMessage open(int[] cell) {
+        return GameMessage.builder()
+                .type("ACTION")
+                .sender("bench")
+                .senderId(PLAYER_ID)
+                .data(Map.of("actionType", "OPEN", "row", cell[0], "col", cell[1]))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.mine.dto;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실시간 방 동시 클릭 : 플레이어(스레드)들이 큰 보드 하나를 동시에 클릭해서 다 열 때까지 걸린 시간
+// 닫힌 안전 칸을 섞어 스레드마다 겹치지 않게 나눠 클릭 (총 클릭 수는 스레드 수와 무관, 연쇄 열기로 이미 열린 칸도 그대로 클릭)
+// lock : striped = 칸 CAS + 구역 잠금 / single = 방 전체 잠금 하나 (synchronized handleAction과 같은 직렬화)
+// 코어 수별 비교 : ./gradlew jmh -PjmhIncludes=RealtimeMineRoomBenchmark -PjmhThreads=1 (8, 16, 64 ...)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class RealtimeMineRoomBenchmark {
+    private static final double DENSITY = 0.15;
+
+    @Param({"1000x1000"})
+    public String size;
+
+    @Param({"striped", "single"})
+    public String lock;
+
+    private final AtomicInteger nextPlayer = new AtomicInteger();
+    private RealtimeMineRoom room;
+    private GameMessage[] clicks;
+    private long seed;
+
+    @Setup(Level.Iteration)
+    public void newGame() {
+        String[] parts = size.split("x");
+        int rows = Integer.parseInt(parts[0]);
+        int cols = Integer.parseInt(parts[1]);
+
+        room = new RealtimeMineRoom("bench", rows, cols, (int) (rows * cols * DENSITY));
+        for (int p = 0; p < RealtimeMineRoom.MAX_PLAYERS; p++) room.enterUser(new Player("bench", "p" + p));
+        room.handleAction(GameMessage.builder().senderId("p0").action(new GameAction.Start(seed++, null)).build());
+
+        List<Integer> safe = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (room.viewAt(r, c) == 0 && room.valueAt(r, c) != -1) safe.add(r * cols + c);
+            }
+        }
+        Collections.shuffle(safe, new Random(seed));
+
+        clicks = new GameMessage[safe.size()];
+        for (int i = 0; i < clicks.length; i++) {
+            int idx = safe.get(i);
+            clicks[i] = GameMessage.builder()
+                    .senderId("p" + (i % RealtimeMineRoom.MAX_PLAYERS))
+                    .action(new GameAction.Open(idx / cols, idx % cols))
+                    .build();
+        }
+    }
+
+    // 스레드 번호 (클릭 목록을 스레드 수로 나눠 가짐)
+    @State(Scope.Thread)
+    public static class PlayerState {
+        int index;
+        int players;
+
+        @Setup(Level.Trial)
+        public void join(RealtimeMineRoomBenchmark bench, BenchmarkParams params) {
+            index = bench.nextPlayer.getAndIncrement();
+            players = params.getThreads();
+        }
+    }
+
+    @Benchmark
+    public int clearBoard(PlayerState player) {
+        boolean single = "single".equals(lock);
+        for (int i = player.index; i < clicks.length; i += player.players) {
+            if (single) {
+                synchronized (room) {
+                    room.handleAction(clicks[i]);
+                }
+            } else {
+                room.handleAction(clicks[i]);
+            }
+        }
+        return room.getRemainingNonMineCells();
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.mine.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 방 하나당 힙 사용량 측정 (JMH 벤치마크가 아닌 단독 실행 : ./gradlew roomFootprint -Prooms=10000 -Psize=30x30x100)
+// - boards : 보드 저장소만 (예전 int[][] 두 개 vs 지금 byte[] 하나)
+// - rooms  : 게임을 시작해 첫 칸까지 열린 MineRoom 전체
+// 각 항목을 만들기 전후로 GC를 돌려 사용 중인 힙 차이를 방 수로 나눔 (-Xmx를 넉넉히, 다른 부하 없이 실행)
+public final class RoomFootprint {
+
+    private RoomFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int rooms = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        String[] size = (args.length > 1 ? args[1] : "30x30x100").split("x");
+        int rows = Integer.parseInt(size[0]);
+        int cols = Integer.parseInt(size[1]);
+        int mines = Integer.parseInt(size[2]);
+
+        report("boards int[][] x2", rooms, () -> new int[][][]{new int[rows][cols], new int[rows][cols]});
+        report("boards byte[]", rooms, () -> new byte[rows * cols]);
+        report("rooms MineRoom", rooms, () -> startedRoom(rows, cols, mines));
+    }
+
+    private static MineRoom startedRoom(int rows, int cols, int mines) {
+        MineRoom room = new MineRoom("footprint", rows, cols, mines);
+        room.enterUser(new Player("p", "p"));
+        room.handleAction(GameMessage.builder()
+                .senderId("p")
+                .data(new HashMap<>(Map.of("actionType", "START", "seed", 1L)))
+                .build());
+        return room;
+    }
+
+    private static void report(String label, int count, Supplier<Object> factory) {
+        List<Object> keep = new ArrayList<>(count);
+        long before = usedHeap();
+        for (int i = 0; i < count; i++) keep.add(factory.get());
+        long after = usedHeap();
+
+        long perItem = (after - before) / count;
+        System.out.printf("%-20s %,8d개  합계 %,12d B  개당 %,8d B%n", label, count, after - before, perItem);
+        keep.clear();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
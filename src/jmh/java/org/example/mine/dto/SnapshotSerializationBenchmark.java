@@ -0,0 +1,55 @@
+package org.example.mine.dto;
+
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 전체 상태 메시지(makeStateMessage -> getGameSnapshot) 생성 + JSON 직렬화 비용 (2차원 배열 vs 압축 인코딩)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotSerializationBenchmark {
+    private static final String PLAYER_ID = "p1";
+
+    @Param({"10x10", "16x30", "100x100"})
+    public String size;
+
+    @Param({"raw", BoardCodec.PACKED})
+    public String encoding;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private MineRoom room;
+    private GameMessage resync;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = size.split("x");
+        int rows = Integer.parseInt(parts[0]);
+        int cols = Integer.parseInt(parts[1]);
+
+        room = new MineRoom("bench", rows, cols, rows * cols / 6);
+        Player player = new Player("bench", PLAYER_ID);
+        if (BoardCodec.PACKED.equals(encoding)) player.set("boardEncoding", BoardCodec.PACKED);
+        room.enterUser(player);
+        room.startGame(new Random(42), MineBoardGenerator.generate(room.getROWS(), room.getCOLS(), room.getMINES(), 42, false));
+
+        resync = GameMessage.builder()
+                .type("ACTION")
+                .senderId(PLAYER_ID)
+                .data(Map.of("actionType", "RESYNC"))
+                .build();
+    }
+
+    @Benchmark
+    public GameMessage stateMessage() {
+        return room.handleAction(resync);
+    }
+
+    @Benchmark
+    public byte[] stateMessageJson() {
+        return mapper.writeValueAsBytes(room.handleAction(resync));
+    }
+}
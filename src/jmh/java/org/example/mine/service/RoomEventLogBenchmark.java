@@ -0,0 +1,79 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.MineRoom;
+import org.example.mine.dto.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 서버 재시작 시 방 로그 재생 시간 (방 수 x 방마다 기록된 액션 수)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class RoomEventLogBenchmark {
+
+    @Param({"10", "100"})
+    public int roomCount;
+
+    @Param({"50", "500"})
+    public int actionsPerRoom;
+
+    private Path dir;
+
+    @Setup(Level.Trial)
+    public void writeLogs() throws IOException {
+        dir = Files.createTempDirectory("room-log-bench");
+        RoomEventLog log = new RoomEventLog(true, dir, false);
+        for (int i = 0; i < roomCount; i++) {
+            MineRoom room = new MineRoom("bench-" + i, 100, 100, 1500);
+            log.roomCreated(room);
+            for (String id : List.of("a", "b", "c")) {
+                Player player = new Player(id, id);
+                room.enterUser(player);
+                log.joined(room.getRoomId(), player);
+            }
+            act(log, room, "a", Map.of("actionType", "START", "seed", (long) i));
+
+            // 차례인 사람이 아직 닫힌 칸을 순서대로 열기 (게임이 끝나도 기록은 남김)
+            int cell = 0;
+            for (int n = 0; n < actionsPerRoom && room.isPlaying(); n++) {
+                int[][] view = room.getViewState(); // 어댑터가 매번 복사본을 만드므로 액션마다 한 번만
+                while (view[cell / 100][cell % 100] != 0) cell++;
+                String turn = room.getTurnOrder().get(room.getCurrentTurnIndex());
+                act(log, room, turn, Map.of("actionType", "OPEN", "row", cell / 100, "col", cell % 100));
+            }
+        }
+        log.close();
+    }
+
+    @Benchmark
+    public List<BaseGameRoom> recover() {
+        RoomEventLog log = new RoomEventLog(true, dir, false);
+        List<BaseGameRoom> rooms = log.recover();
+        log.close();
+        return rooms;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteLogs() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static void act(RoomEventLog log, MineRoom room, String senderId, Map<String, Object> data) {
+        GameMessage message = GameMessage.builder().type("ACTION").sender(senderId).senderId(senderId).data(data).build();
+        if (room.handleAction(message) != null) log.action(room.getRoomId(), message);
+    }
+}
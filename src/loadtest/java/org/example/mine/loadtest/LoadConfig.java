@@ -0,0 +1,39 @@
+package org.example.mine.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 부하 테스트 설정 (--key=value 인자)
+record LoadConfig(String url, int rooms, int players, Duration duration, Duration rampUp,
+                  int rows, int cols, int mines, Duration think, Duration actionTimeout, Path out) {
+
+    static LoadConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) throw new IllegalArgumentException("--key=value 형식이 아님: " + arg);
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return new LoadConfig(
+                values.getOrDefault("url", "http://localhost:8080"),
+                Integer.parseInt(values.getOrDefault("rooms", "20")),
+                Integer.parseInt(values.getOrDefault("players", "4")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("rampUp", "10s")),
+                Integer.parseInt(values.getOrDefault("rows", "10")),
+                Integer.parseInt(values.getOrDefault("cols", "10")),
+                Integer.parseInt(values.getOrDefault("mines", "15")),
+                duration(values.getOrDefault("think", "0ms")),
+                duration(values.getOrDefault("actionTimeout", "5s")),
+                Path.of(values.getOrDefault("out", "build/loadtest")));
+    }
+
+    // 10s, 500ms, 2m
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s")) return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m")) return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        return Duration.ofMillis(Long.parseLong(value));
+    }
+}
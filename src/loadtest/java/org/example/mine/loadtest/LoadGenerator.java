@@ -0,0 +1,114 @@
+package org.example.mine.loadtest;
+
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// STOMP 부하 생성기 : 떠 있는 서버에 방 N개 x 플레이어 P명을 붙여 게임을 계속 돌림
+// ./gradlew loadTest -Prooms=100 -Pplayers=4 -Pduration=2m
+// 결과 : build/loadtest/<시각>/ (latency.hgrm, latency.hlog, summary.txt)
+public class LoadGenerator {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        Path dir = config.out().resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        LoadStats stats = new LoadStats(dir);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new ByteArrayMessageConverter());
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        HttpClient http = HttpClient.newHttpClient();
+        List<SimulatedPlayer> players = new ArrayList<>();
+        int connected = 0;
+
+        System.out.println("load test " + config);
+        // 방을 rampUp 동안 고르게 나눠 붙임
+        long roomDelayMs = config.rooms() > 1 ? config.rampUp().toMillis() / config.rooms() : 0;
+        for (int i = 0; i < config.rooms(); i++) {
+            String roomId = createRoom(http, config, "load-" + i);
+            List<SimulatedPlayer> roomPlayers = new ArrayList<>();
+            for (int p = 0; p < config.players(); p++) {
+                SimulatedPlayer player = new SimulatedPlayer("bot-" + i + "-" + p, roomId, p == 0, config, stats, scheduler);
+                try {
+                    StompSession session = stompClient.connectAsync(config.url() + "/ws", new StompSessionHandlerAdapter() {
+                        @Override
+                        public void handleTransportError(StompSession session, Throwable exception) {
+                            stats.transportErrors.increment();
+                        }
+
+                        @Override
+                        public void handleException(StompSession session, StompCommand command,
+                                                    StompHeaders headers, byte[] payload, Throwable exception) {
+                            stats.transportErrors.increment();
+                        }
+                    }).get(10, TimeUnit.SECONDS);
+                    player.join(session);
+                    roomPlayers.add(player);
+                    connected++;
+                } catch (Exception e) {
+                    stats.transportErrors.increment();
+                    System.err.println("연결 실패: " + e.getMessage());
+                }
+            }
+            players.addAll(roomPlayers);
+            if (!roomPlayers.isEmpty()) {
+                SimulatedPlayer host = roomPlayers.get(0);
+                scheduler.schedule(host::start, 500, TimeUnit.MILLISECONDS); // 모두 입장 처리된 뒤 시작
+            }
+            if (roomDelayMs > 0) Thread.sleep(roomDelayMs);
+        }
+
+        scheduler.scheduleAtFixedRate(stats::reportInterval, 5, 5, TimeUnit.SECONDS);
+        scheduler.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+            players.forEach(player -> player.expirePending(now));
+        }, 1, 1, TimeUnit.SECONDS);
+
+        Thread.sleep(config.duration().toMillis());
+
+        scheduler.shutdownNow();
+        players.forEach(SimulatedPlayer::leave);
+        stats.writeReport(dir, config, connected);
+        stompClient.stop();
+        System.exit(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String createRoom(HttpClient http, LoadConfig config, String name) throws Exception {
+        String query = "name=" + URLEncoder.encode(name, StandardCharsets.UTF_8)
+                + "&rows=" + config.rows() + "&cols=" + config.cols() + "&mines=" + config.mines();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.url() + "/api/rooms?" + query))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) throw new IllegalStateException("방 생성 실패: HTTP " + response.statusCode());
+        return (String) MAPPER.readValue(response.body(), Map.class).get("roomId");
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.mine.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 지연 시간 히스토그램(µs) + 프레임/바이트 카운터
+// 구간마다 Recorder에서 꺼내 콘솔 출력 + .hlog에 기록, 전체 누적은 .hgrm 리포트로
+class LoadStats {
+    private static final long MAX_LATENCY_US = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(MAX_LATENCY_US, 3);
+    private final Histogram total = new Histogram(MAX_LATENCY_US, 3);
+    private Histogram interval;
+
+    final LongAdder framesIn = new LongAdder();
+    final LongAdder bytesIn = new LongAdder();
+    final LongAdder framesOut = new LongAdder();
+    final LongAdder bytesOut = new LongAdder();
+    final LongAdder actionsSent = new LongAdder();
+    final LongAdder actionTimeouts = new LongAdder();
+    final LongAdder gamesFinished = new LongAdder();
+    final LongAdder transportErrors = new LongAdder();
+
+    private final HistogramLogWriter logWriter;
+    private final PrintStream logStream;
+    private final long startNanos = System.nanoTime();
+    private long lastNanos = startNanos;
+    private long lastFrames;
+    private long lastBytes;
+
+    LoadStats(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        this.logStream = new PrintStream(Files.newOutputStream(dir.resolve("latency.hlog")));
+        this.logWriter = new HistogramLogWriter(logStream);
+        logWriter.outputLogFormatVersion();
+        logWriter.outputStartTime(System.currentTimeMillis());
+        logWriter.outputLegend();
+    }
+
+    // 액션 전송 -> 방 브로드캐스트 수신까지
+    void recordLatency(long nanos) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_LATENCY_US));
+    }
+
+    void frameIn(int bytes) {
+        framesIn.increment();
+        bytesIn.add(bytes);
+    }
+
+    void frameOut(int bytes) {
+        framesOut.increment();
+        bytesOut.add(bytes);
+    }
+
+    // 구간 통계 한 줄 출력 + hlog 기록
+    synchronized void reportInterval() {
+        long now = System.nanoTime();
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        logWriter.outputIntervalHistogram(interval);
+
+        double seconds = (now - lastNanos) / 1e9;
+        long frames = framesIn.sum();
+        long bytes = bytesIn.sum();
+        System.out.printf("[%5.1fs] actions=%d  in: %.0f frames/s %.1f KB/s  latency ms p50=%.2f p99=%.2f p99.9=%.2f max=%.2f  timeouts=%d games=%d%n",
+                (now - startNanos) / 1e9, interval.getTotalCount(),
+                (frames - lastFrames) / seconds, (bytes - lastBytes) / seconds / 1024,
+                ms(interval, 50), ms(interval, 99), ms(interval, 99.9), interval.getMaxValue() / 1000.0,
+                actionTimeouts.sum(), gamesFinished.sum());
+
+        lastNanos = now;
+        lastFrames = frames;
+        lastBytes = bytes;
+    }
+
+    // 전체 결과 : latency.hgrm (백분위 분포, ms 단위) + summary.txt
+    synchronized void writeReport(Path dir, LoadConfig config, int connected) throws IOException {
+        reportInterval();
+        logStream.close();
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("latency.hgrm")))) {
+            total.outputPercentileDistribution(out, 1000.0);
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        String summary = String.format("""
+                        config          %s
+                        connected       %d / %d players
+                        elapsed         %.1f s
+                        actions         %d sent, %d measured, %d timed out
+                        games finished  %d
+                        frames in       %d (%.0f/s)
+                        bytes in        %d (%.1f KB/s)
+                        frames out      %d (%.0f/s)
+                        bytes out       %d (%.1f KB/s)
+                        transport err   %d
+                        latency ms      p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f
+                        """,
+                config, connected, config.rooms() * config.players(), seconds,
+                actionsSent.sum(), total.getTotalCount(), actionTimeouts.sum(), gamesFinished.sum(),
+                framesIn.sum(), framesIn.sum() / seconds, bytesIn.sum(), bytesIn.sum() / seconds / 1024,
+                framesOut.sum(), framesOut.sum() / seconds, bytesOut.sum(), bytesOut.sum() / seconds / 1024,
+                transportErrors.sum(),
+                ms(total, 50), ms(total, 90), ms(total, 99), ms(total, 99.9), total.getMaxValue() / 1000.0);
+        Files.writeString(dir.resolve("summary.txt"), summary);
+        System.out.println();
+        System.out.print(summary);
+        System.out.println("report -> " + dir.toAbsolutePath());
+    }
+
+    private static double ms(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.mine.loadtest;
+
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 가상 플레이어 하나 = STOMP 세션 하나
+// 방 상태(열린 칸, 현재 차례)를 메시지로 따라가다가 내 차례면 닫힌 칸 하나를 무작위로 엶
+// 지연 시간 = OPEN 전송 ~ 그 칸이 담긴 방 브로드캐스트(UPDATE/GAME_OVER) 수신
+class SimulatedPlayer {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private final String id = UUID.randomUUID().toString();
+    private final String name;
+    private final String roomId;
+    private final boolean host;
+    private final LoadConfig config;
+    private final LoadStats stats;
+    private final ScheduledExecutorService scheduler;
+    private final Random rand = new Random();
+
+    private StompSession session;
+    private boolean[] open;
+    private boolean playing;
+    private boolean eliminated;
+    private String currentTurnId = "";
+
+    // 응답을 기다리는 내 액션 (한 번에 하나)
+    private int pendingCell = -1;
+    private long pendingSince;
+
+    SimulatedPlayer(String name, String roomId, boolean host, LoadConfig config, LoadStats stats, ScheduledExecutorService scheduler) {
+        this.name = name;
+        this.roomId = roomId;
+        this.host = host;
+        this.config = config;
+        this.stats = stats;
+        this.scheduler = scheduler;
+        this.open = new boolean[config.rows() * config.cols()];
+    }
+
+    // 구독을 먼저 하고 입장 (입장 직후 SYNC는 내 세션 큐로 옴)
+    void join(StompSession session) {
+        this.session = session;
+        session.subscribe("/topic/" + roomId, handler());
+        session.subscribe("/user/queue/room", handler());
+        send("/app/" + roomId + "/join", Map.of("type", "JOIN", "sender", name, "senderId", id, "data", Map.of()));
+    }
+
+    void start() {
+        send("/app/" + roomId + "/action", action(Map.of("actionType", "START")));
+    }
+
+    void leave() {
+        if (session == null || !session.isConnected()) return;
+        send("/app/" + roomId + "/exit", Map.of("type", "EXIT", "sender", name, "senderId", id));
+        session.disconnect();
+    }
+
+    // 응답 없이 오래된 액션은 포기 (칸이 이미 열렸거나 메시지 유실)
+    synchronized void expirePending(long now) {
+        if (pendingCell >= 0 && now - pendingSince > config.actionTimeout().toNanos()) {
+            pendingCell = -1;
+            stats.actionTimeouts.increment();
+            maybeAct();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onMessage(Map<String, Object> msg) {
+        String type = (String) msg.get("type");
+        // 서버 묶음 전송 프레임 (mine.outbound.batch.enabled) : 안의 메시지를 순서대로
+        if ("BATCH".equals(type) && msg.get("messages") instanceof List<?> messages) {
+            messages.forEach(m -> onMessage((Map<String, Object>) m));
+            return;
+        }
+        // 칸 델타는 타입 있는 event로, 전체 상태는 data로 옴 (필드 모양은 같음)
+        Map<String, Object> data = (Map<String, Object>) (msg.get("event") != null ? msg.get("event") : msg.get("data"));
+        if (type == null || data == null) return;
+
+        switch (type) {
+            case "SYNC", "GAME_START" -> applySnapshot(data);
+            case "UPDATE", "GAME_OVER" -> applyDelta(data);
+            default -> {
+                return;
+            }
+        }
+        if ("GAME_OVER".equals(type)) {
+            pendingCell = -1;
+            if (host) {
+                stats.gamesFinished.increment();
+                scheduler.schedule(this::start, 200, TimeUnit.MILLISECONDS); // 다음 판
+            }
+            return;
+        }
+        maybeAct();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applySnapshot(Map<String, Object> data) {
+        List<List<Number>> view = (List<List<Number>>) data.get("viewState");
+        if (view != null) {
+            for (int r = 0; r < view.size(); r++) {
+                List<Number> row = view.get(r);
+                for (int c = 0; c < row.size(); c++) open[r * config.cols() + c] = row.get(c).intValue() == 1;
+            }
+        }
+        applyTurn(data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyDelta(Map<String, Object> data) {
+        List<List<Number>> cells = (List<List<Number>>) data.get("cells");
+        if (cells != null) {
+            for (List<Number> cell : cells) {
+                int idx = cell.get(0).intValue() * config.cols() + cell.get(1).intValue();
+                open[idx] = true;
+                if (idx == pendingCell) {
+                    stats.recordLatency(System.nanoTime() - pendingSince);
+                    pendingCell = -1;
+                }
+            }
+        }
+        applyTurn(data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyTurn(Map<String, Object> data) {
+        playing = Boolean.TRUE.equals(data.get("playing"));
+        Object turn = data.get("currentTurnId");
+        currentTurnId = turn != null ? turn.toString() : "";
+        Object out = data.get("eliminatedUsers");
+        eliminated = out instanceof List && ((List<String>) out).contains(id);
+    }
+
+    private void maybeAct() {
+        if (!playing || eliminated || pendingCell >= 0 || !id.equals(currentTurnId)) return;
+
+        // 무작위 위치부터 훑어 첫 닫힌 칸
+        int start = rand.nextInt(open.length);
+        for (int i = 0; i < open.length; i++) {
+            int idx = (start + i) % open.length;
+            if (open[idx]) continue;
+            pendingCell = idx;
+            pendingSince = System.nanoTime();
+            if (config.think().isZero()) {
+                sendOpen(idx);
+            } else {
+                scheduler.schedule(() -> sendOpen(idx), config.think().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return;
+        }
+    }
+
+    private synchronized void sendOpen(int idx) {
+        if (pendingCell != idx) return;
+        pendingSince = System.nanoTime(); // 생각 시간은 지연에 넣지 않음
+        stats.actionsSent.increment();
+        send("/app/" + roomId + "/action",
+                action(Map.of("actionType", "OPEN", "row", idx / config.cols(), "col", idx % config.cols())));
+    }
+
+    private Map<String, Object> action(Map<String, Object> action) {
+        Map<String, Object> msg = new HashMap<>();
+        msg.put("type", "ACTION");
+        msg.put("sender", name);
+        msg.put("senderId", id);
+        msg.put("action", action);
+        return msg;
+    }
+
+    private void send(String destination, Map<String, Object> body) {
+        if (session == null || !session.isConnected()) return;
+        byte[] payload = MAPPER.writeValueAsBytes(body);
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(destination);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        session.send(headers, payload);
+        stats.frameOut(payload.length);
+    }
+
+    private StompFrameHandler handler() {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                byte[] body = (byte[]) payload;
+                stats.frameIn(body.length);
+                onMessage(MAPPER.readValue(body, Map.class));
+            }
+        };
+    }
+}
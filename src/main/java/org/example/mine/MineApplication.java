@@ -3,9 +3,11 @@ package org.example.mine;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"org.example.mine", "org.example.common"})
+@EnableScheduling
 public class MineApplication {
 
     public static void main(String[] args) {
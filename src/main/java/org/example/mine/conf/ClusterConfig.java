@@ -0,0 +1,19 @@
+package org.example.mine.conf;
+
+import org.example.mine.service.LoopbackRelayTransport;
+import org.example.mine.service.RelayTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClusterConfig {
+
+    // 노드 간 전송 : 기본은 같은 JVM 안의 노드끼리 (한 머신에서 포트만 다르게 여러 개 띄워 확인)
+    // 네트워크 구현을 RelayTransport 빈으로 등록하면 이건 만들어지지 않음
+    @Bean
+    @ConditionalOnMissingBean(RelayTransport.class)
+    public RelayTransport relayTransport() {
+        return LoopbackRelayTransport.shared();
+    }
+}
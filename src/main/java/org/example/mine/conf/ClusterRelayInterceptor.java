@@ -0,0 +1,46 @@
+package org.example.mine.conf;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mine.service.ClusterNode;
+import org.example.mine.service.ClusterRelayHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+// 브로커 채널(애플리케이션 -> SimpleBroker)에서 다른 노드로 복사 (클러스터 모드)
+// - /topic/... : 방/로비 프레임 -> 다른 모든 노드 브로커로도 (그 노드에 붙은 구독자에게)
+// - /user/{노드@세션}/... : 다른 노드 세션에게 가는 개별 전송 -> 그 노드로만 (이 노드에서는 받을 세션이 없어 버려짐)
+// 다른 노드에서 받아 흘린 프레임(RELAYED)은 다시 보내지 않음
+@Component
+@RequiredArgsConstructor
+public class ClusterRelayInterceptor implements ChannelInterceptor {
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String USER_PREFIX = "/user/";
+
+    private final ClusterNode clusterNode;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!clusterNode.isEnabled()) return message;
+        if (message.getHeaders().containsKey(ClusterRelayHandler.RELAYED_HEADER)) return message;
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) return message;
+        if (!(message.getPayload() instanceof byte[] payload)) return message;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) return message;
+        if (destination.startsWith(TOPIC_PREFIX)) {
+            clusterNode.relayToPeers(destination, payload);
+        } else if (destination.startsWith(USER_PREFIX)) {
+            int end = destination.indexOf('/', USER_PREFIX.length());
+            if (end < 0) return message;
+            String sessionId = destination.substring(USER_PREFIX.length(), end);
+            if (ClusterNode.isQualified(sessionId)) {
+                clusterNode.relayToSession(sessionId, USER_PREFIX, destination.substring(end), payload);
+            }
+        }
+        return message;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.mine.conf;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 핫패스 로그 샘플링 (logback-spring.xml에 등록)
+// HOT_PATH 마커가 붙은 INFO 이하 로그는 sampleRate개 중 1개만 남김 (WARN 이상은 항상 기록)
+public class HotPathSamplingFilter extends TurboFilter {
+    public static final Marker HOT_PATH = MarkerFactory.getMarker("HOT_PATH");
+
+    private final AtomicLong counter = new AtomicLong();
+    private int sampleRate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(HOT_PATH) || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+}
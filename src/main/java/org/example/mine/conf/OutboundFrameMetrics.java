@@ -0,0 +1,50 @@
+package org.example.mine.conf;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+// 클라이언트로 나가는 STOMP MESSAGE 프레임 크기 (JSON 변환 후 바이트 수)
+// 목적지 종류별로 묶음 : room(/topic/{roomId}) / chunk(초대형 보드 청크) / lobby / user(세션 개별)
+@Component
+public class OutboundFrameMetrics implements ChannelInterceptor {
+    private final DistributionSummary room;
+    private final DistributionSummary chunk;
+    private final DistributionSummary lobby;
+    private final DistributionSummary user;
+
+    public OutboundFrameMetrics(MeterRegistry meterRegistry) {
+        this.room = summary(meterRegistry, "room");
+        this.chunk = summary(meterRegistry, "chunk");
+        this.lobby = summary(meterRegistry, "lobby");
+        this.user = summary(meterRegistry, "user");
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) return message;
+        if (!(message.getPayload() instanceof byte[] payload)) return message;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) return message;
+        if (destination.startsWith("/user") || destination.startsWith("/queue")) user.record(payload.length);
+        else if (destination.equals("/topic/lobby")) lobby.record(payload.length);
+        else if (destination.contains("/chunk/")) chunk.record(payload.length);
+        else room.record(payload.length);
+        return message;
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String destination) {
+        return DistributionSummary.builder("mine.stomp.outbound.bytes")
+                .description("나가는 프레임 본문 크기")
+                .baseUnit("bytes")
+                .tag("destination", destination)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.mine.conf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.common.service.ScoreSender;
+import org.example.mine.service.ScoreSink;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ScoreConfig {
+
+    // 공통 모듈의 ScoreSender(랭킹 서버 HTTP 호출)를 점수 큐의 전송 대상으로 연결 (전송 시간은 결과별로 기록)
+    @Bean
+    public ScoreSink scoreSink(ScoreSender scoreSender, MeterRegistry meterRegistry) {
+        Timer success = Timer.builder("mine.score.send").tag("outcome", "success").register(meterRegistry);
+        Timer failure = Timer.builder("mine.score.send").tag("outcome", "failure").register(meterRegistry);
+        return record -> {
+            long started = System.nanoTime();
+            try {
+                scoreSender.sendScore(record.username(), record.gameType(), record.score());
+                success.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                failure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        };
+    }
+}
@@ -1,21 +1,100 @@
 package org.example.mine.conf;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.messaging.simp.config.TaskExecutorRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketProperties.class)
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final OutboundFrameMetrics outboundFrameMetrics;
+    private final ClusterRelayInterceptor clusterRelayInterceptor;
+    private final WebSocketProperties properties;
+    private final TaskScheduler heartbeatScheduler;
+
+    // 하트비트는 브로커 설정이 만드는 messageBrokerTaskScheduler를 사용 (@Lazy : 이 설정 클래스와 순환 참조 방지)
+    public WebSocketConfig(OutboundFrameMetrics outboundFrameMetrics,
+                           ClusterRelayInterceptor clusterRelayInterceptor,
+                           WebSocketProperties properties,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
+        this.outboundFrameMetrics = outboundFrameMetrics;
+        this.clusterRelayInterceptor = clusterRelayInterceptor;
+        this.properties = properties;
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic"); // 구독 경로
+        SimpleBrokerRegistration broker = config.enableSimpleBroker("/topic", "/queue"); // 구독 경로 (/queue는 세션 개별 전송용)
+        if (properties.broker().heartbeatEnabled()) {
+            broker.setHeartbeatValue(properties.broker().heartbeat()).setTaskScheduler(heartbeatScheduler);
+        }
+        config.setPreservePublishOrder(properties.broker().preservePublishOrder());
         config.setApplicationDestinationPrefixes("/app"); // 전송 경로
+        config.setUserDestinationPrefix("/user"); // /user/queue/... -> 해당 세션에게만
+        config.configureBrokerChannel().interceptors(clusterRelayInterceptor); // 클러스터 모드면 다른 노드로도
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // Nginx가 앞단에 있으므로 allowedOriginPatterns("*") 필수
-        registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
+        StompWebSocketEndpointRegistration endpoint = registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(properties.allowedOriginPatterns().toArray(String[]::new));
+
+        WebSocketProperties.SockJs sockjs = properties.sockjs();
+        if (sockjs.enabled()) {
+            endpoint.withSockJS()
+                    .setHeartbeatTime(sockjs.heartbeatTime().toMillis())
+                    .setDisconnectDelay(sockjs.disconnectDelay().toMillis())
+                    .setStreamBytesLimit((int) sockjs.streamBytesLimit().toBytes());
+        }
+    }
+
+    // 느린 클라이언트 보호 : 세션별 전송 버퍼/시간 한도를 넘으면 그 세션만 닫힘 (다른 세션 전송은 막히지 않음)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = properties.transport();
+        registration.setMessageSizeLimit((int) transport.messageSizeLimit().toBytes())
+                .setSendBufferSizeLimit((int) transport.sendBufferSizeLimit().toBytes())
+                .setSendTimeLimit((int) transport.sendTimeLimit().toMillis())
+                .setTimeToFirstMessage((int) transport.timeToFirstMessage().toMillis());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, properties.inbound(), "ws-inbound-");
+    }
+
+    // 나가는 프레임 크기 측정
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, properties.outbound(), "ws-outbound-");
+        registration.interceptors(outboundFrameMetrics);
+    }
+
+    // 가상 스레드 : 메시지마다 가상 스레드 하나 (maxPoolSize가 있으면 동시 실행 상한, 넘으면 보내는 쪽이 기다림)
+    // 플랫폼 스레드 : 크기를 정한 풀 (queueCapacity를 넘으면 그 메시지는 거절)
+    private void configureExecutor(ChannelRegistration registration, WebSocketProperties.Channel channel, String prefix) {
+        if (properties.virtualThreads()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+            executor.setVirtualThreads(true);
+            if (channel.maxPoolSize() > 0) executor.setConcurrencyLimit(channel.maxPoolSize());
+            registration.executor(executor);
+            return;
+        }
+        TaskExecutorRegistration pool = registration.taskExecutor()
+                .corePoolSize(channel.resolvedCorePoolSize())
+                .maxPoolSize(channel.resolvedMaxPoolSize())
+                .keepAliveSeconds((int) channel.keepAlive().toSeconds());
+        if (channel.queueCapacity() > 0) pool.queueCapacity(channel.queueCapacity());
     }
-}
\ No newline at end of file
+}
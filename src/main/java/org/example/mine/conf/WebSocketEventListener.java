@@ -6,7 +6,10 @@ import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.example.mine.service.ChatLimiter;
+import org.example.mine.service.ClusterNode;
 import org.example.mine.service.GameService;
+import org.example.mine.service.RelayMessage;
 
 import java.util.Map;
 
@@ -15,9 +18,14 @@ import java.util.Map;
 public class WebSocketEventListener {
 
     private final GameService gameService;
+    private final ChatLimiter chatLimiter;
+    private final ClusterNode clusterNode;
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+        chatLimiter.sessionClosed(event.getSessionId());
+        clusterNode.sessionClosed(event.getSessionId()); // 다른 노드 방에서 채팅했으면 그 노드에 "노드@세션" 상태가 남아 있음
+
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         Map<String, Object> attributes = headerAccessor.getSessionAttributes();
 
@@ -27,8 +35,6 @@ public class WebSocketEventListener {
             String sender = (String) attributes.get("sender");
 
             if (roomId != null && senderId != null) {
-                System.out.println("사용자 연결 끊김 감지: " + sender);
-
                 // 강제로 퇴장 메시지 생성 및 처리
                 GameMessage exitMsg = GameMessage.builder()
                         .type("EXIT")
@@ -36,7 +42,10 @@ public class WebSocketEventListener {
                         .senderId(senderId)
                         .build();
 
-                gameService.exit(roomId, exitMsg);
+                // 다른 노드가 주인인 방이면 그 노드에서 처리
+                if (clusterNode.forward(RelayMessage.Command.DISCONNECT, roomId, exitMsg, event.getSessionId())) return;
+                // 바로 퇴장시키지 않고 재접속 유예 (resume 하면 취소됨)
+                gameService.disconnected(roomId, exitMsg, event.getSessionId());
             }
         }
     }
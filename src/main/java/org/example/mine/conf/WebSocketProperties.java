@@ -0,0 +1,71 @@
+package org.example.mine.conf;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+// STOMP 브로커 / 채널 / 전송 설정 (mine.websocket.*)
+@ConfigurationProperties(prefix = "mine.websocket")
+public record WebSocketProperties(
+        @DefaultValue("*") List<String> allowedOriginPatterns,
+        // 인바운드/아웃바운드 채널을 가상 스레드로 (Java 21)
+        @DefaultValue("false") boolean virtualThreads,
+        @DefaultValue Broker broker,
+        @DefaultValue Channel inbound,
+        @DefaultValue Channel outbound,
+        @DefaultValue Transport transport,
+        @DefaultValue SockJs sockjs) {
+
+    // SimpleBroker 하트비트 (서버가 보내는 주기, 클라이언트에게 기대하는 주기 / 0이면 끔)
+    // preservePublishOrder : 같은 세션에게 가는 프레임을 발행 순서대로 (seq가 뒤바뀌어 도착하면 클라이언트가 앞 메시지를 버림)
+    public record Broker(
+            @DefaultValue("10s") Duration heartbeatSend,
+            @DefaultValue("10s") Duration heartbeatReceive,
+            @DefaultValue("true") boolean preservePublishOrder) {
+
+        public long[] heartbeat() {
+            return new long[]{heartbeatSend.toMillis(), heartbeatReceive.toMillis()};
+        }
+
+        public boolean heartbeatEnabled() {
+            return !heartbeatSend.isZero() || !heartbeatReceive.isZero();
+        }
+    }
+
+    // 채널 스레드 풀 (corePoolSize 0 = 코어 수 x 2, queueCapacity 0 = 제한 없음)
+    // 가상 스레드면 maxPoolSize가 동시 실행 상한 (0 = 제한 없음, 상한에 닿으면 보내는 쪽이 기다림)
+    public record Channel(
+            @DefaultValue("0") int corePoolSize,
+            @DefaultValue("0") int maxPoolSize,
+            @DefaultValue("0") int queueCapacity,
+            @DefaultValue("60s") Duration keepAlive) {
+
+        public int resolvedCorePoolSize() {
+            return corePoolSize > 0 ? corePoolSize : Runtime.getRuntime().availableProcessors() * 2;
+        }
+
+        public int resolvedMaxPoolSize() {
+            return maxPoolSize > 0 ? Math.max(maxPoolSize, resolvedCorePoolSize()) : Integer.MAX_VALUE;
+        }
+    }
+
+    // 세션별 한도 : 느린 클라이언트에게 쌓이는 전송 버퍼가 sendBufferSizeLimit를 넘거나
+    // 한 번 보내는 데 sendTimeLimit보다 오래 걸리면 그 세션을 닫음 (재접속 후 resume으로 이어받음)
+    public record Transport(
+            @DefaultValue("64KB") DataSize messageSizeLimit,
+            @DefaultValue("512KB") DataSize sendBufferSizeLimit,
+            @DefaultValue("10s") Duration sendTimeLimit,
+            @DefaultValue("30s") Duration timeToFirstMessage) {
+    }
+
+    // SockJS 폴백 (끄면 /ws는 순수 WebSocket -> 클라이언트도 SockJS 대신 WebSocket으로 접속해야 함)
+    public record SockJs(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("25s") Duration heartbeatTime,
+            @DefaultValue("5s") Duration disconnectDelay,
+            @DefaultValue("128KB") DataSize streamBytesLimit) {
+    }
+}
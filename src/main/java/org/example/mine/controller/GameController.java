@@ -7,14 +7,27 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
+import org.example.mine.service.ClusterNode;
 import org.example.mine.service.GameService;
+import org.example.mine.service.RelayMessage.Command;
+import org.example.mine.service.RoomService;
 
 @Controller
 @RequiredArgsConstructor
 public class GameController {
     private final GameService gameService;
+    private final RoomService roomService;
+    private final ClusterNode clusterNode;
 
+    // 로비 초기 목록 (/app/lobby 구독 시 한 번 응답, 이후 변경은 /topic/lobby 로 푸시)
+    @SubscribeMapping("/lobby")
+    public RoomService.LobbyView lobby() {
+        return clusterNode.lobbyView(roomService.getLobbyView());
+    }
+
+    // 아래 방 핸들러 공통 : 클러스터 모드에서 다른 노드가 주인인 방이면 처리하지 않고 그 노드로 넘김 (세션 속성은 이 노드에 남김 -> 끊김 처리)
     // 입장
     @MessageMapping("/{roomId}/join")
     public void join(@DestinationVariable String roomId,
@@ -24,25 +37,48 @@ public class GameController {
         headerAccessor.getSessionAttributes().put("senderId", message.getSenderId());
         headerAccessor.getSessionAttributes().put("sender", message.getSender()); // 자동 연결 해제를 위함
 
-        gameService.join(roomId, message);
+        if (clusterNode.forward(Command.JOIN, roomId, message, headerAccessor.getSessionId())) return;
+        gameService.join(roomId, message, headerAccessor.getSessionId());
+    }
+
+    // 재접속 (끊긴 뒤 유예 시간 안에 lastSeq와 함께 전송)
+    @MessageMapping("/{roomId}/resume")
+    public void resume(@DestinationVariable String roomId,
+                       @Payload GameMessage message,
+                       SimpMessageHeaderAccessor headerAccessor) {
+        headerAccessor.getSessionAttributes().put("roomId", roomId);
+        headerAccessor.getSessionAttributes().put("senderId", message.getSenderId());
+        headerAccessor.getSessionAttributes().put("sender", message.getSender());
+
+        if (clusterNode.forward(Command.RESUME, roomId, message, headerAccessor.getSessionId())) return;
+        gameService.resume(roomId, message, headerAccessor.getSessionId());
     }
 
 
     // 채팅
     @MessageMapping("/{roomId}/chat")
-    public void chat(@DestinationVariable String roomId, @Payload GameMessage message) {
-        gameService.chat(roomId, message);
+    public void chat(@DestinationVariable String roomId,
+                     @Payload GameMessage message,
+                     SimpMessageHeaderAccessor headerAccessor) {
+        if (clusterNode.forward(Command.CHAT, roomId, message, headerAccessor.getSessionId())) return;
+        gameService.chat(roomId, message, headerAccessor.getSessionId());
     }
 
     // [통합] 게임 행동 (돌 두기, 그림 그리기, 정답 맞추기 등 모든 게임 로직)
     @MessageMapping("/{roomId}/action")
-    public void action(@DestinationVariable String roomId, @Payload GameMessage message) {
-        gameService.handleGameAction(roomId, message);
+    public void action(@DestinationVariable String roomId,
+                       @Payload GameMessage message,
+                       SimpMessageHeaderAccessor headerAccessor) {
+        if (clusterNode.forward(Command.ACTION, roomId, message, headerAccessor.getSessionId())) return;
+        gameService.handleGameAction(roomId, message, headerAccessor.getSessionId());
     }
 
     // 퇴장
     @MessageMapping("/{roomId}/exit")
-    public void exit(@DestinationVariable String roomId, @Payload GameMessage message) {
+    public void exit(@DestinationVariable String roomId,
+                     @Payload GameMessage message,
+                     SimpMessageHeaderAccessor headerAccessor) {
+        if (clusterNode.forward(Command.EXIT, roomId, message, headerAccessor.getSessionId())) return;
         gameService.exit(roomId, message);
     }
 }
\ No newline at end of file
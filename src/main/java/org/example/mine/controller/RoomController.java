@@ -1,52 +1,176 @@
 package org.example.mine.controller;
 
-import org.example.common.service.ScoreSender;
-import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.MegaMineRoom;
+import org.example.mine.dto.RoomPage;
+import org.example.mine.dto.RoomSummary;
+import org.example.mine.service.ClusterNode;
+import org.example.mine.service.GameService;
+import org.example.mine.service.RankingCache;
+import org.example.mine.service.RelayMessage;
 import org.example.mine.service.RoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/rooms")
 @RequiredArgsConstructor
 public class RoomController {
     private final RoomService roomService;
-    private final ScoreSender scoreSender;
+    private final GameService gameService;
+    private final RankingCache rankingCache;
+    private final ClusterNode clusterNode;
+
+    // 보드 크기 제한 (연쇄 열기가 반복문이라 크기는 화면 렌더링 기준으로만 제한)
+    private static final int MIN_SIZE = 5;
+    private static final int MAX_SIZE = 100;
+    private static final int MEGA_MAX_SIZE = 10000;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @RequestMapping(method = RequestMethod.HEAD)
     public void healthCheck() {
     }
-    // 1. 방 목록 조회 (GET /api/rooms)
+    // 1. 방 목록 조회 (GET /api/rooms?page=0&size=20&notPlaying=true&hasFreeSlot=true)
+    // 요약 정보만 내려주고, 방이 바뀌지 않았으면 ETag(If-None-Match)로 304 응답
     @GetMapping
-    public List<BaseGameRoom> findAllRooms() {
-        return roomService.findAll();
+    public ResponseEntity<RoomPage> findAllRooms(@RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @RequestParam(defaultValue = "false") boolean notPlaying,
+                                                 @RequestParam(defaultValue = "false") boolean hasFreeSlot) {
+        if (page < 0) page = 0;
+        if (size < 1 || size > MAX_PAGE_SIZE) size = 20;
+
+        RoomService.LobbyView view = clusterNode.lobbyView(roomService.getLobbyView()); // 클러스터 모드면 전체 노드 목록
+        List<RoomSummary> filtered = view.rooms().stream()
+                .filter(r -> !notPlaying || !r.isPlaying())
+                .filter(r -> !hasFreeSlot || r.hasFreeSlot())
+                .toList();
+
+        int from = (int) Math.min((long) page * size, filtered.size()); // page * size가 int를 넘어도 빈 페이지로
+        int to = Math.min(from + size, filtered.size());
+        RoomPage body = new RoomPage(filtered.subList(from, to), page, size, filtered.size());
+
+        return ResponseEntity.ok()
+                .eTag(view.etag())
+                .cacheControl(CacheControl.noCache()) // 매번 재검증 -> 안 바뀌었으면 304
+                .body(body);
     }
 
     // 2. 방 생성 (POST /api/rooms?name=...)
+    // 클러스터 모드 : 방 id를 먼저 정하고 그 id의 주인 노드에서 생성 (응답은 주인 노드가 만든 방 JSON)
     @PostMapping
-    public BaseGameRoom createRoom(@RequestParam String name,
+    public ResponseEntity<?> createRoom(@RequestParam String name,
                                    @RequestParam(defaultValue = "10") int rows,
                                    @RequestParam(defaultValue = "10") int cols,
                                    @RequestParam(defaultValue = "15") int mines) {
-        if(rows < 5 || rows > 30) rows = 10;
-        if(cols < 5 || cols > 30) cols = 10;
+        if(rows < MIN_SIZE || rows > MAX_SIZE) rows = 10;
+        if(cols < MIN_SIZE || cols > MAX_SIZE) cols = 10;
         if(mines >= (rows * cols)) mines = (rows * cols) / 5; // 지뢰가 너무 많으면 조정
+        if (clusterNode.isEnabled()) {
+            return routedCreate(new RelayMessage.CreateRoom(RelayMessage.CreateRoom.newRoomId(), "CLASSIC", name, rows, cols, mines, 0));
+        }
+        if(!roomService.hasCapacity()) throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "방이 너무 많습니다.");
+
+        return ResponseEntity.ok(roomService.createRoom(name, rows, cols, mines));
+    }
+
+
+    // 2-1. 초대형 보드 방 생성 (POST /api/rooms/mega?name=...)
+    @PostMapping("/mega")
+    public ResponseEntity<?> createMegaRoom(@RequestParam String name,
+                                       @RequestParam(defaultValue = "1000") int rows,
+                                       @RequestParam(defaultValue = "1000") int cols,
+                                       @RequestParam(defaultValue = "0.15") double density) {
+        if(rows < MIN_SIZE || rows > MEGA_MAX_SIZE) rows = 1000;
+        if(cols < MIN_SIZE || cols > MEGA_MAX_SIZE) cols = 1000;
+        if(density < 0.15 || density > 0.3) density = 0.15; // 밀도가 낮으면 빈칸이 넓게 이어져 한 번에 열리는 칸이 너무 많음
+        if (clusterNode.isEnabled()) {
+            return routedCreate(new RelayMessage.CreateRoom(RelayMessage.CreateRoom.newRoomId(), "MEGA", name, rows, cols, 0, density));
+        }
+        if(!roomService.hasCapacity()) throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "방이 너무 많습니다.");
+
+        return ResponseEntity.ok(roomService.createMegaRoom(name, rows, cols, density));
+    }
 
-        return roomService.createRoom(name, rows, cols, mines);
+    // 2-2. 초대형 보드 청크 조회 (GET /api/rooms/{roomId}/chunks/{cr}/{cc})
+    // 클라이언트는 /topic/{roomId}/chunk/{cr}/{cc} 구독 후 이걸로 현재 상태를 받음 (조회는 상태를 바꾸지 않음, 멈춘 빈칸 연쇄는 메일박스에서 이어서 열려 토픽으로)
+    @GetMapping("/{roomId}/chunks/{cr}/{cc}")
+    public ResponseEntity<Map<String, Object>> getChunk(@PathVariable String roomId,
+                                                        @PathVariable int cr,
+                                                        @PathVariable int cc) {
+        byte[] view;
+        if (clusterNode.owns(roomId)) {
+            if (!(roomService.findRoom(roomId) instanceof MegaMineRoom room)) {
+                return ResponseEntity.notFound().build();
+            }
+            view = gameService.chunkView(room, cr, cc);
+        } else {
+            view = routed(roomId, new RelayMessage.FindChunk(roomId, cr, cc));
+            if (view == null) return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "cr", cr,
+                "cc", cc,
+                "chunkSize", MegaMineRoom.CHUNK_SIZE,
+                "packedCells", Base64.getEncoder().encodeToString(view)
+        ));
     }
 
+    // 2-3. 실시간 협동 방 생성 (POST /api/rooms/realtime?name=...) : 턴 없이 최대 64명이 동시에
+    @PostMapping("/realtime")
+    public ResponseEntity<?> createRealtimeRoom(@RequestParam String name,
+                                           @RequestParam(defaultValue = "40") int rows,
+                                           @RequestParam(defaultValue = "40") int cols,
+                                           @RequestParam(defaultValue = "240") int mines) {
+        if(rows < MIN_SIZE || rows > MAX_SIZE) rows = 40;
+        if(cols < MIN_SIZE || cols > MAX_SIZE) cols = 40;
+        if(mines >= (rows * cols)) mines = (rows * cols) / 5;
+        if (clusterNode.isEnabled()) {
+            return routedCreate(new RelayMessage.CreateRoom(RelayMessage.CreateRoom.newRoomId(), "REALTIME", name, rows, cols, mines, 0));
+        }
+        if(!roomService.hasCapacity()) throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "방이 너무 많습니다.");
+
+        return ResponseEntity.ok(roomService.createRealtimeRoom(name, rows, cols, mines));
+    }
 
-    // 3. 특정 방 조회 (GET /api/rooms/{roomId})
+    // 3. 특정 방 조회 (GET /api/rooms/{roomId}) : 클러스터 모드면 주인 노드가 가진 방 JSON 그대로
     @GetMapping("/{roomId}")
-    public BaseGameRoom getRoom(@PathVariable String roomId) {
-        return roomService.findRoom(roomId);
+    public ResponseEntity<?> getRoom(@PathVariable String roomId) {
+        if (clusterNode.owns(roomId)) return ResponseEntity.ok(roomService.findRoom(roomId));
+        return json(routed(roomId, new RelayMessage.FindRoom(roomId)));
     }
 
     @GetMapping("/rankings")
     public ResponseEntity<Object> getRanking(@RequestParam(required = false) String gameType) {
-        return scoreSender.ranking(gameType);
+        return rankingCache.get(gameType); // 짧은 TTL 캐시 (동시 요청은 원격 호출 하나로)
+    }
+
+    private ResponseEntity<?> routedCreate(RelayMessage.CreateRoom create) {
+        byte[] room = routed(create.roomId(), create);
+        if (room == null) throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "방이 너무 많습니다.");
+        return json(room);
+    }
+
+    // 방 주인 노드에 요청 (응답이 없으면 503)
+    private <R> R routed(String roomId, RelayMessage.Request<R> request) {
+        try {
+            return clusterNode.request(clusterNode.ownerOf(roomId), request);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "방이 있는 서버에 연결할 수 없습니다.", e);
+        }
+    }
+
+    // 다른 노드가 인코딩한 JSON 그대로 (없으면 로컬 조회처럼 빈 200)
+    private static ResponseEntity<?> json(byte[] body) {
+        if (body == null) return ResponseEntity.ok().build();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
\ No newline at end of file
@@ -11,6 +11,12 @@ public abstract class BaseGameRoom {
     protected String roomId;
     protected String roomName;
     protected boolean playing = false;
+    protected int maxPlayers = 8;
+
+    // 방치된 방 정리용 (RoomReaper)
+    protected long createdAt = System.currentTimeMillis();
+    protected volatile long lastActivityAt = createdAt;
+    protected boolean everJoined = false;
 
     // 동시성 제어를 위해 ConcurrentHashMap 사용
     protected Map<String, Player> users = new ConcurrentHashMap<>();
@@ -22,14 +28,40 @@ public abstract class BaseGameRoom {
 
     public void enterUser(Player player) {
         users.put(player.getId(), player);
+        everJoined = true;
+        touch();
+    }
+
+    // 마지막 활동 시각 갱신 (입장, 게임 행동)
+    public void touch() {
+        lastActivityAt = System.currentTimeMillis();
     }
 
     public void exitUser(String playerId) {
         users.remove(playerId);
     }
 
+    // 입장 가능 여부 (기본: 게임 시작 전에만)
+    public boolean isJoinable() {
+        return !playing;
+    }
+
+    // handleAction 결과를 보낼 토픽별로 나눔 (key: /topic/{roomId} 뒤에 붙는 경로, 기본은 방 전체 하나)
+    public Map<String, GameMessage> routeMessage(GameMessage message) {
+        return Map.of("", message);
+    }
+
     // [추상 메서드] 자식들이 반드시 구현해야 할 로직
     public abstract GameMessage handleAction(GameMessage message);
 
+    // 로비 목록용 요약
+    public abstract RoomSummary toSummary();
+
+    // 방 전체에 보내는 전체 상태 (GAME_START 등)
     public abstract Map<String, Object> getGameSnapshot();
+
+    // 한 세션에게만 보내는 전체 상태 (입장/재접속/RESYNC의 SYNC) : 그 플레이어가 받을 수 있는 형식으로 (기본은 방 전체용과 같음)
+    public Map<String, Object> getGameSnapshot(String playerId) {
+        return getGameSnapshot();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.example.mine.dto;
+
+import java.util.Base64;
+
+// 보드 셀 인코딩 (MineRoom 내부 저장 형식 = 압축 전송 형식)
+// 한 칸 = 1바이트 : 하위 4비트 = 값 + 1 (0:지뢰, 1~9:숫자 0~8), 상위 4비트 = 보기 상태 (0:닫힘, 1:열림, 2:깃발)
+// 행 우선(row-major) 순서, 인덱스 = row * cols + col
+// JOIN 때 boardEncoding: "packed" 를 보낸 클라이언트에게는 이 배열을 base64 문자열 하나로 그대로 전송
+public final class BoardCodec {
+    public static final String PACKED = "packed";
+
+    public static final int VALUE_MASK = 0x0F;
+    public static final int VIEW_SHIFT = 4;
+    public static final int OPEN = 1;
+    public static final int FLAG = 2;
+    // 닫힌 빈칸 (값 0, 보기 0) : 0 바이트는 '닫힌 지뢰'이므로 새 배열은 이 값으로 채워야 함
+    public static final byte EMPTY = 1;
+
+    private BoardCodec() {
+    }
+
+    public static byte cell(int value, int view) {
+        return (byte) ((view << VIEW_SHIFT) | (value + 1));
+    }
+
+    // -1:지뢰, 0~8:숫자
+    public static int value(byte cell) {
+        return (cell & VALUE_MASK) - 1;
+    }
+
+    public static int view(byte cell) {
+        return (cell >> VIEW_SHIFT) & 0x0F;
+    }
+
+    public static byte withView(byte cell, int view) {
+        return (byte) ((view << VIEW_SHIFT) | (cell & VALUE_MASK));
+    }
+
+    // 이 플레이어의 클라이언트가 압축 형식을 받는지 (JOIN 때 협상)
+    public static boolean accepts(Player player) {
+        return player != null && PACKED.equals(player.getString("boardEncoding"));
+    }
+
+    public static String encode(byte[] cells) {
+        return Base64.getEncoder().encodeToString(cells);
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.mine.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게임 행동 (타입 있는 액션) : 새 클라이언트는 GameMessage.action 에 {"actionType": "OPEN", "row": 3, "col": 4} 형태로 보냄
+// Jackson이 actionType 값으로 바로 해당 record를 만들어 줌 -> 맵 조회, 박싱, 캐스팅 없이 분기
+// 모르는 actionType은 Unknown으로, 모르는 필드는 무시 (메시지 전체가 버려지지 않도록)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "actionType", defaultImpl = GameAction.Unknown.class)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = GameAction.Start.class, name = "START"),
+        @JsonSubTypes.Type(value = GameAction.Open.class, name = "OPEN"),
+        @JsonSubTypes.Type(value = GameAction.Flag.class, name = "FLAG"),
+        @JsonSubTypes.Type(value = GameAction.Chord.class, name = "CHORD"),
+        @JsonSubTypes.Type(value = GameAction.Batch.class, name = "BATCH"),
+        @JsonSubTypes.Type(value = GameAction.Resync.class, name = "RESYNC"),
+        @JsonSubTypes.Type(value = GameAction.Hint.class, name = "HINT"),
+        @JsonSubTypes.Type(value = GameAction.Flood.class, name = "FLOOD"),
+})
+public sealed interface GameAction {
+
+    String actionType();
+
+    // 이벤트 로그 기록용 (예전 data 맵과 같은 모양)
+    Map<String, Object> toData();
+
+    // seed, noGuess는 서버가 채움 (클라이언트가 보낸 값은 GameService에서 버림)
+    record Start(Long seed, Boolean noGuess) implements GameAction {
+        public String actionType() {
+            return "START";
+        }
+
+        public Map<String, Object> toData() {
+            Map<String, Object> data = new HashMap<>();
+            data.put("actionType", "START");
+            if (seed != null) data.put("seed", seed);
+            if (Boolean.TRUE.equals(noGuess)) data.put("noGuess", true);
+            return data;
+        }
+    }
+
+    record Open(int row, int col) implements GameAction {
+        public String actionType() {
+            return "OPEN";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of("actionType", "OPEN", "row", row, "col", col);
+        }
+    }
+
+    // 깃발 꽂기 / 뽑기 (토글)
+    record Flag(int row, int col) implements GameAction {
+        public String actionType() {
+            return "FLAG";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of("actionType", "FLAG", "row", row, "col", col);
+        }
+    }
+
+    // 열린 숫자 칸 주변의 깃발 수가 숫자와 같으면 깃발 없는 닫힌 이웃을 한 번에 열기
+    record Chord(int row, int col) implements GameAction {
+        public String actionType() {
+            return "CHORD";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of("actionType", "CHORD", "row", row, "col", col);
+        }
+    }
+
+    // 여러 행동을 한 프레임으로 (방 잠금 한 번, 델타 한 번) : OPEN / FLAG / CHORD만 담을 수 있음
+    record Batch(List<GameAction> actions) implements GameAction {
+        public String actionType() {
+            return "BATCH";
+        }
+
+        public Map<String, Object> toData() {
+            List<Map<String, Object>> list = new ArrayList<>();
+            if (actions != null) actions.forEach(action -> list.add(action.toData()));
+            return Map.of("actionType", "BATCH", "actions", list);
+        }
+    }
+
+    record Resync() implements GameAction {
+        public String actionType() {
+            return "RESYNC";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of("actionType", "RESYNC");
+        }
+    }
+
+    record Hint() implements GameAction {
+        public String actionType() {
+            return "HINT";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of("actionType", "HINT");
+        }
+    }
+
+    // 초대형 보드 : 이 청크에서 멈춘 빈칸 연쇄를 마저 열기 (청크 조회 시 서버가 메일박스에 넣음, 재생용으로 기록)
+    record Flood(int cr, int cc) implements GameAction {
+        public String actionType() {
+            return "FLOOD";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of("actionType", "FLOOD", "cr", cr, "cc", cc);
+        }
+    }
+
+    // 모르는 액션 / 형식이 틀린 액션 (방은 무시)
+    record Unknown() implements GameAction {
+        public String actionType() {
+            return "OTHER";
+        }
+
+        public Map<String, Object> toData() {
+            return Map.of();
+        }
+    }
+
+    // 예전 클라이언트가 보내는 data 맵 변환 (값 타입이 틀려도 ClassCastException 대신 Unknown)
+    @SuppressWarnings("unchecked")
+    static GameAction fromData(Map<String, Object> data) {
+        if (data == null || !(data.get("actionType") instanceof String type)) return new Unknown();
+        return switch (type) {
+            case "START" -> new Start(
+                    data.get("seed") instanceof Number n ? n.longValue() : null,
+                    data.get("noGuess") instanceof Boolean b ? b : null);
+            case "OPEN", "FLAG", "CHORD" -> data.get("row") instanceof Number r && data.get("col") instanceof Number c
+                    ? cellAction(type, r.intValue(), c.intValue())
+                    : new Unknown();
+            case "BATCH" -> {
+                List<GameAction> actions = new ArrayList<>();
+                if (data.get("actions") instanceof List<?> list) {
+                    for (Object item : list) {
+                        if (item instanceof Map<?, ?> map) actions.add(fromData((Map<String, Object>) map));
+                    }
+                }
+                yield new Batch(actions);
+            }
+            case "RESYNC" -> new Resync();
+            case "HINT" -> new Hint();
+            case "FLOOD" -> data.get("cr") instanceof Number r && data.get("cc") instanceof Number c
+                    ? new Flood(r.intValue(), c.intValue())
+                    : new Unknown();
+            default -> new Unknown();
+        };
+    }
+
+    private static GameAction cellAction(String type, int row, int col) {
+        return switch (type) {
+            case "FLAG" -> new Flag(row, col);
+            case "CHORD" -> new Chord(row, col);
+            default -> new Open(row, col);
+        };
+    }
+}
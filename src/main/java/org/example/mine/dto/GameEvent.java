@@ -0,0 +1,32 @@
+package org.example.mine.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Set;
+
+// 서버 -> 클라이언트 게임 이벤트 (타입 있는 본문) : GameMessage.event 로 전송
+// 자주 나가는 메시지(칸 델타, 힌트)만 record로 만들고, 전체 상태(SYNC)와 그 밖의 메시지는 data 맵 그대로
+// JSON 필드 이름은 예전 data 맵과 같음 (클라이언트는 event를 data처럼 읽음)
+public sealed interface GameEvent {
+
+    // UPDATE / GAME_OVER : 이번 액션에서 열린 칸 [row, col, value] + 바뀐 깃발 [row, col, 1/0] + 턴/생존 상태 (게임 종료 시 승패 정보)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Update(long version,
+                  List<int[]> cells,
+                  List<int[]> flags,
+                  boolean playing,
+                  String currentTurnId,
+                  Set<String> eliminatedUsers,
+                  int remainingCells,
+                  @JsonProperty("isWin") Boolean isWin,
+                  List<String> winnerIds,
+                  String winnerName) implements GameEvent {
+    }
+
+    // HINT : 경계 칸 [row, col, 천분율] (요청한 사람에게만, 횟수를 다 쓰면 hintsLeft만)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Hint(List<int[]> cells, Integer interiorPermille, int hintsLeft, Long version) implements GameEvent {
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.mine.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import java.util.Map;
 
@@ -13,7 +14,20 @@ public class GameMessage {
     private String sender;
     private String senderId;
     private String content;   // 채팅 메시지
+    private Long seq;         // 방 브로드캐스트 순번 (재접속 시 이어받기용)
 
     // 게임마다 달라지는 데이터는 여기에 다 넣음 (좌표, 돌 색깔 등)
     private Map<String, Object> data;
-}
\ No newline at end of file
+
+    // 타입 있는 게임 행동 (ACTION, 새 클라이언트) / 타입 있는 게임 이벤트 (서버 -> 클라이언트)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GameAction action;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GameEvent event;
+
+    // 게임 행동 : action이 없으면 예전 클라이언트의 data 맵을 한 번만 변환해 둠
+    public GameAction resolveAction() {
+        if (action == null) action = GameAction.fromData(data);
+        return action;
+    }
+}
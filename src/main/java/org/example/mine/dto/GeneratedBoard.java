@@ -0,0 +1,12 @@
+package org.example.mine.dto;
+
+// 미리 만들어 둔 보드 (MineBoardGenerator 결과)
+// cells : 행 우선(row-major) 칸 값 (-1:지뢰, 0~8:숫자) / start : 게임 시작 시 서버가 열어 주는 안전한 칸
+// 같은 (rows, cols, mines, seed, noGuess)로 다시 만들면 같은 보드 -> 이벤트 로그에는 시드만 남김
+public record GeneratedBoard(int rows, int cols, int mines, long seed, boolean noGuess,
+                             int startRow, int startCol, byte[] cells) {
+
+    public boolean matches(int rows, int cols, int mines) {
+        return this.rows == rows && this.cols == cols && this.mines == mines;
+    }
+}
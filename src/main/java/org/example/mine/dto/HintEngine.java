@@ -0,0 +1,363 @@
+package org.example.mine.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 지뢰 확률 힌트 계산기 (증분)
+// - 경계(frontier) : 열린 숫자 칸에 붙은 닫힌 칸 / 제약 : 닫힌 이웃이 있는 열린 숫자 칸
+// - 제약과 경계 칸을 공유 관계로 묶은 연결 요소(component)별로 가능한 배치를 모두 세어 둠 (지뢰 수별 개수)
+// - 칸이 열리면 그 주변 제약만 dirty로 표시 -> 다음 계산 때 dirty 제약이 속한 요소만 다시 풂
+// - 요소 사이의 지뢰 수 상관관계는 무시하고, 나머지 닫힌 칸(내부)에 남는 지뢰 수로만 가중 (근사)
+// 보드 값은 열린 칸만 읽음 (닫힌 칸의 정답을 보지 않음)
+public class HintEngine {
+    // 요소가 이보다 크거나 탐색이 너무 길어지면 전수 조사 대신 단순 근사 (숫자 / 닫힌 이웃 수)
+    static final int MAX_COMPONENT_CELLS = 48;
+    static final int MAX_SEARCH_NODES = 200_000;
+
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    private final int rows;
+    private final int cols;
+    private final int mines;
+    private final byte[] cells; // MineRoom과 같은 배열 (BoardCodec 형식)
+
+    private final Set<Integer> dirty = new LinkedHashSet<>(); // 닫힌 이웃이 바뀐 제약 칸
+    private final int[] componentOf;   // 경계 칸 -> 요소 id (-1 : 없음)
+    private final Map<Integer, Component> components = new HashMap<>();
+    private int nextComponentId = 0;
+
+    private int closedCells;
+    private int revealedMines;
+
+    public HintEngine(int rows, int cols, int mines, byte[] cells) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.cells = cells;
+        this.componentOf = new int[rows * cols];
+        Arrays.fill(componentOf, -1);
+
+        // 현재 보드 상태에서 시작 (처음 힌트를 요청한 시점) : 모든 제약을 dirty로
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (!isOpen(r, c)) {
+                    closedCells++;
+                } else {
+                    if (value(r, c) == -1) revealedMines++;
+                    markDirty(r * cols + c);
+                }
+            }
+        }
+    }
+
+    // 칸이 열릴 때마다 MineRoom이 호출
+    public void onReveal(int r, int c) {
+        int idx = r * cols + c;
+        closedCells--;
+        if (value(r, c) == -1) revealedMines++;
+
+        // 이 칸이 속했던 요소는 모양이 바뀌므로 버리고, 그 요소의 제약들은 다시 풂
+        int componentId = componentOf[idx];
+        if (componentId >= 0) dropComponent(componentId);
+
+        markDirty(idx);
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && isOpen(nr, nc)) markDirty(nr * cols + nc);
+        }
+    }
+
+    // 경계 칸별 지뢰 확률 [row, col, 천분율] + 내부 칸 확률 (천분율)
+    public Result probabilities() {
+        solveDirty();
+
+        int frontierCells = 0;
+        for (Component component : components.values()) frontierCells += component.cells.length;
+        int interior = closedCells - frontierCells;
+        int remaining = mines - revealedMines;
+
+        // 1차 : 각 요소의 기대 지뢰 수 (내부 칸 수로 가중)
+        List<int[]> cells = new ArrayList<>();
+        double expectedFrontierMines = 0;
+        for (Component component : components.values()) {
+            double[] probability = component.probabilities(interior, remaining);
+            for (int i = 0; i < component.cells.length; i++) {
+                int idx = component.cells[i];
+                expectedFrontierMines += probability[i];
+                cells.add(new int[]{idx / cols, idx % cols, (int) Math.round(probability[i] * 1000)});
+            }
+        }
+
+        double interiorProbability = interior > 0
+                ? Math.max(0, Math.min(1, (remaining - expectedFrontierMines) / interior))
+                : 0;
+        return new Result(cells, (int) Math.round(interiorProbability * 1000));
+    }
+
+    public record Result(List<int[]> cells, int interiorPermille) {
+    }
+
+    int componentCount() {
+        return components.size();
+    }
+
+    private void markDirty(int idx) {
+        int r = idx / cols;
+        int c = idx % cols;
+        if (value(r, c) <= 0) return; // 빈칸/지뢰는 제약이 아님
+        dirty.add(idx);
+    }
+
+    private void dropComponent(int componentId) {
+        Component component = components.remove(componentId);
+        if (component == null) return;
+        for (int idx : component.cells) {
+            if (componentOf[idx] == componentId) componentOf[idx] = -1;
+        }
+        for (int idx : component.constraints) markDirty(idx);
+    }
+
+    // dirty 제약에서 출발해 연결 요소를 다시 모으고 풂
+    private void solveDirty() {
+        while (!dirty.isEmpty()) {
+            Iterator<Integer> it = dirty.iterator();
+            int start = it.next();
+            it.remove();
+            if (unknownNeighbors(start).isEmpty()) continue; // 닫힌 이웃이 다 열린 제약은 끝
+
+            // 제약 <-> 경계 칸 BFS
+            Set<Integer> seen = new HashSet<>();
+            List<Integer> constraintList = new ArrayList<>();
+            List<Integer> cellList = new ArrayList<>();
+            constraintList.add(start);
+            seen.add(start);
+            for (int head = 0; head < constraintList.size(); head++) {
+                for (int cell : unknownNeighbors(constraintList.get(head))) {
+                    if (!seen.add(cell)) continue;
+                    cellList.add(cell);
+                    // 새 요소에 흡수되는 옛 요소는 버림
+                    if (componentOf[cell] >= 0) dropComponent(componentOf[cell]);
+
+                    int cr = cell / cols;
+                    int cc = cell % cols;
+                    for (int i = 0; i < 8; i++) {
+                        int nr = cr + DR[i];
+                        int nc = cc + DC[i];
+                        if (!isValid(nr, nc) || !isOpen(nr, nc) || value(nr, nc) <= 0) continue;
+                        if (seen.add(nr * cols + nc)) constraintList.add(nr * cols + nc);
+                    }
+                }
+            }
+            dirty.removeAll(constraintList); // 이번에 함께 풀린 제약
+
+            int id = nextComponentId++;
+            Component component = solve(cellList, constraintList);
+            components.put(id, component);
+            for (int cell : component.cells) componentOf[cell] = id;
+        }
+    }
+
+    // 요소 하나의 가능한 배치를 지뢰 수별로 셈 (백트래킹 + 제약별 가지치기)
+    private Component solve(List<Integer> cellList, List<Integer> constraintList) {
+        int n = cellList.size();
+        int[] cells = cellList.stream().mapToInt(Integer::intValue).toArray();
+        int[] constraints = constraintList.stream().mapToInt(Integer::intValue).toArray();
+
+        Map<Integer, Integer> local = new HashMap<>();
+        for (int i = 0; i < n; i++) local.put(cells[i], i);
+
+        int m = constraints.length;
+        int[] need = new int[m];
+        int[] unassigned = new int[m];
+        int[][] constraintsOfCell = new int[n][];
+        List<List<Integer>> byCell = new ArrayList<>();
+        for (int i = 0; i < n; i++) byCell.add(new ArrayList<>());
+        for (int j = 0; j < m; j++) {
+            int idx = constraints[j];
+            int r = idx / cols;
+            int c = idx % cols;
+            need[j] = value(r, c);
+            for (int k = 0; k < 8; k++) {
+                int nr = r + DR[k];
+                int nc = c + DC[k];
+                if (!isValid(nr, nc)) continue;
+                if (isOpen(nr, nc)) {
+                    if (value(nr, nc) == -1) need[j]--; // 이미 드러난 지뢰
+                } else {
+                    byCell.get(local.get(nr * cols + nc)).add(j);
+                    unassigned[j]++;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) constraintsOfCell[i] = byCell.get(i).stream().mapToInt(Integer::intValue).toArray();
+
+        Component component = new Component(cells, constraints);
+        if (n <= MAX_COMPONENT_CELLS) {
+            Search search = new Search(n, need, unassigned, constraintsOfCell);
+            if (search.run()) {
+                component.counts = search.counts;
+                component.cellCounts = search.cellCounts;
+                return component;
+            }
+        }
+
+        // 근사 : 칸마다 붙은 제약 중 가장 높은 (남은 지뢰 / 닫힌 칸) 비율
+        component.approximate = new double[n];
+        for (int i = 0; i < n; i++) {
+            double p = 0;
+            for (int j : constraintsOfCell[i]) p = Math.max(p, Math.max(0, need[j]) / (double) unassigned[j]);
+            component.approximate[i] = Math.min(1, p);
+        }
+        return component;
+    }
+
+    private List<Integer> unknownNeighbors(int idx) {
+        List<Integer> result = new ArrayList<>(8);
+        int r = idx / cols;
+        int c = idx % cols;
+        if (!isOpen(r, c) || value(r, c) <= 0) return result;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && !isOpen(nr, nc)) result.add(nr * cols + nc);
+        }
+        return result;
+    }
+
+    // 깃발은 플레이어 표시일 뿐이므로 닫힌 칸으로 취급
+    private boolean isOpen(int r, int c) {
+        return BoardCodec.view(cells[r * cols + c]) == BoardCodec.OPEN;
+    }
+
+    private int value(int r, int c) {
+        return BoardCodec.value(cells[r * cols + c]);
+    }
+
+    private boolean isValid(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+
+    private static final class Component {
+        final int[] cells;
+        final int[] constraints;
+        long[] counts;        // 지뢰 k개인 배치 수
+        long[][] cellCounts;  // 칸 i가 지뢰이면서 지뢰 k개인 배치 수
+        double[] approximate; // 전수 조사 못 한 경우
+
+        Component(int[] cells, int[] constraints) {
+            this.cells = cells;
+            this.constraints = constraints;
+        }
+
+        // 지뢰 k개 배치의 가중치 = C(내부 칸 수, 남은 지뢰 - k) (로그로 계산 후 최대값으로 정규화)
+        double[] probabilities(int interior, int remaining) {
+            if (approximate != null) return approximate;
+
+            double[] logWeight = new double[counts.length];
+            double max = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < counts.length; k++) {
+                logWeight[k] = counts[k] == 0 || remaining - k < 0 || remaining - k > interior
+                        ? Double.NEGATIVE_INFINITY
+                        : logChoose(interior, remaining - k) + Math.log(counts[k]);
+                max = Math.max(max, logWeight[k]);
+            }
+
+            double[] probability = new double[cells.length];
+            if (max == Double.NEGATIVE_INFINITY) return probability;
+            double total = 0;
+            double[] weight = new double[counts.length];
+            for (int k = 0; k < counts.length; k++) {
+                weight[k] = counts[k] == 0 ? 0 : Math.exp(logWeight[k] - max) / counts[k];
+                total += weight[k] * counts[k];
+            }
+            for (int i = 0; i < cells.length; i++) {
+                double sum = 0;
+                for (int k = 0; k < counts.length; k++) sum += weight[k] * cellCounts[i][k];
+                probability[i] = sum / total;
+            }
+            return probability;
+        }
+
+        private static double logChoose(int n, int k) {
+            k = Math.min(k, n - k);
+            double result = 0;
+            for (int i = 1; i <= k; i++) result += Math.log((double) (n - k + i) / i);
+            return result;
+        }
+    }
+
+    // 백트래킹 전수 조사 (노드 수 상한을 넘으면 실패 -> 근사로)
+    private static final class Search {
+        final int n;
+        final int[] need;
+        final int[] unassigned;
+        final int[][] constraintsOfCell;
+        final long[] counts;
+        final long[][] cellCounts;
+        final boolean[] mine;
+        int nodes;
+
+        Search(int n, int[] need, int[] unassigned, int[][] constraintsOfCell) {
+            this.n = n;
+            this.need = need.clone();
+            this.unassigned = unassigned.clone();
+            this.constraintsOfCell = constraintsOfCell;
+            this.counts = new long[n + 1];
+            this.cellCounts = new long[n][n + 1];
+            this.mine = new boolean[n];
+        }
+
+        boolean run() {
+            return visit(0, 0);
+        }
+
+        private boolean visit(int i, int placed) {
+            if (++nodes > MAX_SEARCH_NODES) return false;
+            if (i == n) {
+                counts[placed]++;
+                for (int c = 0; c < n; c++) if (mine[c]) cellCounts[c][placed]++;
+                return true;
+            }
+            // 안전 / 지뢰 두 경우를 차례로 시도
+            for (int value = 0; value <= 1; value++) {
+                if (!assign(i, value)) {
+                    unassign(i, value);
+                    continue;
+                }
+                mine[i] = value == 1;
+                boolean ok = visit(i + 1, placed + value);
+                mine[i] = false;
+                unassign(i, value);
+                if (!ok) return false;
+            }
+            return true;
+        }
+
+        // 배치 후 각 제약이 아직 만족 가능한지 (남은 지뢰 0 이상, 남은 칸으로 채울 수 있음)
+        private boolean assign(int i, int value) {
+            boolean feasible = true;
+            for (int j : constraintsOfCell[i]) {
+                unassigned[j]--;
+                need[j] -= value;
+                if (need[j] < 0 || need[j] > unassigned[j]) feasible = false;
+            }
+            return feasible;
+        }
+
+        private void unassign(int i, int value) {
+            for (int j : constraintsOfCell[i]) {
+                unassigned[j]++;
+                need[j] += value;
+            }
+        }
+    }
+}
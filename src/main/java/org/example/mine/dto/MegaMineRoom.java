@@ -0,0 +1,333 @@
+package org.example.mine.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 초대형 공유 보드 (수천 명 동시 참가용)
+// - 보드를 CHUNK_SIZE x CHUNK_SIZE 청크로 나누고, 청크는 처음 건드릴 때만 만들어짐 (안 건드린 청크는 메모리 0)
+// - 지뢰 여부는 방 시드 + 좌표 해시로 결정 -> 이웃 청크를 만들지 않고도 숫자 계산 가능
+// - 턴 없음: 살아있는 누구나 아무 때나 열 수 있고, 지뢰를 밟은 사람만 탈락
+// - 열린 칸은 /topic/{roomId}/chunk/{cr}/{cc} 로 전송 -> 클라이언트는 보고 있는 청크만 구독
+// - 빈칸 연쇄는 한 액션에 누른 칸의 청크와 이웃 청크까지만, 나머지는 그 청크를 조회할 때 FLOOD 액션으로 이어서 (메일박스에서)
+@Getter @Setter
+public class MegaMineRoom extends BaseGameRoom {
+    public static final int CHUNK_SIZE = 32;
+
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    // 셀 1바이트 인코딩 (BoardCodec과 동일) : 하위 4비트 = 값 + 1 (0:지뢰), 상위 4비트 = 보기 상태
+    private static final int VALUE_MASK = 0x0F;
+    private static final int OPEN = 1 << 4;
+
+    // 한 액션의 연쇄 범위 (누른 칸 청크에서 이 거리 안의 청크) -> 액션당 최대 (2 * 1 + 1)^2 청크 = 9216칸
+    private static final int FLOOD_CHUNK_RADIUS = 1;
+
+    private int ROWS;
+    private int COLS;
+    private double mineDensity;
+
+    // 시드가 알려지면 지뢰 위치를 계산할 수 있으므로 외부에 노출하지 않음
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final long seed;
+
+    // (cr << 32 | cc) -> 청크 셀 배열
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Map<Long, byte[]> chunks = new ConcurrentHashMap<>();
+
+    private Set<String> eliminatedUsers = ConcurrentHashMap.newKeySet();
+    private long openedCells = 0;
+
+    // 빈칸 연쇄 열기용 재사용 큐 (row * COLS + col, 필요할 때만 늘림 / 연쇄 범위가 정해져 있어 범위 칸 수를 넘지 않음)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private long[] floodQueue = new long[256];
+
+    // 연쇄가 범위에 막혀 멈춘 청크 (그 청크를 조회할 때 이어서 열림)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Set<Long> pendingFlood = new HashSet<>();
+
+    // 이번 액션에서 열린 칸 (청크별) -> routeMessage에서 청크 토픽으로 나눠 보냄
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private Map<Long, List<int[]>> pendingByChunk = new HashMap<>();
+
+    public MegaMineRoom(String name, int rows, int cols, double mineDensity, long seed) {
+        super(name);
+        this.ROWS = rows;
+        this.COLS = cols;
+        this.mineDensity = mineDensity;
+        this.seed = seed;
+        this.maxPlayers = 5000;
+    }
+
+    // 게임 중에도 언제든 입장 가능
+    @Override
+    public boolean isJoinable() {
+        return true;
+    }
+
+    @Override
+    public RoomSummary toSummary() {
+        return new RoomSummary(roomId, roomName, "MEGA", users.size(), maxPlayers, ROWS, COLS, playing, isJoinable());
+    }
+
+    @Override
+    public Map<String, Object> getGameSnapshot() {
+        // 참가자가 수천 명일 수 있으므로 이름 목록 대신 인원수만 전송
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("mode", "MEGA");
+        snapshot.put("rows", ROWS);
+        snapshot.put("cols", COLS);
+        snapshot.put("chunkSize", CHUNK_SIZE);
+        snapshot.put("playing", playing);
+        snapshot.put("playerCount", users.size());
+        snapshot.put("eliminatedUsers", Set.copyOf(eliminatedUsers)); // 이후 탈락이 전송 전 사본에 섞이지 않도록
+        snapshot.put("openedCells", openedCells);
+        return snapshot;
+    }
+
+    @Override
+    public synchronized GameMessage handleAction(GameMessage message) {
+        GameAction action = message.resolveAction();
+        String senderId = message.getSenderId();
+
+        if (action instanceof GameAction.Start) {
+            if (playing) return null;
+            this.playing = true;
+            return makeMessage("GAME_START", "초대형 보드가 열렸습니다! 아무 칸이나 눌러보세요.");
+        }
+
+        if (!playing) return null;
+
+        // 멈춘 연쇄 이어서 열기 (보낸 사람 없음, 서버가 넣는 액션)
+        if (action instanceof GameAction.Flood flood) return continueFlood(flood.cr(), flood.cc());
+
+        if (senderId == null || eliminatedUsers.contains(senderId)) return null;
+
+        if (action instanceof GameAction.Open open) {
+            int r = open.row();
+            int c = open.col();
+            if (!isValid(r, c) || (cell(r, c) & OPEN) != 0) return null;
+
+            // 지뢰를 밟으면 본인만 탈락 (보드는 계속)
+            if (isMine(r, c)) {
+                reveal(r, c);
+                eliminatedUsers.add(senderId);
+                return makeMessage("UPDATE", message.getSender() + "님 탈락! 💥");
+            }
+
+            openCell(r, c);
+            return makeMessage("UPDATE", null);
+        }
+        return null;
+    }
+
+    // 청크 토픽별로 열린 칸을 나눠 보내고, 방 전체 토픽에는 알림이 있을 때만 보냄
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, GameMessage> routeMessage(GameMessage message) {
+        Object byChunk = message.getData() != null ? message.getData().remove("chunkCells") : null;
+        if (!(byChunk instanceof Map)) return super.routeMessage(message);
+
+        Map<String, GameMessage> routed = new LinkedHashMap<>();
+        ((Map<Long, List<int[]>>) byChunk).forEach((key, cells) -> {
+            int cr = (int) (key >> 32);
+            int cc = (int) (long) key;
+
+            GameMessage chunkMsg = new GameMessage();
+            chunkMsg.setType("CHUNK_UPDATE");
+            chunkMsg.setRoomId(roomId);
+            chunkMsg.setData(Map.of("cr", cr, "cc", cc, "cells", cells));
+            routed.put("/chunk/" + cr + "/" + cc, chunkMsg);
+        });
+
+        if (message.getContent() != null || !"UPDATE".equals(message.getType())) {
+            routed.put("", message);
+        }
+        return routed;
+    }
+
+    // 청크 보기 (REST 조회용) : 열린 칸만 값 공개, 닫힌 칸은 0 / 안 건드린 청크는 만들지 않음
+    public synchronized byte[] getChunkView(int cr, int cc) {
+        byte[] view = new byte[CHUNK_SIZE * CHUNK_SIZE];
+        byte[] chunk = chunks.get(chunkKey(cr, cc));
+        if (chunk == null) return view;
+
+        for (int i = 0; i < chunk.length; i++) {
+            if ((chunk[i] & OPEN) != 0) view[i] = chunk[i];
+        }
+        return view;
+    }
+
+    // 이 청크에서 멈춘 연쇄가 있는지 (조회만, 상태를 바꾸지 않음)
+    public synchronized boolean hasPendingFlood(int cr, int cc) {
+        return pendingFlood.contains(chunkKey(cr, cc));
+    }
+
+    // 이 청크에서 멈춘 연쇄를 마저 열기 (FLOOD 액션) : 청크 바깥 테두리의 열린 빈칸에서 이 청크 안으로만
+    // 열린 칸이 있으면 청크 토픽으로 보낼 UPDATE, 없으면 null
+    private GameMessage continueFlood(int cr, int cc) {
+        if (!pendingFlood.remove(chunkKey(cr, cc))) return null;
+
+        long[] queue = floodQueue;
+        int tail = 0;
+        int top = cr * CHUNK_SIZE - 1;
+        int left = cc * CHUNK_SIZE - 1;
+        for (int r = top; r <= top + CHUNK_SIZE + 1; r++) {
+            for (int c = left; c <= left + CHUNK_SIZE + 1; c++) {
+                boolean border = r == top || r == top + CHUNK_SIZE + 1 || c == left || c == left + CHUNK_SIZE + 1;
+                if (!border || !isValid(r, c) || !isOpenEmpty(r, c)) continue;
+                if (tail == queue.length) {
+                    queue = Arrays.copyOf(queue, queue.length * 2);
+                    floodQueue = queue;
+                }
+                queue[tail++] = (long) r * COLS + c;
+            }
+        }
+        flood(tail, cr, cr, cc, cc);
+        return pendingByChunk.isEmpty() ? null : makeMessage("UPDATE", null);
+    }
+
+    public int getLoadedChunkCount() {
+        return chunks.size();
+    }
+
+    // 빈칸 연쇄 열기 (BFS, 누른 칸 청크 주변까지만)
+    private void openCell(int r, int c) {
+        reveal(r, c);
+        if (cellValue(r, c) != 0) return;
+
+        floodQueue[0] = (long) r * COLS + c;
+        int cr = r / CHUNK_SIZE;
+        int cc = c / CHUNK_SIZE;
+        flood(1, cr - FLOOD_CHUNK_RADIUS, cr + FLOOD_CHUNK_RADIUS, cc - FLOOD_CHUNK_RADIUS, cc + FLOOD_CHUNK_RADIUS);
+    }
+
+    // 큐에 든 빈칸(이미 열림)에서 청크 범위 안으로만 연쇄 / 범위 밖 이웃이 있으면 그 청크를 pendingFlood에
+    private void flood(int tail, int minCr, int maxCr, int minCc, int maxCc) {
+        long[] queue = floodQueue;
+        int head = 0;
+        while (head < tail) {
+            long idx = queue[head++];
+            int r = (int) (idx / COLS);
+            int c = (int) (idx % COLS);
+            for (int i = 0; i < 8; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (!isValid(nr, nc)) continue;
+                int ncr = nr / CHUNK_SIZE;
+                int ncc = nc / CHUNK_SIZE;
+                if (ncr < minCr || ncr > maxCr || ncc < minCc || ncc > maxCc) {
+                    if (!isOpen(nr, nc)) pendingFlood.add(chunkKey(ncr, ncc));
+                    continue;
+                }
+                if ((cell(nr, nc) & OPEN) != 0) continue;
+                reveal(nr, nc);
+                if (cellValue(nr, nc) == 0) {
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                        floodQueue = queue;
+                    }
+                    queue[tail++] = (long) nr * COLS + nc;
+                }
+            }
+        }
+    }
+
+    private void reveal(int r, int c) {
+        byte[] chunk = loadChunk(r / CHUNK_SIZE, c / CHUNK_SIZE);
+        int i = (r % CHUNK_SIZE) * CHUNK_SIZE + (c % CHUNK_SIZE);
+        chunk[i] = (byte) (chunk[i] | OPEN);
+        openedCells++;
+
+        pendingByChunk.computeIfAbsent(chunkKey(r / CHUNK_SIZE, c / CHUNK_SIZE), k -> new ArrayList<>())
+                .add(new int[]{r, c, (chunk[i] & VALUE_MASK) - 1});
+    }
+
+    private int cell(int r, int c) {
+        byte[] chunk = loadChunk(r / CHUNK_SIZE, c / CHUNK_SIZE);
+        return chunk[(r % CHUNK_SIZE) * CHUNK_SIZE + (c % CHUNK_SIZE)];
+    }
+
+    private int cellValue(int r, int c) {
+        return (cell(r, c) & VALUE_MASK) - 1;
+    }
+
+    // 열린 칸 / 열린 빈칸인지 (청크를 새로 만들지 않음, 안 만든 청크는 모두 닫힘)
+    private boolean isOpen(int r, int c) {
+        byte[] chunk = chunks.get(chunkKey(r / CHUNK_SIZE, c / CHUNK_SIZE));
+        return chunk != null && (chunk[(r % CHUNK_SIZE) * CHUNK_SIZE + (c % CHUNK_SIZE)] & OPEN) != 0;
+    }
+
+    private boolean isOpenEmpty(int r, int c) {
+        return isOpen(r, c) && (cell(r, c) & VALUE_MASK) == 1;
+    }
+
+    // 청크를 처음 건드릴 때 지뢰/숫자를 시드로부터 생성
+    private byte[] loadChunk(int cr, int cc) {
+        return chunks.computeIfAbsent(chunkKey(cr, cc), k -> generateChunk(cr, cc));
+    }
+
+    private byte[] generateChunk(int cr, int cc) {
+        byte[] chunk = new byte[CHUNK_SIZE * CHUNK_SIZE];
+        int baseR = cr * CHUNK_SIZE;
+        int baseC = cc * CHUNK_SIZE;
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            for (int j = 0; j < CHUNK_SIZE; j++) {
+                int r = baseR + i;
+                int c = baseC + j;
+                if (!isValid(r, c)) continue;
+
+                int value;
+                if (isMine(r, c)) {
+                    value = -1;
+                } else {
+                    value = 0;
+                    for (int k = 0; k < 8; k++) {
+                        if (isValid(r + DR[k], c + DC[k]) && isMine(r + DR[k], c + DC[k])) value++;
+                    }
+                }
+                chunk[i * CHUNK_SIZE + j] = (byte) (value + 1);
+            }
+        }
+        return chunk;
+    }
+
+    // 좌표 + 시드 해시 (SplitMix64 finalizer) -> [0, 1) 값이 밀도보다 작으면 지뢰
+    private boolean isMine(int r, int c) {
+        long z = seed + ((long) r << 32 | (c & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53 < mineDensity;
+    }
+
+    private boolean isValid(int r, int c) {
+        return r >= 0 && r < ROWS && c >= 0 && c < COLS;
+    }
+
+    private static long chunkKey(int cr, int cc) {
+        return ((long) cr << 32) | (cc & 0xFFFFFFFFL);
+    }
+
+    private GameMessage makeMessage(String type, String content) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("playing", playing);
+        data.put("eliminatedUsers", Set.copyOf(eliminatedUsers));
+        data.put("openedCells", openedCells);
+        if (!pendingByChunk.isEmpty()) {
+            data.put("chunkCells", pendingByChunk);
+            pendingByChunk = new HashMap<>();
+        }
+
+        GameMessage msg = new GameMessage();
+        msg.setType(type);
+        msg.setRoomId(this.roomId);
+        msg.setContent(content);
+        msg.setData(data);
+        return msg;
+    }
+}
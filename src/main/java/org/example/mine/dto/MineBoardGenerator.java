@@ -0,0 +1,79 @@
+package org.example.mine.dto;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// 보드 생성기 (시드가 같으면 항상 같은 보드)
+// - 시작 칸과 그 주변 3x3에는 지뢰를 두지 않음 -> 첫 클릭은 항상 안전하고 빈칸부터 열림
+// - noGuess면 MineSolver로 끝까지 풀리는 배치가 나올 때까지 다시 섞음 (MAX_ATTEMPTS번 안에 못 찾으면 마지막 배치 사용)
+public final class MineBoardGenerator {
+    static final int MAX_ATTEMPTS = 1000;
+
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    private MineBoardGenerator() {
+    }
+
+    public static GeneratedBoard generate(int rows, int cols, int mines, long seed, boolean noGuess) {
+        Random rand = new Random(seed);
+        int n = rows * cols;
+        int startRow = rand.nextInt(rows);
+        int startCol = rand.nextInt(cols);
+
+        // 지뢰 후보 칸 (시작 주변 3x3 제외, 지뢰가 너무 많으면 시작 칸만 제외)
+        int[] candidates = collectCandidates(rows, cols, startRow, startCol, 1);
+        if (candidates.length < mines) candidates = collectCandidates(rows, cols, startRow, startCol, 0);
+        int placeable = Math.min(mines, candidates.length);
+
+        byte[] cells = new byte[n];
+        int attempts = noGuess ? MAX_ATTEMPTS : 1;
+        boolean solvable = false;
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            // 부분 피셔-예이츠 셔플로 앞의 mines개를 지뢰로
+            Arrays.fill(cells, (byte) 0);
+            for (int i = 0; i < placeable; i++) {
+                int j = i + rand.nextInt(candidates.length - i);
+                int tmp = candidates[i];
+                candidates[i] = candidates[j];
+                candidates[j] = tmp;
+                cells[candidates[i]] = -1;
+            }
+            calculateNumbers(cells, rows, cols);
+
+            if (noGuess && MineSolver.isSolvable(cells, rows, cols, placeable, startRow, startCol)) {
+                solvable = true;
+                break;
+            }
+        }
+        return new GeneratedBoard(rows, cols, mines, seed, solvable, startRow, startCol, cells);
+    }
+
+    private static int[] collectCandidates(int rows, int cols, int startRow, int startCol, int margin) {
+        int[] candidates = new int[rows * cols];
+        int count = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (Math.abs(r - startRow) <= margin && Math.abs(c - startCol) <= margin) continue;
+                candidates[count++] = r * cols + c;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private static void calculateNumbers(byte[] cells, int rows, int cols) {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int idx = r * cols + c;
+                if (cells[idx] == -1) continue;
+                int cnt = 0;
+                for (int i = 0; i < 8; i++) {
+                    int nr = r + DR[i];
+                    int nc = c + DC[i];
+                    if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && cells[nr * cols + nc] == -1) cnt++;
+                }
+                cells[idx] = (byte) cnt;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.mine.dto;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import java.util.*;
@@ -7,12 +8,18 @@ import java.util.stream.Collectors;
 
 @Getter @Setter
 public class MineRoom extends BaseGameRoom {
+    // 8방향 이웃 오프셋
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
     private int ROWS = 10;
     private int COLS = 10;
     private int MINES = 15;
 
-    private int[][] board; // -1:지뢰, 0~8:숫자
-    private int[][] viewState; // 0:닫힘, 1:열림, 2:깃발
+    // 칸 값과 보기 상태를 한 바이트에 (BoardCodec 형식, 행 우선 1차원 배열)
+    // int[][] 두 개 (칸당 8바이트 + 행마다 배열 헤더) 대신 칸당 1바이트
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final byte[] cells;
 
     // 게임 진행 상태 변수
     private int remainingNonMineCells; // 남은 안전 구역 수 (0이 되면 생존자 승리)
@@ -22,17 +29,84 @@ public class MineRoom extends BaseGameRoom {
     private int currentTurnIndex = 0;
     private Set<String> eliminatedUsers = new HashSet<>(); // 탈락자 목록
 
+    // 델타 전송용 상태 버전 (상태가 바뀔 때마다 1씩 증가, 클라이언트는 빈 번호가 보이면 RESYNC 요청)
+    private long stateVersion = 0;
+
+    // 이번 액션에서 새로 열린 칸 [row, col, value] (UPDATE 메시지에 실어 보낸 뒤 비움)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private List<int[]> pendingCells = new ArrayList<>();
+
+    // 이번 액션에서 바뀐 깃발 [row, col, 1:꽂음 / 0:뽑음]
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private List<int[]> pendingFlags = new ArrayList<>();
+
+    // BATCH 한 번에 적용하는 행동 수 상한 (넘는 것은 버림)
+    public static final int MAX_BATCH_ACTIONS = 64;
+
+    // 빈칸 연쇄 열기용 재사용 큐 (row * COLS + col, 처음 쓸 때 한 번만 할당)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private int[] floodQueue;
+
+    // 지뢰 확률 힌트 (처음 HINT 요청 때 만들고 이후 칸이 열릴 때마다 증분 갱신) / 플레이어별 사용 횟수
+    public static final int MAX_HINTS_PER_PLAYER = 3;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private HintEngine hintEngine;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private Map<String, Integer> hintsUsed = new HashMap<>();
+
+    // 다음 START에 쓸 미리 만든 보드 (BoardGenerator 풀에서 꺼낸 것, 시드가 맞을 때만 사용)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private GeneratedBoard preparedBoard;
+
     public MineRoom(String name, int r, int c, int m) {
+        this(name, r, c, m, new byte[r * c]);
+    }
+
+    // 셀 배열을 외부(BoardPool)에서 받아 쓰는 생성자 (길이 r * c, 내용은 여기서 닫힌 빈칸으로 초기화)
+    public MineRoom(String name, int r, int c, int m, byte[] cells) {
         super(name);
         this.ROWS = r;
         this.COLS = c;
         this.MINES = m;
-        this.board = new int[ROWS][COLS];
-        this.viewState = new int[ROWS][COLS];
+        this.cells = cells;
+        Arrays.fill(cells, BoardCodec.EMPTY);
+    }
+
+    // 기존 int[][] 형식 조회용 어댑터 (raw SYNC, REST 조회, 테스트) : 호출할 때마다 새로 만든 복사본
+    public int[][] getBoard() {
+        int[][] board = new int[ROWS][COLS];
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) board[r][c] = BoardCodec.value(cells[r * COLS + c]);
+        }
+        return board;
     }
 
+    public int[][] getViewState() {
+        int[][] viewState = new int[ROWS][COLS];
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) viewState[r][c] = BoardCodec.view(cells[r * COLS + c]);
+        }
+        return viewState;
+    }
+
+    // 방 삭제 시 BoardPool 반납용 (JSON으로 나가지 않도록 get 접두사 없이)
+    public byte[] cells() {
+        return cells;
+    }
+
+    // 방 전체용 : 모든 유저가 압축 형식을 지원할 때만 압축
     @Override
     public Map<String, Object> getGameSnapshot() {
+        return snapshot(allUsersAcceptPackedBoard());
+    }
+
+    // 요청한 세션용 : 그 유저가 지원하면 압축 (다른 유저의 형식과 무관)
+    @Override
+    public Map<String, Object> getGameSnapshot(String playerId) {
+        return snapshot(BoardCodec.accepts(users.get(playerId)));
+    }
+
+    private Map<String, Object> snapshot(boolean packed) {
         Map<String, String> playerNames = new HashMap<>();
         users.values().forEach(p -> playerNames.put(p.getId(), p.getNickname()));
 
@@ -41,33 +115,61 @@ public class MineRoom extends BaseGameRoom {
             currentTurnId = turnOrder.get(currentTurnIndex);
         }
 
-        return Map.of(
-                "board", board,
-                "viewState", viewState,
-                "playing", playing,
-                "playerNames", playerNames,
-                "currentTurnId", currentTurnId,
-                "eliminatedUsers", eliminatedUsers, // 탈락자 명단 전송
-                "remainingCells", remainingNonMineCells
-        );
+        Map<String, Object> snapshot = new HashMap<>();
+        if (packed) {
+            // 압축 인코딩: 보드 + 보기 상태를 base64 문자열 하나로
+            snapshot.put("packedBoard", BoardCodec.encode(cells));
+            snapshot.put("rows", ROWS);
+            snapshot.put("cols", COLS);
+        } else {
+            snapshot.put("board", getBoard());
+            snapshot.put("viewState", getViewState());
+        }
+        snapshot.put("playing", playing);
+        snapshot.put("playerNames", playerNames);
+        snapshot.put("currentTurnId", currentTurnId);
+        snapshot.put("eliminatedUsers", Set.copyOf(eliminatedUsers)); // 탈락자 명단 전송 (사본 -> 인코딩 전에 바뀌지 않음)
+        snapshot.put("remainingCells", remainingNonMineCells);
+        snapshot.put("version", stateVersion);
+        return snapshot;
     }
 
-    public void startGame() {
-        // 1. 보드 초기화
-        for(int i=0; i<ROWS; i++) {
-            Arrays.fill(board[i], 0);
-            Arrays.fill(viewState[i], 0);
+    // GAME_START는 방 전체에 브로드캐스트되므로 모든 유저가 압축 형식을 지원할 때만 사용
+    private boolean allUsersAcceptPackedBoard() {
+        if (users.isEmpty()) return false;
+        for (Player p : users.values()) {
+            if (!BoardCodec.accepts(p)) return false;
         }
+        return true;
+    }
+
+    @Override
+    public RoomSummary toSummary() {
+        return new RoomSummary(roomId, roomName, "CLASSIC", users.size(), maxPlayers, ROWS, COLS, playing, isJoinable());
+    }
+
+    public void prepareBoard(GeneratedBoard board) {
+        this.preparedBoard = board;
+    }
+
+    // generated 배치로 새 판 시작 (rand는 턴 순서 섞기용, 같은 시드면 같은 판 -> 테스트, 이벤트 로그 재생)
+    void startGame(Random rand, GeneratedBoard generated) {
+        // 1. 보드 초기화
+        Arrays.fill(cells, BoardCodec.EMPTY);
         eliminatedUsers.clear();
+        pendingFlags.clear();
+        hintEngine = null;
+        hintsUsed.clear();
 
         // 2. 턴 순서 섞기
         turnOrder = new ArrayList<>(users.keySet());
-        Collections.shuffle(turnOrder);
+        Collections.sort(turnOrder); // 같은 시드면 같은 순서가 나오도록 정렬 후 섞음
+        Collections.shuffle(turnOrder, rand);
         currentTurnIndex = 0;
 
-        // 3. 지뢰 배치 및 계산
-        placeMines();
-        calculateNumbers();
+        // 3. 지뢰 배치 및 숫자 (MineBoardGenerator가 계산해 둔 값)
+        byte[] values = generated.cells();
+        for (int i = 0; i < values.length; i++) cells[i] = BoardCodec.cell(values[i], 0);
 
         // 지뢰가 아닌 칸의 개수 계산
         this.remainingNonMineCells = (ROWS * COLS) - MINES;
@@ -76,14 +178,37 @@ public class MineRoom extends BaseGameRoom {
 
     @Override
     public synchronized GameMessage handleAction(GameMessage message) {
-        String type = (String) message.getData().get("actionType");
+        GameAction action = message.resolveAction();
         String senderId = message.getSenderId();
 
         // 시작 요청
-        if ("START".equals(type)) {
+        if (action instanceof GameAction.Start start) {
             if (playing) return null;
-            startGame();
-            return makeStateMessage("GAME_START", "게임을 시작합니다! 순서가 무작위로 결정되었습니다.");
+            // 서버가 넣어준 시드가 있으면 사용 (이벤트 로그 재생 시 같은 보드 복원)
+            long seed = start.seed() != null ? start.seed() : new Random().nextLong();
+            boolean noGuess = Boolean.TRUE.equals(start.noGuess());
+
+            // 풀에서 꺼낸 보드가 이 시드로 만든 것이면 그대로, 아니면 시드로 다시 생성 (재생 시 같은 보드)
+            GeneratedBoard generated = preparedBoard;
+            preparedBoard = null;
+            if (generated == null || generated.seed() != seed || !generated.matches(ROWS, COLS, MINES)) {
+                generated = MineBoardGenerator.generate(ROWS, COLS, MINES, seed, noGuess);
+            }
+            startGame(new Random(seed), generated);
+
+            // 첫 칸은 서버가 열어 줌 (항상 안전한 빈칸 -> 처음부터 운에 맡기지 않음)
+            openCell(generated.startRow(), generated.startCol());
+            pendingCells.clear(); // 전체 상태에 포함됨
+            stateVersion++;
+            if (remainingNonMineCells == 0) {
+                return finishGame("GAME_OVER", true, "지뢰를 모두 피했습니다! 생존자 전원 승리!", new ArrayList<>(turnOrder));
+            }
+            return makeStateMessage("GAME_START", "게임을 시작합니다! 순서가 무작위로 결정되었습니다.", getGameSnapshot());
+        }
+
+        // 버전이 어긋난 클라이언트의 전체 상태 재요청 (상태는 바뀌지 않으므로 버전 유지)
+        if (action instanceof GameAction.Resync) {
+            return makeStateMessage("SYNC", null, getGameSnapshot(senderId)); // 요청한 세션에게만 감
         }
 
         if (!playing) return null;
@@ -93,64 +218,142 @@ public class MineRoom extends BaseGameRoom {
             return null;
         }
 
-        // 턴 체크 (싱글일 땐 체크 불필요하지만, 로직 통일성을 위해 유지)
-        String currentUserId = turnOrder.get(currentTurnIndex);
-        if (!senderId.equals(currentUserId)) {
-            return null; // 내 턴 아님
+        // 힌트는 차례와 상관없이 요청 가능 (요청한 사람에게만 전송)
+        if (action instanceof GameAction.Hint) {
+            return makeHintMessage(senderId);
         }
 
-        if ("OPEN".equals(type)) {
-            int r = (int) message.getData().get("row");
-            int c = (int) message.getData().get("col");
+        // 칸 행동 (OPEN / FLAG / CHORD) : 하나든 BATCH든 같은 경로 -> 델타 메시지 한 번
+        List<GameAction> moves;
+        if (action instanceof GameAction.Batch batch) {
+            if (batch.actions() == null || batch.actions().isEmpty()) return null;
+            moves = batch.actions().size() > MAX_BATCH_ACTIONS
+                    ? batch.actions().subList(0, MAX_BATCH_ACTIONS)
+                    : batch.actions();
+        } else {
+            moves = List.of(action);
+        }
+        return applyMoves(moves, senderId, message.getSender());
+    }
 
-            if (!isValid(r, c) || viewState[r][c] != 0) return null;
+    // 행동들을 순서대로 적용 (BATCH 전체를 한 번의 차례로 취급)
+    // - 깃발은 차례와 상관없이 가능하고 차례를 넘기지 않음
+    // - OPEN / CHORD는 내 차례일 때만, 칸을 연 첫 행동에서 차례가 끝남 (뒤의 OPEN / CHORD는 버리고 깃발만 적용)
+    //   차례 넘기기는 마지막에 한 번만
+    // - 지뢰를 밟거나 안전 구역을 다 찾으면 남은 행동은 버림
+    private GameMessage applyMoves(List<GameAction> moves, String senderId, String senderName) {
+        // 턴 체크 (싱글일 땐 체크 불필요하지만, 로직 통일성을 위해 유지)
+        boolean myTurn = senderId.equals(turnOrder.get(currentTurnIndex));
+        boolean changed = false;
+        boolean opened = false;
+
+        for (GameAction move : moves) {
+            Move result = applyMove(move, myTurn);
+            if (result == Move.NONE) continue;
+            changed = true;
+            if (result == Move.FLAGGED) continue;
+            opened = true;
+            myTurn = false; // 한 번의 차례에 여는 행동은 하나만
 
             // 1. 지뢰를 밟음! (탈락 로직)
-            if (board[r][c] == -1) {
-                viewState[r][c] = 1; // 지뢰 공개
-                eliminatedUsers.add(senderId); // 탈락자 명단 추가
-
-                // 생존자 수 체크
-                long survivorCount = turnOrder.size() - eliminatedUsers.size();
-
-                // Case A: 모두 죽음 (패배) - 싱글 플레이 포함
-                if (survivorCount == 0) {
-                    return finishGame("GAME_OVER", false, "모두 전멸했습니다...", null);
-                }
-
-                // Case B: 최후의 1인 생존 (승리) - 멀티 플레이만 해당
-                if (users.size() > 1 && survivorCount == 1) {
-                    // 남은 1명 찾기
-                    String winnerId = turnOrder.stream()
-                            .filter(id -> !eliminatedUsers.contains(id))
-                            .findFirst().orElse("");
-                    return finishGame("GAME_OVER", true, "최후의 생존자 승리!", List.of(winnerId));
-                }
-
-                // Case C: 아직 여러 명 생존 (게임 계속)
-                passTurnToNextSurvivor();
-                return makeStateMessage("UPDATE", message.getSender() + "님 탈락! 💥");
-            }
-            // 2. 빈칸 (계속 진행)
-            else {
-                openCell(r, c);
-
-                // 모든 안전 구역을 다 찾음 (공동 승리)
-                if (remainingNonMineCells == 0) {
-                    // 살아있는 모든 사람 승리
-                    List<String> survivors = turnOrder.stream()
-                            .filter(id -> !eliminatedUsers.contains(id))
-                            .collect(Collectors.toList());
-                    return finishGame("GAME_OVER", true, "지뢰를 모두 피했습니다! 생존자 전원 승리!", survivors);
-                }
-
-                // 턴 넘기기
-                passTurnToNextSurvivor();
-                return makeStateMessage("UPDATE", null);
+            if (result == Move.MINE) return eliminate(senderId, senderName);
+
+            // 2. 모든 안전 구역을 다 찾음 (공동 승리)
+            if (remainingNonMineCells == 0) {
+                // 살아있는 모든 사람 승리
+                List<String> survivors = turnOrder.stream()
+                        .filter(id -> !eliminatedUsers.contains(id))
+                        .collect(Collectors.toList());
+                return finishGame("GAME_OVER", true, "지뢰를 모두 피했습니다! 생존자 전원 승리!", survivors);
             }
         }
 
-        return null; // FLAG 등은 생략 (필요 시 추가)
+        if (!changed) return null;
+        // 턴 넘기기
+        if (opened) passTurnToNextSurvivor();
+        return makeDeltaMessage("UPDATE", null);
+    }
+
+    private enum Move { NONE, FLAGGED, OPENED, MINE }
+
+    private Move applyMove(GameAction move, boolean myTurn) {
+        if (move instanceof GameAction.Flag flag) return toggleFlag(flag.row(), flag.col());
+        if (!myTurn) return Move.NONE; // 내 턴 아님
+        if (move instanceof GameAction.Open open) return open(open.row(), open.col());
+        if (move instanceof GameAction.Chord chord) return chord(chord.row(), chord.col());
+        return Move.NONE; // BATCH 안의 BATCH, 모르는 액션은 무시
+    }
+
+    private Move open(int r, int c) {
+        if (!isValid(r, c) || viewAt(r * COLS + c) != 0) return Move.NONE; // 열린 칸, 깃발 칸은 열지 않음
+
+        if (valueAt(r * COLS + c) == -1) {
+            revealCell(r, c); // 지뢰 공개
+            return Move.MINE;
+        }
+        openCell(r, c);
+        return Move.OPENED;
+    }
+
+    // 열린 숫자 칸 주변 깃발 수가 숫자와 같으면 깃발 없는 닫힌 이웃을 모두 열기 (깃발이 틀렸으면 지뢰를 밟음)
+    private Move chord(int r, int c) {
+        if (!isValid(r, c)) return Move.NONE;
+        int value = valueAt(r * COLS + c);
+        if (viewAt(r * COLS + c) != BoardCodec.OPEN || value <= 0) return Move.NONE;
+
+        int flags = 0;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && viewAt(nr * COLS + nc) == BoardCodec.FLAG) flags++;
+        }
+        if (flags != value) return Move.NONE;
+
+        Move result = Move.NONE;
+        for (int i = 0; i < 8; i++) {
+            Move opened = open(r + DR[i], c + DC[i]);
+            if (opened == Move.MINE) result = Move.MINE;
+            else if (opened == Move.OPENED && result == Move.NONE) result = Move.OPENED;
+        }
+        return result;
+    }
+
+    // 깃발은 모두에게 보이는 표시 (보기 상태 2), 같은 칸에 다시 보내면 뽑힘
+    private Move toggleFlag(int r, int c) {
+        if (!isValid(r, c)) return Move.NONE;
+        int idx = r * COLS + c;
+        int view = viewAt(idx);
+        if (view == BoardCodec.OPEN) return Move.NONE;
+
+        boolean flagged = view != BoardCodec.FLAG;
+        setView(idx, flagged ? BoardCodec.FLAG : 0);
+        pendingFlags.add(new int[]{r, c, flagged ? 1 : 0});
+        return Move.FLAGGED;
+    }
+
+    private GameMessage eliminate(String senderId, String senderName) {
+        eliminatedUsers.add(senderId); // 탈락자 명단 추가
+
+        // 생존자 수 체크
+        long survivorCount = turnOrder.size() - eliminatedUsers.size();
+
+        // Case A: 모두 죽음 (패배) - 싱글 플레이 포함
+        if (survivorCount == 0) {
+            return finishGame("GAME_OVER", false, "모두 전멸했습니다...", null);
+        }
+
+        // Case B: 최후의 1인 생존 (승리) - 멀티 플레이만 해당
+        if (users.size() > 1 && survivorCount == 1) {
+            // 남은 1명 찾기
+            String winnerId = turnOrder.stream()
+                    .filter(id -> !eliminatedUsers.contains(id))
+                    .findFirst().orElse("");
+            return finishGame("GAME_OVER", true, "최후의 생존자 승리!", List.of(winnerId));
+        }
+
+        // Case C: 아직 여러 명 생존 (게임 계속)
+        passTurnToNextSurvivor();
+        return makeDeltaMessage("UPDATE", senderName + "님 탈락! 💥");
     }
 
     private void passTurnToNextSurvivor() {
@@ -168,71 +371,94 @@ public class MineRoom extends BaseGameRoom {
         this.playing = false;
 
         // 종료 시 모든 지뢰 보여주기
-        for(int r=0; r<ROWS; r++) {
-            for(int c=0; c<COLS; c++) {
-                if(board[r][c] == -1) viewState[r][c] = 1;
+        for (int i = 0; i < cells.length; i++) {
+            if (valueAt(i) == -1 && viewAt(i) != BoardCodec.OPEN) {
+                setView(i, BoardCodec.OPEN);
+                pendingCells.add(new int[]{i / COLS, i % COLS, -1});
             }
         }
 
-        GameMessage msg = makeStateMessage(type, content);
-        msg.getData().put("isWin", isWin);
-
-        // 승자 명단이 있으면
+        // 승자 명단이 있으면 화면 표시용 이름도 함께
+        String winnerNames = null;
         if (winnerIds != null && !winnerIds.isEmpty()) {
-
-            msg.getData().put("winnerIds", winnerIds);
-
-            // (기존 코드: 화면 표시용 이름만 넣고 있음)
-            String winnerNames = winnerIds.stream()
+            winnerNames = winnerIds.stream()
                     .map(id -> users.get(id).getNickname())
                     .collect(Collectors.joining(", "));
-            msg.getData().put("winnerName", winnerNames);
+        } else {
+            winnerIds = null;
         }
-        return msg;
+        return makeDeltaMessage(type, content, isWin, winnerIds, winnerNames);
     }
 
-    // openCell에서 remainingNonMineCells 감소 로직 추가 필요
+    // 빈칸 연쇄 열기 (BFS) : 재귀 대신 재사용 큐를 써서 큰 보드에서도 스택 오버플로우가 나지 않음
     private void openCell(int r, int c) {
-        if (!isValid(r, c) || viewState[r][c] != 0) return;
+        if (!isValid(r, c) || viewAt(r * COLS + c) != 0) return;
+
+        if (floodQueue == null) floodQueue = new int[ROWS * COLS];
+        int[] queue = floodQueue;
+        int head = 0;
+        int tail = 0;
+
+        revealCell(r, c);
+        if (valueAt(r * COLS + c) == 0) queue[tail++] = r * COLS + c;
+
+        // 큐에 들어가기 전에 열림 처리하므로 한 칸은 최대 한 번만 들어감 (큐 크기 = 전체 칸 수면 충분)
+        while (head < tail) {
+            int idx = queue[head++];
+            int cr = idx / COLS;
+            int cc = idx % COLS;
+            for (int i = 0; i < 8; i++) {
+                int nr = cr + DR[i];
+                int nc = cc + DC[i];
+                if (!isValid(nr, nc)) continue;
+                int nidx = nr * COLS + nc;
+                if (viewAt(nidx) != 0) continue;
+                revealCell(nr, nc);
+                if (valueAt(nidx) == 0) queue[tail++] = nidx;
+            }
+        }
+    }
 
-        viewState[r][c] = 1;
-        if (board[r][c] != -1) remainingNonMineCells--; // 안전지대 카운트 감소
+    private void revealCell(int r, int c) {
+        int idx = r * COLS + c;
+        setView(idx, BoardCodec.OPEN);
+        int value = valueAt(idx);
+        pendingCells.add(new int[]{r, c, value});
+        if (value != -1) remainingNonMineCells--; // 안전지대 카운트 감소
+        if (hintEngine != null) hintEngine.onReveal(r, c);
+    }
 
-        if (board[r][c] == 0) {
-            int[] dr = {-1, -1, -1, 0, 0, 1, 1, 1};
-            int[] dc = {-1, 0, 1, -1, 1, -1, 0, 1};
-            for(int i=0; i<8; i++) openCell(r + dr[i], c + dc[i]);
-        }
+    private int valueAt(int idx) {
+        return BoardCodec.value(cells[idx]);
     }
-    private void placeMines() {
-        Random rand = new Random();
-        int count = 0;
-        while(count < MINES) {
-            int r = rand.nextInt(ROWS);
-            int c = rand.nextInt(COLS);
-            if(board[r][c] != -1) {
-                board[r][c] = -1;
-                count++;
-            }
-        }
+
+    private int viewAt(int idx) {
+        return BoardCodec.view(cells[idx]);
     }
 
-    private void calculateNumbers() {
-        int[] dr = {-1, -1, -1, 0, 0, 1, 1, 1};
-        int[] dc = {-1, 0, 1, -1, 1, -1, 0, 1};
+    private void setView(int idx, int view) {
+        cells[idx] = BoardCodec.withView(cells[idx], view);
+    }
 
-        for(int r=0; r<ROWS; r++) {
-            for(int c=0; c<COLS; c++) {
-                if(board[r][c] == -1) continue;
-                int cnt = 0;
-                for(int i=0; i<8; i++) {
-                    int nr = r + dr[i];
-                    int nc = c + dc[i];
-                    if(isValid(nr, nc) && board[nr][nc] == -1) cnt++;
-                }
-                board[r][c] = cnt;
-            }
+    // 경계 칸의 지뢰 확률 (천분율) : [row, col, permille] 목록 + 나머지 닫힌 칸 확률
+    private GameMessage makeHintMessage(String senderId) {
+        int used = hintsUsed.getOrDefault(senderId, 0);
+        GameMessage msg = new GameMessage();
+        msg.setType("HINT");
+        msg.setRoomId(this.roomId);
+        msg.setSenderId(senderId);
+
+        if (used >= MAX_HINTS_PER_PLAYER) {
+            msg.setContent("힌트를 모두 사용했습니다.");
+            msg.setEvent(new GameEvent.Hint(null, null, 0, null));
+            return msg;
         }
+        hintsUsed.put(senderId, used + 1);
+
+        if (hintEngine == null) hintEngine = new HintEngine(ROWS, COLS, MINES, cells);
+        HintEngine.Result result = hintEngine.probabilities();
+        msg.setEvent(new GameEvent.Hint(result.cells(), result.interiorPermille(), MAX_HINTS_PER_PLAYER - used - 1, stateVersion));
+        return msg;
     }
 
     private boolean isValid(int r, int c) {
@@ -240,12 +466,45 @@ public class MineRoom extends BaseGameRoom {
     }
 
 
-    private GameMessage makeStateMessage(String type, String content) {
+    private GameMessage makeStateMessage(String type, String content, Map<String, Object> snapshot) {
+        GameMessage msg = new GameMessage();
+        msg.setType(type);
+        msg.setRoomId(this.roomId);
+        msg.setContent(content);
+        msg.setData(snapshot); // getGameSnapshot 재사용 (수정 가능한 새 Map)
+        pendingCells.clear(); // 전체 상태에 이미 포함됨
+        pendingFlags.clear();
+        return msg;
+    }
+
+    // 바뀐 칸만 담은 메시지 (보드 전체 대신 델타 + 버전)
+    private GameMessage makeDeltaMessage(String type, String content) {
+        return makeDeltaMessage(type, content, null, null, null);
+    }
+
+    private GameMessage makeDeltaMessage(String type, String content, Boolean isWin, List<String> winnerIds, String winnerName) {
+        stateVersion++;
+
+        String currentTurnId = "";
+        if (playing && !turnOrder.isEmpty()) {
+            currentTurnId = turnOrder.get(currentTurnIndex);
+        }
+
+        // 보낸 목록은 그대로 넘기고 새 목록으로 교체 (전송은 방 잠금 밖에서 일어나므로 탈락자 명단도 복사본)
+        List<int[]> cells = pendingCells;
+        pendingCells = new ArrayList<>();
+        List<int[]> flags = null;
+        if (!pendingFlags.isEmpty()) {
+            flags = pendingFlags;
+            pendingFlags = new ArrayList<>();
+        }
+
         GameMessage msg = new GameMessage();
         msg.setType(type);
         msg.setRoomId(this.roomId);
         msg.setContent(content);
-        msg.setData(new HashMap<>(getGameSnapshot())); // getGameSnapshot 재사용
+        msg.setEvent(new GameEvent.Update(stateVersion, cells, flags, playing, currentTurnId, Set.copyOf(eliminatedUsers),
+                remainingNonMineCells, isWin, winnerIds, winnerName));
         return msg;
     }
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package org.example.mine.dto;
+
+// 논리 풀이기 (제약 전파) : 시작 칸에서부터 추측 없이 보드를 끝까지 풀 수 있는지 판정
+// 1) 한 칸 규칙 : 숫자 = 확정 지뢰 수 -> 나머지 안전 / 숫자 - 확정 지뢰 수 = 닫힌 칸 수 -> 전부 지뢰
+// 2) 부분집합 규칙 : A의 닫힌 칸이 B의 닫힌 칸에 포함되면 차집합에 남은 지뢰 수로 판정
+// 3) 전체 지뢰 수 : 남은 지뢰가 0이면 나머지 전부 안전
+// 세 규칙으로 더 진행할 수 없는데 안전한 칸이 남아 있으면 추측이 필요한 보드
+public final class MineSolver {
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1;
+    private static final byte MINE = 2;
+
+    private final byte[] cells;
+    private final int rows;
+    private final int cols;
+    private final int mines;
+    private final byte[] state;
+
+    // 다시 확인할 숫자 칸 (원형 큐, 한 칸은 동시에 한 번만 들어감)
+    private final int[] work;
+    private final boolean[] queued;
+    private int head;
+    private int size;
+
+    private final int[] flood;
+    private int opened;
+    private int flagged;
+
+    private MineSolver(byte[] cells, int rows, int cols, int mines) {
+        this.cells = cells;
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        int n = rows * cols;
+        this.state = new byte[n];
+        this.work = new int[n];
+        this.queued = new boolean[n];
+        this.flood = new int[n];
+    }
+
+    public static boolean isSolvable(byte[] cells, int rows, int cols, int mines, int startRow, int startCol) {
+        MineSolver solver = new MineSolver(cells, rows, cols, mines);
+        return solver.solve(startRow * cols + startCol);
+    }
+
+    private boolean solve(int start) {
+        if (cells[start] == -1) return false;
+        int safeTotal = rows * cols - mines;
+        open(start);
+
+        while (opened < safeTotal) {
+            propagate();
+            if (opened == safeTotal) break;
+            if (applyGlobalCount()) continue;
+            if (!applySubsetRule()) return false; // 더 이상 논리로 진행 불가 -> 추측 필요
+        }
+        return true;
+    }
+
+    // 1) 한 칸 규칙을 큐가 빌 때까지 반복
+    private void propagate() {
+        while (size > 0) {
+            int idx = work[head];
+            head = (head + 1) % work.length;
+            size--;
+            queued[idx] = false;
+
+            int r = idx / cols;
+            int c = idx % cols;
+            int unknown = 0;
+            int known = 0;
+            for (int i = 0; i < 8; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (!isValid(nr, nc)) continue;
+                byte s = state[nr * cols + nc];
+                if (s == UNKNOWN) unknown++;
+                else if (s == MINE) known++;
+            }
+            if (unknown == 0) continue;
+
+            int need = cells[idx] - known;
+            if (need == 0) {
+                forEachUnknownNeighbor(r, c, true);
+            } else if (need == unknown) {
+                forEachUnknownNeighbor(r, c, false);
+            }
+        }
+    }
+
+    // 3) 남은 지뢰가 없으면 닫힌 칸은 전부 안전
+    private boolean applyGlobalCount() {
+        if (mines - flagged != 0) return false;
+        for (int i = 0; i < state.length; i++) {
+            if (state[i] == UNKNOWN) open(i);
+        }
+        return true;
+    }
+
+    // 2) 두 칸 거리 안의 숫자 칸 쌍에 부분집합 규칙 적용 (하나라도 진행하면 true)
+    private boolean applySubsetRule() {
+        int[] a = new int[8];
+        int[] b = new int[8];
+        int[] diff = new int[8];
+
+        for (int idx = 0; idx < state.length; idx++) {
+            if (state[idx] != SAFE || cells[idx] == 0) continue;
+            int ar = idx / cols;
+            int ac = idx % cols;
+            int aCount = collectUnknown(ar, ac, a);
+            if (aCount == 0) continue;
+            int aNeed = cells[idx] - countMines(ar, ac);
+
+            for (int dr = -2; dr <= 2; dr++) {
+                for (int dc = -2; dc <= 2; dc++) {
+                    int br = ar + dr;
+                    int bc = ac + dc;
+                    if ((dr == 0 && dc == 0) || !isValid(br, bc)) continue;
+                    int bIdx = br * cols + bc;
+                    if (state[bIdx] != SAFE || cells[bIdx] == 0) continue;
+
+                    int bCount = collectUnknown(br, bc, b);
+                    if (bCount <= aCount) continue;
+
+                    // a ⊆ b 확인 (둘 다 인덱스 오름차순)
+                    int diffCount = 0;
+                    int i = 0;
+                    for (int j = 0; j < bCount; j++) {
+                        if (i < aCount && a[i] == b[j]) i++;
+                        else diff[diffCount++] = b[j];
+                    }
+                    if (i < aCount) continue;
+
+                    int diffNeed = cells[bIdx] - countMines(br, bc) - aNeed;
+                    if (diffNeed == 0) {
+                        for (int k = 0; k < diffCount; k++) open(diff[k]);
+                        return true;
+                    }
+                    if (diffNeed == diffCount) {
+                        for (int k = 0; k < diffCount; k++) markMine(diff[k]);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int collectUnknown(int r, int c, int[] out) {
+        int count = 0;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && state[nr * cols + nc] == UNKNOWN) out[count++] = nr * cols + nc;
+        }
+        return count;
+    }
+
+    private int countMines(int r, int c) {
+        int count = 0;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && state[nr * cols + nc] == MINE) count++;
+        }
+        return count;
+    }
+
+    private void forEachUnknownNeighbor(int r, int c, boolean safe) {
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (!isValid(nr, nc) || state[nr * cols + nc] != UNKNOWN) continue;
+            if (safe) open(nr * cols + nc);
+            else markMine(nr * cols + nc);
+        }
+    }
+
+    // 안전한 칸 열기 (게임과 같이 0이면 연쇄로 열림)
+    private void open(int start) {
+        if (state[start] != UNKNOWN) return;
+        int top = 0;
+        state[start] = SAFE;
+        flood[top++] = start;
+
+        while (top > 0) {
+            int idx = flood[--top];
+            opened++;
+            int r = idx / cols;
+            int c = idx % cols;
+            enqueue(idx);
+            for (int i = 0; i < 8; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (!isValid(nr, nc)) continue;
+                int nIdx = nr * cols + nc;
+                if (state[nIdx] == SAFE) {
+                    enqueue(nIdx); // 이웃 숫자 칸의 닫힌 칸 수가 줄었음
+                } else if (state[nIdx] == UNKNOWN && cells[idx] == 0) {
+                    state[nIdx] = SAFE;
+                    flood[top++] = nIdx;
+                }
+            }
+        }
+    }
+
+    private void markMine(int idx) {
+        if (state[idx] != UNKNOWN) return;
+        state[idx] = MINE;
+        flagged++;
+        int r = idx / cols;
+        int c = idx % cols;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && state[nr * cols + nc] == SAFE) enqueue(nr * cols + nc);
+        }
+    }
+
+    private void enqueue(int idx) {
+        if (queued[idx] || cells[idx] <= 0) return;
+        queued[idx] = true;
+        work[(head + size) % work.length] = idx;
+        size++;
+    }
+
+    private boolean isValid(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+}
@@ -0,0 +1,512 @@
+package org.example.mine.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// 실시간 협동 모드 (수십 명이 보드 하나를 동시에)
+// - 턴 없음: 살아있는 참가자 누구나 아무 때나 열 수 있고, 지뢰를 밟은 사람만 탈락 / 안전 칸을 다 열면 생존자 전원 승리
+// - 칸 행동(OPEN / FLAG / CHORD / BATCH)은 방 메일박스를 거치지 않고 수신 스레드에서 바로 적용 (방 전체 잠금 없음)
+// - 칸 상태는 AtomicIntegerArray (칸마다 BoardCodec 형식 값 하나) : 닫힘 -> 열림, 닫힘 <-> 깃발을 CAS로 -> 한 칸은 한 스레드만 바꿈
+// - 보드를 REGION_SIZE x REGION_SIZE 구역으로 나눠 구역마다 잠금 + 보낼 변화 버퍼 -> 떨어진 구역의 연쇄 열기는 서로 기다리지 않음
+// - 변화는 바로 보내지 않고 짧은 주기마다 델타 하나로 모아 보냄 (GameService.flushRealtimeRooms -> drainDelta)
+// - START / RESYNC / 주기 전송은 기존처럼 방 메일박스에서 (lifecycle 쓰기 잠금으로 진행 중인 칸 행동과 겹치지 않음)
+@Getter @Setter
+public class RealtimeMineRoom extends BaseGameRoom {
+    public static final int REGION_SIZE = 16;
+    public static final int MAX_PLAYERS = 64;
+
+    // BATCH 한 번에 적용하는 행동 수 상한 (MineRoom과 동일)
+    public static final int MAX_BATCH_ACTIONS = MineRoom.MAX_BATCH_ACTIONS;
+
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    // 게임 결과 : 결과를 정한 스레드 하나만 CAS 성공, GAME_OVER 전송은 다음 주기에 메일박스에서
+    private static final int ONGOING = 0;
+    private static final int WON = 1;
+    private static final int LOST = 2;
+
+    private int ROWS;
+    private int COLS;
+    private int MINES;
+
+    // 칸 값 + 보기 상태 (BoardCodec 형식, 행 우선) : 칸당 4바이트지만 칸 단위 CAS가 가능
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final AtomicIntegerArray cells;
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Region[] regions;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final int regionCols;
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final AtomicInteger remainingNonMineCells = new AtomicInteger();
+
+    private final Set<String> eliminatedUsers = ConcurrentHashMap.newKeySet();
+
+    // 게임 시작 때 방에 있던 사람만 참가 (게임 중에는 입장 불가)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private volatile Set<String> participants = Set.of();
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final AtomicInteger outcome = new AtomicInteger(ONGOING);
+
+    // 보낼 변화가 있음 (주기 전송 때 이 방을 건너뛸지 판단)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 다음 델타에 실을 알림 (탈락 등)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Queue<String> pendingNotices = new ConcurrentLinkedQueue<>();
+
+    // 칸 행동 = 읽기 잠금 (여럿 동시), 시작 / 종료 = 쓰기 잠금
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+
+    // 델타 버전 (메일박스에서만 증가)
+    private volatile long stateVersion = 0;
+
+    public RealtimeMineRoom(String name, int r, int c, int m) {
+        super(name);
+        this.ROWS = r;
+        this.COLS = c;
+        this.MINES = m;
+        this.maxPlayers = MAX_PLAYERS;
+        this.cells = new AtomicIntegerArray(r * c);
+        for (int i = 0; i < r * c; i++) cells.set(i, BoardCodec.EMPTY);
+
+        this.regionCols = (c + REGION_SIZE - 1) / REGION_SIZE;
+        int regionRows = (r + REGION_SIZE - 1) / REGION_SIZE;
+        this.regions = new Region[regionRows * regionCols];
+        for (int i = 0; i < regions.length; i++) regions[i] = new Region();
+    }
+
+    // 구역 하나 : 잠금 + 다음 주기에 보낼 열린 칸 [row, col, value] / 깃발 변화 [row, col, 1/0]
+    private static final class Region {
+        final ReentrantLock lock = new ReentrantLock();
+        final List<int[]> cells = new ArrayList<>();
+        final List<int[]> flags = new ArrayList<>();
+    }
+
+    public int getRemainingNonMineCells() {
+        return remainingNonMineCells.get();
+    }
+
+    @Override
+    public RoomSummary toSummary() {
+        return new RoomSummary(roomId, roomName, "REALTIME", users.size(), maxPlayers, ROWS, COLS, playing, isJoinable());
+    }
+
+    // 메일박스에서 호출 (입장, RESYNC) : 아직 보내지 않은 변화가 섞여 있어도 다음 델타가 같은 값을 다시 적용할 뿐
+    @Override
+    public Map<String, Object> getGameSnapshot() {
+        return snapshot(allUsersAcceptPackedBoard());
+    }
+
+    // 요청한 세션용 : 그 유저가 지원하면 압축
+    @Override
+    public Map<String, Object> getGameSnapshot(String playerId) {
+        return snapshot(BoardCodec.accepts(users.get(playerId)));
+    }
+
+    private Map<String, Object> snapshot(boolean compact) {
+        Map<String, String> playerNames = new HashMap<>();
+        users.values().forEach(p -> playerNames.put(p.getId(), p.getNickname()));
+
+        long version = stateVersion;
+        byte[] packed = new byte[ROWS * COLS];
+        for (int i = 0; i < packed.length; i++) packed[i] = (byte) cells.get(i);
+
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("mode", "REALTIME");
+        if (compact) {
+            snapshot.put("packedBoard", BoardCodec.encode(packed));
+            snapshot.put("rows", ROWS);
+            snapshot.put("cols", COLS);
+        } else {
+            int[][] board = new int[ROWS][COLS];
+            int[][] viewState = new int[ROWS][COLS];
+            for (int i = 0; i < packed.length; i++) {
+                board[i / COLS][i % COLS] = BoardCodec.value(packed[i]);
+                viewState[i / COLS][i % COLS] = BoardCodec.view(packed[i]);
+            }
+            snapshot.put("board", board);
+            snapshot.put("viewState", viewState);
+        }
+        snapshot.put("playing", playing);
+        snapshot.put("playerNames", playerNames);
+        snapshot.put("currentTurnId", "");
+        snapshot.put("eliminatedUsers", Set.copyOf(eliminatedUsers));
+        snapshot.put("remainingCells", remainingNonMineCells.get());
+        snapshot.put("version", version);
+        return snapshot;
+    }
+
+    // GAME_START는 방 전체에 브로드캐스트되므로 모든 유저가 압축 형식을 지원할 때만
+    private boolean allUsersAcceptPackedBoard() {
+        if (users.isEmpty()) return false;
+        for (Player p : users.values()) {
+            if (!BoardCodec.accepts(p)) return false;
+        }
+        return true;
+    }
+
+    // 메일박스를 거치지 않고 바로 적용하는 행동 (칸 행동)
+    public static boolean isMove(GameAction action) {
+        return action instanceof GameAction.Open
+                || action instanceof GameAction.Flag
+                || action instanceof GameAction.Chord
+                || action instanceof GameAction.Batch;
+    }
+
+    // 칸 행동은 여러 스레드에서 동시에 호출됨 -> 항상 null (결과는 다음 주기 델타로)
+    @Override
+    public GameMessage handleAction(GameMessage message) {
+        GameAction action = message.resolveAction();
+
+        if (action instanceof GameAction.Start start) return start(start);
+        if (action instanceof GameAction.Resync) return makeStateMessage("SYNC", null, getGameSnapshot(message.getSenderId()));
+        if (!isMove(action)) return null; // 힌트 없음 (보드가 계속 바뀌는 동안의 확률은 의미가 없음)
+
+        List<GameAction> moves;
+        if (action instanceof GameAction.Batch batch) {
+            if (batch.actions() == null || batch.actions().isEmpty()) return null;
+            moves = batch.actions().size() > MAX_BATCH_ACTIONS
+                    ? batch.actions().subList(0, MAX_BATCH_ACTIONS)
+                    : batch.actions();
+        } else {
+            moves = List.of(action);
+        }
+        applyMoves(moves, message.getSenderId(), message.getSender());
+        return null;
+    }
+
+    private GameMessage start(GameAction.Start start) {
+        lifecycle.writeLock().lock();
+        try {
+            if (playing) return null;
+            long seed = start.seed() != null ? start.seed() : new Random().nextLong();
+            startGame(MineBoardGenerator.generate(ROWS, COLS, MINES, seed, Boolean.TRUE.equals(start.noGuess())));
+            return makeStateMessage("GAME_START", "실시간 모드! 모두 동시에 열 수 있고, 지뢰를 밟은 사람만 탈락합니다.", getGameSnapshot());
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서만 호출
+    private void startGame(GeneratedBoard generated) {
+        byte[] values = generated.cells();
+        int safe = 0;
+        for (int i = 0; i < values.length; i++) {
+            cells.set(i, BoardCodec.cell(values[i], 0));
+            if (values[i] != -1) safe++;
+        }
+        eliminatedUsers.clear();
+        pendingNotices.clear();
+        participants = Set.copyOf(users.keySet());
+        remainingNonMineCells.set(safe);
+        outcome.set(ONGOING);
+        this.playing = true;
+
+        // 첫 칸은 서버가 열어 줌 (항상 안전한 빈칸)
+        Sweep sweep = new Sweep();
+        try {
+            open(generated.startRow(), generated.startCol(), sweep);
+        } finally {
+            sweep.release();
+        }
+        // 전체 상태에 포함됨
+        for (Region region : regions) {
+            region.cells.clear();
+            region.flags.clear();
+        }
+        dirty.set(remainingNonMineCells.get() == 0); // 첫 칸으로 끝난 작은 보드는 다음 주기에 GAME_OVER
+        stateVersion++;
+    }
+
+    private void applyMoves(List<GameAction> moves, String senderId, String senderName) {
+        lifecycle.readLock().lock();
+        try {
+            if (!playing || outcome.get() != ONGOING) return;
+            if (!participants.contains(senderId) || eliminatedUsers.contains(senderId)) return;
+
+            Sweep sweep = new Sweep();
+            try {
+                for (GameAction move : moves) {
+                    if (applyMove(move, sweep)) {
+                        eliminate(senderId, senderName);
+                        return;
+                    }
+                    if (outcome.get() != ONGOING) return;
+                }
+            } finally {
+                sweep.release();
+            }
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    // true : 지뢰를 밟음
+    private boolean applyMove(GameAction move, Sweep sweep) {
+        if (move instanceof GameAction.Open open) return open(open.row(), open.col(), sweep);
+        if (move instanceof GameAction.Chord chord) return chord(chord.row(), chord.col(), sweep);
+        if (move instanceof GameAction.Flag flag) toggleFlag(flag.row(), flag.col(), sweep);
+        return false; // BATCH 안의 BATCH, 모르는 액션은 무시
+    }
+
+    private boolean open(int r, int c, Sweep sweep) {
+        if (!isValid(r, c)) return false;
+        int idx = r * COLS + c;
+        if (!reveal(idx, sweep)) return false; // 열린 칸, 깃발 칸, 다른 사람이 먼저 연 칸
+
+        int value = BoardCodec.value((byte) cells.get(idx));
+        if (value == -1) return true;
+        if (value == 0) flood(idx, sweep);
+        return false;
+    }
+
+    // 빈칸 연쇄 열기 (BFS) : 칸마다 CAS에 성공한 스레드만 큐에 넣음 -> 두 사람의 연쇄 열기가 만나면 나머지를 나눠 엶
+    private void flood(int start, Sweep sweep) {
+        int[] queue = sweep.queue;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int idx = queue[head++];
+            int cr = idx / COLS;
+            int cc = idx % COLS;
+            for (int i = 0; i < 8; i++) {
+                int nr = cr + DR[i];
+                int nc = cc + DC[i];
+                if (!isValid(nr, nc)) continue;
+                int nidx = nr * COLS + nc;
+                if (!reveal(nidx, sweep)) continue;
+                if (BoardCodec.value((byte) cells.get(nidx)) == 0) {
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                        sweep.queue = queue;
+                    }
+                    queue[tail++] = nidx;
+                }
+            }
+        }
+    }
+
+    // 닫힌 칸 -> 열림 (CAS) : 성공한 스레드만 구역 버퍼에 기록하고 남은 칸 수를 줄임
+    private boolean reveal(int idx, Sweep sweep) {
+        int cell;
+        do {
+            cell = cells.get(idx);
+            if (BoardCodec.view((byte) cell) != 0) return false;
+        } while (!cells.compareAndSet(idx, cell, BoardCodec.withView((byte) cell, BoardCodec.OPEN)));
+
+        int value = BoardCodec.value((byte) cell);
+        sweep.enter(idx).cells.add(new int[]{idx / COLS, idx % COLS, value});
+        if (value != -1 && remainingNonMineCells.decrementAndGet() == 0) outcome.compareAndSet(ONGOING, WON);
+        markDirty(); // 결과를 먼저 정하고 표시 -> 주기 전송이 표시를 보면 결과도 보임
+        return true;
+    }
+
+    // 열린 숫자 칸 주변 깃발 수가 숫자와 같으면 깃발 없는 닫힌 이웃을 모두 열기
+    private boolean chord(int r, int c, Sweep sweep) {
+        if (!isValid(r, c)) return false;
+        byte cell = (byte) cells.get(r * COLS + c);
+        int value = BoardCodec.value(cell);
+        if (BoardCodec.view(cell) != BoardCodec.OPEN || value <= 0) return false;
+
+        int flags = 0;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + DR[i];
+            int nc = c + DC[i];
+            if (isValid(nr, nc) && BoardCodec.view((byte) cells.get(nr * COLS + nc)) == BoardCodec.FLAG) flags++;
+        }
+        if (flags != value) return false;
+
+        boolean mine = false;
+        for (int i = 0; i < 8; i++) {
+            if (open(r + DR[i], c + DC[i], sweep)) mine = true;
+        }
+        return mine;
+    }
+
+    // 깃발 꽂기 / 뽑기 : 순서가 중요하므로 구역 잠금 안에서 바꾸고 바로 기록 (버퍼 순서 = 실제 순서)
+    private void toggleFlag(int r, int c, Sweep sweep) {
+        if (!isValid(r, c)) return;
+        int idx = r * COLS + c;
+        Region region = sweep.enter(idx);
+
+        int cell;
+        int view;
+        do {
+            cell = cells.get(idx);
+            view = BoardCodec.view((byte) cell);
+            if (view == BoardCodec.OPEN) return;
+        } while (!cells.compareAndSet(idx, cell, BoardCodec.withView((byte) cell, view == BoardCodec.FLAG ? 0 : BoardCodec.FLAG)));
+
+        region.flags.add(new int[]{r, c, view == BoardCodec.FLAG ? 0 : 1});
+        markDirty();
+    }
+
+    private void eliminate(String senderId, String senderName) {
+        if (!eliminatedUsers.add(senderId)) return;
+        pendingNotices.add(senderName + "님 탈락! 💥");
+        if (aliveParticipants().isEmpty()) outcome.compareAndSet(ONGOING, LOST);
+        markDirty();
+    }
+
+    // 마지막 생존자가 나가면 게임 종료 (다음 주기에 GAME_OVER)
+    @Override
+    public void exitUser(String playerId) {
+        super.exitUser(playerId);
+        if (playing && participants.contains(playerId) && aliveParticipants().isEmpty()) {
+            outcome.compareAndSet(ONGOING, LOST);
+            markDirty();
+        }
+    }
+
+    private List<String> aliveParticipants() {
+        return participants.stream()
+                .filter(users::containsKey)
+                .filter(id -> !eliminatedUsers.contains(id))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    // 여러 스레드가 매번 쓰면 캐시 라인이 오가므로 이미 켜져 있으면 읽기만
+    private void markDirty() {
+        if (!dirty.get()) dirty.set(true);
+    }
+
+    public boolean hasPendingChanges() {
+        return dirty.get();
+    }
+
+    // 주기 전송 (방 메일박스에서) : 구역 버퍼를 모두 비워 델타 하나로, 결과가 정해졌으면 GAME_OVER (보낼 게 없으면 null)
+    public GameMessage drainDelta() {
+        if (!dirty.getAndSet(false)) return null;
+        if (playing && outcome.get() != ONGOING) return finishGame();
+
+        List<String> notices = new ArrayList<>();
+        for (String notice; (notice = pendingNotices.poll()) != null; ) notices.add(notice);
+        return makeDeltaMessage("UPDATE", notices.isEmpty() ? null : String.join(" ", notices), null, null, null);
+    }
+
+    private GameMessage finishGame() {
+        // 진행 중인 칸 행동이 끝날 때까지 기다림 (새 행동은 outcome을 보고 무시됨)
+        lifecycle.writeLock().lock();
+        try {
+            this.playing = false;
+            boolean won = outcome.get() == WON;
+
+            // 종료 시 모든 지뢰 보여주기
+            for (int i = 0; i < cells.length(); i++) {
+                byte cell = (byte) cells.get(i);
+                if (BoardCodec.value(cell) == -1 && BoardCodec.view(cell) != BoardCodec.OPEN) {
+                    cells.set(i, BoardCodec.withView(cell, BoardCodec.OPEN));
+                    regions[regionOf(i)].cells.add(new int[]{i / COLS, i % COLS, -1});
+                }
+            }
+            pendingNotices.clear();
+
+            List<String> winnerIds = won ? aliveParticipants() : List.of();
+            if (winnerIds.isEmpty()) {
+                return makeDeltaMessage("GAME_OVER", won ? "안전 구역을 모두 열었습니다!" : "모두 전멸했습니다...", won, null, null);
+            }
+            String winnerNames = winnerIds.stream()
+                    .map(id -> users.get(id).getNickname())
+                    .collect(Collectors.joining(", "));
+            return makeDeltaMessage("GAME_OVER", "안전 구역을 모두 열었습니다! 생존자 전원 승리!", true, winnerIds, winnerNames);
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    private GameMessage makeStateMessage(String type, String content, Map<String, Object> snapshot) {
+        GameMessage msg = new GameMessage();
+        msg.setType(type);
+        msg.setRoomId(this.roomId);
+        msg.setContent(content);
+        msg.setData(snapshot);
+        return msg;
+    }
+
+    private GameMessage makeDeltaMessage(String type, String content, Boolean isWin, List<String> winnerIds, String winnerName) {
+        List<int[]> opened = new ArrayList<>();
+        List<int[]> flags = new ArrayList<>();
+        for (Region region : regions) {
+            region.lock.lock();
+            try {
+                opened.addAll(region.cells);
+                flags.addAll(region.flags);
+                region.cells.clear();
+                region.flags.clear();
+            } finally {
+                region.lock.unlock();
+            }
+        }
+        if ("UPDATE".equals(type) && opened.isEmpty() && flags.isEmpty() && content == null) return null;
+
+        stateVersion++;
+        GameMessage msg = new GameMessage();
+        msg.setType(type);
+        msg.setRoomId(this.roomId);
+        msg.setContent(content);
+        msg.setEvent(new GameEvent.Update(stateVersion, opened, flags.isEmpty() ? null : flags, playing, "",
+                Set.copyOf(eliminatedUsers), remainingNonMineCells.get(), isWin, winnerIds, winnerName));
+        return msg;
+    }
+
+    // 테스트 / 벤치마크용 칸 조회
+    int valueAt(int r, int c) {
+        return BoardCodec.value((byte) cells.get(r * COLS + c));
+    }
+
+    int viewAt(int r, int c) {
+        return BoardCodec.view((byte) cells.get(r * COLS + c));
+    }
+
+    private int regionOf(int idx) {
+        return (idx / COLS / REGION_SIZE) * regionCols + (idx % COLS) / REGION_SIZE;
+    }
+
+    private boolean isValid(int r, int c) {
+        return r >= 0 && r < ROWS && c >= 0 && c < COLS;
+    }
+
+    // 행동 하나(BATCH면 묶음 전체) 동안 쓰는 연쇄 열기 큐 + 지금 잡고 있는 구역 잠금
+    // 같은 구역이 이어지면 잠금을 다시 잡지 않고, 구역이 바뀔 때만 놓고 새로 잡음 (한 번에 하나만 -> 교착 없음)
+    private final class Sweep {
+        private int[] queue = new int[64];
+        private Region held;
+
+        Region enter(int idx) {
+            Region region = regions[regionOf(idx)];
+            if (region != held) {
+                release();
+                region.lock.lock();
+                held = region;
+            }
+            return region;
+        }
+
+        void release() {
+            if (held != null) {
+                held.lock.unlock();
+                held = null;
+            }
+        }
+    }
+}
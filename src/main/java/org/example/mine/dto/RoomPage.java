@@ -0,0 +1,16 @@
+package org.example.mine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 로비 목록 페이지 응답
+@Getter
+@AllArgsConstructor
+public class RoomPage {
+    private List<RoomSummary> content;
+    private int page;
+    private int size;
+    private int totalElements;
+}
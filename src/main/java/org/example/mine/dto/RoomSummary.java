@@ -0,0 +1,23 @@
+package org.example.mine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로비 목록용 방 요약 (보드 등 게임 상태는 포함하지 않음)
+@Getter
+@AllArgsConstructor
+public class RoomSummary {
+    private String roomId;
+    private String roomName;
+    private String mode;       // CLASSIC, MEGA, REALTIME
+    private int playerCount;
+    private int maxPlayers;
+    private int rows;
+    private int cols;
+    private boolean playing;
+    private boolean joinable;
+
+    public boolean hasFreeSlot() {
+        return playerCount < maxPlayers;
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mine.dto.GeneratedBoard;
+import org.example.mine.dto.MineBoardGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 추측 없는(no-guess) 보드를 백그라운드에서 미리 만들어 (rows, cols, mines)별로 쌓아 둠
+// 풀이기 검증이 무거우므로 게임 시작 시에는 준비된 보드를 꺼내기만 함 (O(1))
+// 준비된 보드가 없으면 null -> 호출한 쪽은 첫 칸만 안전한 일반 보드로 시작하고, 그 사이 풀을 채움
+// 풀이기를 통과한 보드만 쌓음 (못 푼 보드는 버리고 새 시드로 다시, 계속 실패하는 크기는 채우기를 멈춤)
+@Slf4j
+@Service
+public class BoardGenerator {
+    // 보드 하나를 채우려고 새 시드로 다시 만드는 횟수 (한 번에 MineBoardGenerator.MAX_ATTEMPTS번씩 섞음)
+    static final int REGENERATE_ATTEMPTS = 3;
+    // 연속으로 이만큼 작업이 보드를 못 만들면 그 크기는 더 채우지 않음
+    static final int MAX_FAILURES = 12;
+
+    private final ForkJoinPool workers;
+    private final int poolSize;
+    private final int maxCells;
+    private final int maxPools;
+    private final List<String> presets;
+
+    private final Map<Key, Pool> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger ready = new AtomicInteger();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer generateTimer;
+    private final Counter unsolvable;
+
+    public BoardGenerator(MeterRegistry meterRegistry,
+                          @Value("${mine.board.generator.parallelism:0}") int parallelism,
+                          @Value("${mine.board.generator.pool-size:8}") int poolSize,
+                          @Value("${mine.board.generator.max-cells:10000}") int maxCells,
+                          @Value("${mine.board.generator.max-pools:32}") int maxPools,
+                          @Value("${mine.board.generator.presets:10x10x15}") List<String> presets) {
+        // 0이면 코어 절반 (방 메일박스 워커와 CPU를 나눠 씀)
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.workers = new ForkJoinPool(threads, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("board-gen-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+        this.poolSize = poolSize;
+        this.maxCells = maxCells;
+        this.maxPools = maxPools;
+        this.presets = presets;
+
+        Gauge.builder("mine.board.generator.ready", ready, AtomicInteger::get)
+                .description("미리 만들어 둔 보드 수")
+                .register(meterRegistry);
+        this.hits = Counter.builder("mine.board.generator.take").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("mine.board.generator.take").tag("result", "miss").register(meterRegistry);
+        this.generateTimer = Timer.builder("mine.board.generator.generate").register(meterRegistry);
+        this.unsolvable = Counter.builder("mine.board.generator.unsolvable")
+                .description("시도 횟수 안에 no-guess 배치를 못 찾아 버린 보드")
+                .register(meterRegistry);
+    }
+
+    // 자주 쓰는 크기는 서버 시작 시 미리 채움 (예: 10x10x15)
+    @PostConstruct
+    public void warmUp() {
+        for (String preset : presets) {
+            String[] parts = preset.trim().split("x");
+            if (parts.length != 3) {
+                log.warn("잘못된 보드 프리셋: {}", preset);
+                continue;
+            }
+            Key key = new Key(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            Pool pool = pools.computeIfAbsent(key, k -> new Pool());
+            refill(key, pool);
+        }
+    }
+
+    // 준비된 보드 하나 꺼내기 (없으면 null, 꺼낸 만큼 백그라운드에서 다시 채움)
+    public GeneratedBoard take(int rows, int cols, int mines) {
+        if ((long) rows * cols > maxCells) return null; // 큰 보드는 검증 비용이 커서 풀에 두지 않음
+
+        Key key = new Key(rows, cols, mines);
+        Pool pool = pools.get(key);
+        if (pool == null) {
+            if (pools.size() >= maxPools) { // 처음 보는 크기가 끝없이 늘지 않도록
+                misses.increment();
+                return null;
+            }
+            pool = pools.computeIfAbsent(key, k -> new Pool());
+        }
+
+        GeneratedBoard board = pool.boards.poll();
+        if (board != null) {
+            pool.queued.decrementAndGet();
+            ready.decrementAndGet();
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        refill(key, pool);
+        return board;
+    }
+
+    // 모자란 만큼 생성 작업 제출 (동시에 호출되면 조금 넘칠 수 있지만 크기별 상한 근처에서 멈춤)
+    private void refill(Key key, Pool pool) {
+        if (pool.failures.get() >= MAX_FAILURES) return; // no-guess 배치가 거의 없는 크기 (지뢰가 너무 많음 등)
+        while (pool.queued.get() + pool.inFlight.get() < poolSize) {
+            pool.inFlight.incrementAndGet();
+            workers.execute(() -> produce(key, pool));
+        }
+    }
+
+    // 풀이기를 통과한 보드 하나를 쌓음 (못 만들면 실패를 세고 다시 제출 -> 실패 상한에서 멈춤)
+    private void produce(Key key, Pool pool) {
+        boolean produced = false;
+        try {
+            for (int i = 0; i < REGENERATE_ATTEMPTS && !produced; i++) {
+                long seed = ThreadLocalRandom.current().nextLong();
+                GeneratedBoard board = generateTimer.record(() ->
+                        MineBoardGenerator.generate(key.rows(), key.cols(), key.mines(), seed, true));
+                if (!board.noGuess()) {
+                    unsolvable.increment();
+                    continue;
+                }
+                pool.boards.offer(board);
+                pool.queued.incrementAndGet();
+                ready.incrementAndGet();
+                produced = true;
+            }
+        } catch (RuntimeException e) {
+            log.error("보드 생성 실패 {}", key, e);
+        } finally {
+            pool.inFlight.decrementAndGet();
+        }
+        if (produced) {
+            pool.failures.set(0);
+        } else {
+            pool.failures.incrementAndGet();
+            refill(key, pool);
+        }
+    }
+
+    int readyCount(int rows, int cols, int mines) {
+        Pool pool = pools.get(new Key(rows, cols, mines));
+        return pool != null ? pool.queued.get() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record Key(int rows, int cols, int mines) {
+    }
+
+    private static class Pool {
+        final Queue<GeneratedBoard> boards = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger(); // 연속으로 보드를 못 만든 작업 수
+    }
+}
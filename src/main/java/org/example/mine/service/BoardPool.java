@@ -0,0 +1,57 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 보드 셀 배열 재사용 풀 (길이별)
+// 방이 자주 생기고 사라져도 보드 배열을 새로 만들지 않아 GC 부담을 줄임
+@Component
+public class BoardPool {
+    private static final int MAX_PER_SIZE = 32;
+
+    private final Map<Integer, Queue<byte[]>> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final Counter hits;
+    private final Counter misses;
+
+    public BoardPool(MeterRegistry meterRegistry) {
+        Gauge.builder("mine.board.pool.size", pooled, AtomicInteger::get)
+                .description("풀에 보관 중인 보드 배열 수")
+                .register(meterRegistry);
+        this.hits = Counter.builder("mine.board.pool.acquire").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("mine.board.pool.acquire").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 길이 size 배열 (내용은 MineRoom 생성자가 닫힌 빈칸으로 채움)
+    public byte[] acquire(int size) {
+        Queue<byte[]> pool = pools.get(size);
+        byte[] cells = pool != null ? pool.poll() : null;
+        if (cells != null) {
+            pooled.decrementAndGet();
+            hits.increment();
+            return cells;
+        }
+        misses.increment();
+        return new byte[size];
+    }
+
+    // 반납 시 0으로 비워 둠 (풀에 있는 동안 이전 보드가 남아 있지 않도록)
+    public void release(byte[] cells) {
+        if (cells == null || cells.length == 0) return;
+        Queue<byte[]> pool = pools.computeIfAbsent(cells.length, k -> new ConcurrentLinkedQueue<>());
+        if (pool.size() >= MAX_PER_SIZE) return; // 크기별 상한 (넘치면 GC에 맡김)
+
+        Arrays.fill(cells, (byte) 0);
+        pool.offer(cells);
+        pooled.incrementAndGet();
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 채팅 도배 방지 (채팅 프레임마다 inbound 스레드에서 호출)
+// - 세션별 / 방별 토큰 버킷 : 초당 rate개씩 차고 burst개까지 모임
+// - 최대 길이 초과, 빈 메시지 거절
+// - 같은 세션이 같은 내용을 repeat-window 안에 다시 보내면 버림 (반복 도배를 한 줄로 묶음)
+// 버킷은 GCRA 방식 : "다음 토큰이 생기는 시각" 하나만 AtomicLong에 두고 CAS -> 잠금 없음, 검사마다 할당 없음
+@Component
+public class ChatLimiter {
+
+    public enum Verdict {
+        OK, EMPTY, TOO_LONG, REPEAT, SESSION_RATE, ROOM_RATE;
+
+        public boolean allowed() {
+            return this == OK;
+        }
+    }
+
+    private final int maxLength;
+    private final long sessionInterval;
+    private final long sessionTolerance;
+    private final long roomInterval;
+    private final long roomTolerance;
+    private final long repeatWindowMillis;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> rooms = new ConcurrentHashMap<>();
+    private final Map<Verdict, Counter> rejected = new EnumMap<>(Verdict.class);
+
+    public ChatLimiter(MeterRegistry meterRegistry,
+                       @Value("${mine.chat.max-length:200}") int maxLength,
+                       @Value("${mine.chat.session.rate:2}") double sessionRate,
+                       @Value("${mine.chat.session.burst:5}") int sessionBurst,
+                       @Value("${mine.chat.room.rate:20}") double roomRate,
+                       @Value("${mine.chat.room.burst:40}") int roomBurst,
+                       @Value("${mine.chat.repeat-window:3s}") Duration repeatWindow) {
+        this.maxLength = maxLength;
+        this.sessionInterval = interval(sessionRate);
+        this.sessionTolerance = sessionInterval * (Math.max(1, sessionBurst) - 1);
+        this.roomInterval = interval(roomRate);
+        this.roomTolerance = roomInterval * (Math.max(1, roomBurst) - 1);
+        this.repeatWindowMillis = repeatWindow.toMillis();
+
+        // 태그는 거절 사유로 고정 (미리 등록 -> 거절 경로에서도 조회/할당 없음)
+        for (Verdict verdict : Verdict.values()) {
+            if (verdict.allowed()) continue;
+            rejected.put(verdict, Counter.builder("mine.chat.rejected")
+                    .description("도배 방지로 버린 채팅")
+                    .tag("reason", verdict.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 세션 하나의 상태 : 버킷 + 마지막 메시지 (상위 32비트 내용 해시, 하위 32비트 보낸 시각 ms)
+    private static final class SessionState {
+        final AtomicLong bucket = new AtomicLong(Long.MIN_VALUE);
+        final AtomicLong last = new AtomicLong();
+    }
+
+    public Verdict check(String roomId, String sessionId, String content) {
+        return check(roomId, sessionId, content, System.nanoTime());
+    }
+
+    // 싼 검사부터 : 길이 -> 반복 -> 세션 버킷 -> 방 버킷 (세션에서 막힌 도배는 방 버킷을 깎지 않음)
+    // 마지막 메시지는 통과한 것만 기억 (버킷에서 막힌 메시지 때문에 같은 내용의 재전송이 반복으로 막히지 않도록)
+    Verdict check(String roomId, String sessionId, String content, long now) {
+        Verdict verdict = evaluate(roomId, sessionId, content, now);
+        if (!verdict.allowed()) rejected.get(verdict).increment();
+        return verdict;
+    }
+
+    private Verdict evaluate(String roomId, String sessionId, String content, long now) {
+        if (content == null || content.isBlank()) return Verdict.EMPTY;
+        if (content.length() > maxLength) return Verdict.TOO_LONG;
+
+        SessionState session = null;
+        int hash = content.hashCode();
+        if (sessionId != null) {
+            session = sessions.get(sessionId);
+            if (session == null) session = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+            if (isRepeat(session.last.get(), hash, now)) return Verdict.REPEAT;
+            if (!tryAcquire(session.bucket, now, sessionInterval, sessionTolerance)) return Verdict.SESSION_RATE;
+        }
+
+        AtomicLong room = rooms.get(roomId);
+        if (room == null) room = rooms.computeIfAbsent(roomId, id -> new AtomicLong(Long.MIN_VALUE));
+        if (!tryAcquire(room, now, roomInterval, roomTolerance)) return Verdict.ROOM_RATE;
+
+        if (session != null) session.last.set(((long) hash << 32) | ((int) (now / 1_000_000) & 0xFFFFFFFFL));
+        return Verdict.OK;
+    }
+
+    // tat(다음 토큰 시각)가 now + tolerance보다 늦으면 버킷이 빈 것
+    private static boolean tryAcquire(AtomicLong tat, long now, long interval, long tolerance) {
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, now);
+            if (base - now > tolerance) return false;
+            if (tat.compareAndSet(current, base + interval)) return true;
+        }
+    }
+
+    // 마지막 메시지와 내용이 같고 창 안이면 반복 (창을 벗어난 같은 내용은 다시 허용)
+    private boolean isRepeat(long last, int hash, long now) {
+        int nowMillis = (int) (now / 1_000_000);
+        return last != 0 && (int) (last >>> 32) == hash && nowMillis - (int) last < repeatWindowMillis;
+    }
+
+    // 연결이 끊긴 세션 정리
+    public void sessionClosed(String sessionId) {
+        if (sessionId != null) sessions.remove(sessionId);
+    }
+
+    int trackedSessions() {
+        return sessions.size();
+    }
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (event.type() == RoomChangedEvent.Type.REMOVED) rooms.remove(event.roomId());
+    }
+
+    // 초당 rate개 -> 토큰 하나당 간격 (ns) / 0 이하면 제한 없음 (간격 0이면 tat가 now를 앞지르지 않음)
+    private static long interval(double rate) {
+        return rate > 0 ? (long) (1_000_000_000L / rate) : 0;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.mine.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.RoomSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 여러 노드로 방 나누기 (mine.cluster.enabled=false면 모든 방이 이 노드 것 -> 지금과 같은 단일 노드 동작)
+// - 방 주인 : 방 id를 노드 목록의 consistent hash 원에 올려 결정 (게임 로직, 메일박스, 메시지 기록은 주인 노드에만)
+// - 다른 노드에 붙은 세션의 STOMP 요청은 주인 노드로 넘기고 (Inbound), 주인이 보낸 프레임은 모든 노드가 자기 브로커로 (Frame)
+// - 다른 노드 세션은 주인 노드 안에서 "노드@세션" 으로 구분 (세션 개별 전송을 그 노드로 돌려보내기 위함)
+@Slf4j
+@Component
+public class ClusterNode {
+    public static final char SESSION_SEPARATOR = '@';
+
+    private final boolean enabled;
+    private final String nodeId;
+    private final ConsistentHashRing ring;
+    private final RelayTransport transport;
+    private final Duration requestTimeout;
+    private volatile RelayTransport.Handler localHandler;
+
+    public ClusterNode(@Value("${mine.cluster.enabled:false}") boolean enabled,
+                       @Value("${mine.cluster.node-id:node-1}") String nodeId,
+                       @Value("${mine.cluster.nodes:}") List<String> nodes,
+                       @Value("${mine.cluster.virtual-nodes:128}") int virtualNodes,
+                       @Value("${mine.cluster.request-timeout:2s}") Duration requestTimeout,
+                       RelayTransport transport) {
+        if (nodeId.indexOf(SESSION_SEPARATOR) >= 0 || nodeId.indexOf('/') >= 0) {
+            throw new IllegalArgumentException("노드 id에 '@', '/'는 쓸 수 없습니다: " + nodeId);
+        }
+        List<String> members = new ArrayList<>(new LinkedHashSet<>(nodes));
+        members.removeIf(String::isBlank);
+        if (!members.contains(nodeId)) members.add(nodeId);
+
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.ring = new ConsistentHashRing(members, virtualNodes);
+        this.transport = transport;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public String ownerOf(String roomId) {
+        return enabled ? ring.ownerOf(roomId) : nodeId;
+    }
+
+    public boolean owns(String roomId) {
+        return nodeId.equals(ownerOf(roomId));
+    }
+
+    // 이 노드가 받는 쪽으로 등록 (ClusterRelayHandler가 기동 시 호출)
+    public void start(RelayTransport.Handler handler) {
+        if (!enabled) return;
+        this.localHandler = handler;
+        transport.register(nodeId, handler);
+        log.info("클러스터 노드 {} 시작 (노드 {})", nodeId, ring.nodes());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (enabled && localHandler != null) transport.unregister(nodeId);
+    }
+
+    // 세션이 붙은 노드 : 남의 방이면 주인 노드로 넘기고 true (이 노드에서는 처리하지 않음)
+    public boolean forward(RelayMessage.Command command, String roomId, GameMessage message, String sessionId) {
+        if (roomId == null || owns(roomId)) return false;
+        transport.send(ownerOf(roomId), new RelayMessage.Inbound(command, roomId, message, sessionId, nodeId));
+        return true;
+    }
+
+    // 이 노드 세션의 연결 끊김을 다른 모든 노드로 (채팅 제한 등 주인 노드에 남은 세션 상태 정리)
+    public void sessionClosed(String sessionId) {
+        if (!enabled || sessionId == null) return;
+        RelayMessage.SessionClosed closed = new RelayMessage.SessionClosed(sessionId, nodeId);
+        for (String node : ring.nodes()) {
+            if (!node.equals(nodeId)) transport.send(node, closed);
+        }
+    }
+
+    // 방/로비 토픽 프레임을 다른 모든 노드로 (구독자가 없는 노드에서는 브로커가 버림)
+    public void relayToPeers(String destination, byte[] payload) {
+        RelayMessage.Frame frame = new RelayMessage.Frame(destination, null, payload);
+        for (String node : ring.nodes()) {
+            if (!node.equals(nodeId)) transport.send(node, frame);
+        }
+    }
+
+    // 다른 노드 세션에게 (qualifiedSessionId = "노드@세션")
+    public void relayToSession(String qualifiedSessionId, String userDestinationPrefix, String userQueue, byte[] payload) {
+        int at = qualifiedSessionId.indexOf(SESSION_SEPARATOR);
+        String node = qualifiedSessionId.substring(0, at);
+        String sessionId = qualifiedSessionId.substring(at + 1);
+        transport.send(node, new RelayMessage.Frame(userDestinationPrefix + sessionId + userQueue, sessionId, payload));
+    }
+
+    public static String qualify(String node, String sessionId) {
+        return sessionId == null ? null : node + SESSION_SEPARATOR + sessionId;
+    }
+
+    public static boolean isQualified(String sessionId) {
+        return sessionId != null && sessionId.indexOf(SESSION_SEPARATOR) > 0;
+    }
+
+    // 응답이 필요한 요청 (자기 자신이면 바로 처리) / 노드가 없거나 시간 안에 응답이 없으면 IllegalStateException
+    public <R> R request(String node, RelayMessage.Request<R> request) {
+        if (node.equals(nodeId)) return localHandler.onRequest(request);
+        try {
+            return transport.request(node, request).get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("노드 " + node + " 요청 중단", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("노드 " + node + " 응답 없음", e);
+        }
+    }
+
+    // 전체 로비 : 이 노드 목록 + 다른 노드 목록 (응답 없는 노드는 빼고)
+    // 버전은 노드별로 따로 (versions) -> 클라이언트는 노드별 푸시(LOBBY_EVENTS의 node)와 비교
+    public RoomService.LobbyView lobbyView(RoomService.LobbyView local) {
+        if (!enabled) return local;
+
+        Map<String, CompletableFuture<RoomService.LobbyView>> pending = new LinkedHashMap<>();
+        for (String node : ring.nodes()) {
+            if (!node.equals(nodeId)) pending.put(node, transport.request(node, new RelayMessage.Lobby()));
+        }
+
+        Map<String, Long> versions = new TreeMap<>();
+        List<RoomSummary> rooms = new ArrayList<>(local.rooms());
+        versions.put(nodeId, local.version());
+        long deadline = System.nanoTime() + requestTimeout.toNanos();
+        for (Map.Entry<String, CompletableFuture<RoomService.LobbyView>> entry : pending.entrySet()) {
+            try {
+                long wait = Math.max(0, deadline - System.nanoTime());
+                RoomService.LobbyView remote = entry.getValue().get(wait, TimeUnit.NANOSECONDS);
+                rooms.addAll(remote.rooms());
+                versions.put(entry.getKey(), remote.version());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("노드 {} 로비 목록 없음", entry.getKey(), e);
+            }
+        }
+        rooms.sort(RoomService.LOBBY_ORDER);
+        // ETag용 합친 버전 (노드별 버전 중 하나라도 바뀌면 달라짐)
+        long combined = ConsistentHashRing.hash(versions.toString());
+        return new RoomService.LobbyView(combined, List.copyOf(rooms), Map.copyOf(versions));
+    }
+}
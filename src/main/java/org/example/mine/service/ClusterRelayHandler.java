@@ -0,0 +1,103 @@
+package org.example.mine.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.MegaMineRoom;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+// 다른 노드에서 온 메시지 처리 (클러스터 모드에서만 등록)
+// - Inbound : 이 노드가 주인인 방에 대한 다른 노드 세션의 요청 -> 세션 id를 "노드@세션" 으로 바꿔 GameService로
+// - Frame : 주인 노드가 보낸 본문 -> 이 노드 브로커로 (RELAYED 표시 -> 다시 다른 노드로 돌려보내지 않음)
+// - SessionClosed : 다른 노드 세션이 끊김 -> "노드@세션" 으로 쌓인 채팅 제한 상태 정리
+// - Request : 방 생성/조회, 청크, 로비 목록
+@Component
+@RequiredArgsConstructor
+public class ClusterRelayHandler implements RelayTransport.Handler {
+    // 다른 노드에서 받아 이 노드 브로커로 흘린 프레임 표시 (ClusterRelayInterceptor가 보고 건너뜀)
+    public static final String RELAYED_HEADER = "mineRelayed";
+
+    private final ClusterNode clusterNode;
+    private final GameService gameService;
+    private final RoomService roomService;
+    private final ChatLimiter chatLimiter;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JsonMapper jsonMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        clusterNode.start(this);
+    }
+
+    @Override
+    public void onMessage(RelayMessage message) {
+        if (message instanceof RelayMessage.Frame frame) {
+            deliver(frame);
+        } else if (message instanceof RelayMessage.Inbound inbound) {
+            dispatch(inbound);
+        } else if (message instanceof RelayMessage.SessionClosed closed) {
+            chatLimiter.sessionClosed(ClusterNode.qualify(closed.origin(), closed.sessionId()));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R onRequest(RelayMessage.Request<R> request) {
+        Object result;
+        if (request instanceof RelayMessage.CreateRoom create) {
+            result = create(create);
+        } else if (request instanceof RelayMessage.FindRoom find) {
+            BaseGameRoom room = roomService.findRoom(find.roomId());
+            result = room == null ? null : jsonMapper.writeValueAsBytes(room);
+        } else if (request instanceof RelayMessage.FindChunk chunk) {
+            result = roomService.findRoom(chunk.roomId()) instanceof MegaMineRoom room
+                    ? gameService.chunkView(room, chunk.cr(), chunk.cc())
+                    : null;
+        } else if (request instanceof RelayMessage.Lobby) {
+            result = roomService.getLobbyView();
+        } else {
+            throw new IllegalArgumentException("알 수 없는 요청: " + request);
+        }
+        return (R) result;
+    }
+
+    // 주인 노드에서 방 생성 (요청한 노드가 정한 id 그대로) / 정원이 차면 null
+    private byte[] create(RelayMessage.CreateRoom create) {
+        if (!roomService.hasCapacity()) return null;
+        BaseGameRoom room = switch (create.mode()) {
+            case "MEGA" -> roomService.createMegaRoom(create.roomId(), create.name(), create.rows(), create.cols(), create.density());
+            case "REALTIME" -> roomService.createRealtimeRoom(create.roomId(), create.name(), create.rows(), create.cols(), create.mines());
+            default -> roomService.createRoom(create.roomId(), create.name(), create.rows(), create.cols(), create.mines());
+        };
+        return jsonMapper.writeValueAsBytes(room);
+    }
+
+    private void dispatch(RelayMessage.Inbound inbound) {
+        String roomId = inbound.roomId();
+        String sessionId = ClusterNode.qualify(inbound.origin(), inbound.sessionId());
+        switch (inbound.command()) {
+            case JOIN -> gameService.join(roomId, inbound.message(), sessionId);
+            case RESUME -> gameService.resume(roomId, inbound.message(), sessionId);
+            case CHAT -> gameService.chat(roomId, inbound.message(), sessionId);
+            case ACTION -> gameService.handleGameAction(roomId, inbound.message(), sessionId);
+            case EXIT -> gameService.exit(roomId, inbound.message());
+            case DISCONNECT -> gameService.disconnected(roomId, inbound.message(), sessionId);
+        }
+    }
+
+    private void deliver(RelayMessage.Frame frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (frame.sessionId() != null) accessor.setSessionId(frame.sessionId());
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(frame.destination(), MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.mine.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// 방 주인 노드 결정 (consistent hashing)
+// 노드마다 가상 노드 virtualNodes개를 원 위에 뿌리고, 키는 시계 방향으로 처음 만나는 점의 노드가 가짐
+// -> 노드가 하나 빠지거나 늘어도 그 노드 몫의 방만 옮겨 감 / 불변 객체 (노드 목록이 바뀌면 새로 만듦)
+// 점은 정렬된 long[] + 같은 순서의 주인 배열 (조회는 이진 탐색, 할당 없음)
+public final class ConsistentHashRing {
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) throw new IllegalArgumentException("노드가 없습니다.");
+        if (virtualNodes < 1) throw new IllegalArgumentException("virtualNodes는 1 이상");
+        this.nodes = List.copyOf(nodes);
+
+        int size = this.nodes.size() * virtualNodes;
+        long[] hashed = new long[size];
+        String[] byPoint = new String[size];
+        int i = 0;
+        for (String node : this.nodes) {
+            for (int v = 0; v < virtualNodes; v++) {
+                hashed[i] = hash(node + "#" + v);
+                byPoint[i] = node;
+                i++;
+            }
+        }
+
+        // 점 기준으로 정렬 (같은 점이면 노드 이름 순 -> 노드 나열 순서와 무관하게 같은 원)
+        Integer[] order = new Integer[size];
+        for (int k = 0; k < size; k++) order[k] = k;
+        Arrays.sort(order, (a, b) -> {
+            int c = Long.compare(hashed[a], hashed[b]);
+            return c != 0 ? c : byPoint[a].compareTo(byPoint[b]);
+        });
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int k = 0; k < size; k++) {
+            points[k] = hashed[order[k]];
+            owners[k] = byPoint[order[k]];
+        }
+    }
+
+    public String ownerOf(String key) {
+        int idx = Arrays.binarySearch(points, hash(key));
+        if (idx < 0) idx = -idx - 1;
+        if (idx == points.length) idx = 0; // 원이라 끝을 넘으면 처음으로
+        return owners[idx];
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    // FNV-1a 64 + murmur3 마무리 섞기 (비슷한 키 "node#1", "node#2"도 원 위에 고르게)
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 게임 진행 관련 지표 모음 (방 수/메일박스/보드 풀 등은 각 컴포넌트가 직접 등록)
+// 태그 값은 정해진 집합만 사용 (클라이언트가 보낸 actionType을 그대로 태그로 쓰면 시계열이 끝없이 늘어남)
+@Component
+public class GameMetrics {
+    private static final Set<String> ACTION_TYPES = Set.of("START", "OPEN", "FLAG", "CHORD", "BATCH", "RESYNC", "HINT");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> actionTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> syncCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> exitCounters = new ConcurrentHashMap<>();
+    private final Counter resumeReplayed;
+    private final Counter resumeFailed;
+
+    public GameMetrics(MeterRegistry meterRegistry, RoomService roomService) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("mine.player.count", roomService, RoomService::playerCount)
+                .description("전체 방의 참가자 수")
+                .register(meterRegistry);
+        this.resumeReplayed = Counter.builder("mine.session.resume").tag("result", "replayed").register(meterRegistry);
+        this.resumeFailed = Counter.builder("mine.session.resume").tag("result", "failed").register(meterRegistry);
+    }
+
+    // handleAction 처리 시간 (actionType별)
+    public void recordAction(String actionType, long nanos) {
+        String tag = ACTION_TYPES.contains(actionType) ? actionType : "OTHER";
+        actionTimers.computeIfAbsent(tag, t -> Timer.builder("mine.action.handle")
+                        .tag("actionType", t)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(Duration.ofSeconds(1))
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 전체 상태 전송 (join / resync / resume)
+    public void syncSent(String reason) {
+        counter(syncCounters, "mine.sync.sent", "reason", reason).increment();
+    }
+
+    // 퇴장 원인 (explicit : 나가기 버튼 / disconnect : 연결이 끊긴 뒤 유예 시간 만료)
+    public void exit(String cause) {
+        counter(exitCounters, "mine.session.exit", "cause", cause).increment();
+    }
+
+    public void resume(boolean success) {
+        (success ? resumeReplayed : resumeFailed).increment();
+    }
+
+    private Counter counter(Map<String, Counter> cache, String name, String key, String value) {
+        return cache.computeIfAbsent(value, v -> Counter.builder(name).tag(key, v).register(meterRegistry));
+    }
+}
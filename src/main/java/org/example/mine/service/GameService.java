@@ -1,26 +1,62 @@
 package org.example.mine.service;
 
 import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.BoardCodec;
+import org.example.mine.dto.GameAction;
+import org.example.mine.dto.GameEvent;
 import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.GeneratedBoard;
+import org.example.mine.dto.MegaMineRoom;
+import org.example.mine.dto.MineRoom;
 import org.example.mine.dto.Player;
+import org.example.mine.dto.RealtimeMineRoom;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.stereotype.Service;
 
+import static org.example.mine.conf.HotPathSamplingFilter.HOT_PATH;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GameService {
     private final RoomService roomService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final org.example.common.service.ScoreSender scoreSender;
-    // 입장 처리
-    public void join(String roomId, GameMessage message) {
+    private final ScoreSubmissionQueue scoreQueue;
+    private final RoomExecutor roomExecutor;
+    private final RoomEventLog eventLog;
+    private final RoomMessageHistory history;
+    private final SessionResumeRegistry resumeRegistry;
+    private final BoardGenerator boardGenerator;
+    private final GameMetrics metrics;
+    private final RoomBroadcaster roomBroadcaster;
+    private final ChatLimiter chatLimiter;
+
+    // 특정 세션에게만 보내는 메시지 (SYNC, 놓친 메시지 재전송 등) : /user/queue/room
+    public static final String USER_QUEUE = "/queue/room";
+
+    // 입장 처리 (방 메일박스에서 순서대로 실행)
+    public void join(String roomId, GameMessage message, String sessionId) {
+        if (roomService.findRoom(roomId) == null) return;
+        roomExecutor.submit(roomId, () -> doJoin(roomId, message, sessionId));
+    }
+
+    private void doJoin(String roomId, GameMessage message, String sessionId) {
         BaseGameRoom room = roomService.findRoom(roomId);
         if (room == null) return;
-        if (room.isPlaying()) return;
+        if (!room.isJoinable()) return;
+        if (room.getUsers().size() >= room.getMaxPlayers()) return; // 정원 초과
         Player newPlayer = new Player(message.getSender(), message.getSenderId());
 
         // [추가] 로그인 유저 체크 및 ID 저장 로직
@@ -28,93 +64,351 @@ public class GameService {
             String realId = (String) message.getData().get("dbUsername");
             if (realId != null && !realId.equals("null") && !realId.isEmpty()) {
                 newPlayer.setDbUsername(realId);
-                System.out.println("✅ 로그인 유저 입장: " + newPlayer.getNickname() + " (" + realId + ")");
+                log.info(HOT_PATH, "로그인 유저 입장 room={} nickname={} user={}", roomId, newPlayer.getNickname(), realId);
             }
         }
+        // 보드 압축 인코딩 지원 여부 (SYNC/GAME_START 전송 형식 협상)
+        if (message.getData() != null && BoardCodec.PACKED.equals(message.getData().get("boardEncoding"))) {
+            newPlayer.set("boardEncoding", BoardCodec.PACKED);
+        }
 
         room.enterUser(newPlayer);
+        resumeRegistry.bind(roomId, newPlayer.getId(), sessionId);
+        eventLog.joined(roomId, newPlayer);
+        roomService.markLobbyChanged(roomId);
 
         message.setType("JOIN");
         message.setContent(message.getSender() + "님이 입장하셨습니다.");
         broadcast(roomId, message);
 
-        // ... (기존 broadcast 코드) ...
-
-        // [Tip] 실제 구현 시 주석 해제: 기존 유저 정보를 신규 유저에게 동기화
-//        for (Player p : room.getUsers().values()) {
-//            if (p.getId().equals(message.getSenderId())) continue; // 나 자신 제외
-//
-//            GameMessage syncMsg = GameMessage.builder()
-//                    .type("JOIN")
-//                    .sender(p.getNickname())
-//                    .senderId(p.getId())
-//                    // Player의 attributes나 skinUrl을 data에 담아서 전송
-//                    .data(Map.of("semple", "semple"))
-//                    .build();
-//
-//            messagingTemplate.convertAndSend("/topic/" + roomId, syncMsg);
-//        }
+        // 기존 플레이어는 보드를 이미 갖고 있으므로 전체 상태는 들어온 세션에게만
         GameMessage syncMsg = new GameMessage();
         syncMsg.setType("SYNC");
         syncMsg.setRoomId(roomId);
         syncMsg.setSender("SYSTEM");
-        syncMsg.setData(room.getGameSnapshot()); // BaseGameRoom에 추가한 메서드 호출
+        syncMsg.setData(room.getGameSnapshot(newPlayer.getId())); // 들어온 세션이 받을 수 있는 형식으로
+        sendToSession(roomId, sessionId, syncMsg);
+        metrics.syncSent("join");
+    }
+
+    // 재접속 : 유예 중인 퇴장을 취소하고 놓친 메시지만 다시 보냄 (링에서 밀려났으면 전체 SYNC)
+    public void resume(String roomId, GameMessage message, String sessionId) {
+        if (roomService.findRoom(roomId) == null) {
+            sendResumeFailed(roomId, sessionId);
+            return;
+        }
+        roomExecutor.submit(roomId, () -> {
+            BaseGameRoom room = roomService.findRoom(roomId);
+            boolean stillInRoom = room != null && room.getUsers().containsKey(message.getSenderId());
+            resumeRegistry.cancelExit(roomId, message.getSenderId());
+            if (!stillInRoom) {
+                metrics.resume(false);
+                sendResumeFailed(roomId, sessionId);
+                return;
+            }
+            metrics.resume(true);
+            resumeRegistry.bind(roomId, message.getSenderId(), sessionId);
+
+            Object lastSeq = message.getData() != null ? message.getData().get("lastSeq") : null;
+            List<byte[]> missed = lastSeq instanceof Number n ? missedSince(roomId, n.longValue()) : null;
+            if (missed == null) {
+                GameMessage syncMsg = new GameMessage();
+                syncMsg.setType("SYNC");
+                syncMsg.setRoomId(roomId);
+                syncMsg.setSender("SYSTEM");
+                syncMsg.setData(room.getGameSnapshot(message.getSenderId()));
+                sendToSession(roomId, sessionId, syncMsg);
+                metrics.syncSent("resume");
+            } else {
+                // 방에 보낸 본문 그대로 (다시 인코딩하지 않음, 여러 개면 한 프레임)
+                roomBroadcaster.sendToSession(sessionId, USER_QUEUE, missed);
+            }
+        });
+    }
+
+    // 연결 끊김 : 유예 시간 안에 resume 하지 않으면 퇴장
+    public void disconnected(String roomId, GameMessage exitMsg, String sessionId) {
+        // 이미 새 세션으로 resume 한 뒤 옛 세션 끊김이 늦게 도착한 경우
+        if (!resumeRegistry.isActiveSession(roomId, exitMsg.getSenderId(), sessionId)) return;
+        log.info(HOT_PATH, "연결 끊김 room={} player={}", roomId, exitMsg.getSender());
+        if (!resumeRegistry.isEnabled()) {
+            metrics.exit("disconnect");
+            leave(roomId, exitMsg);
+            return;
+        }
+        resumeRegistry.scheduleExit(roomId, exitMsg.getSenderId(), () -> {
+            metrics.exit("disconnect");
+            leave(roomId, exitMsg);
+        });
+    }
 
-        // 특정 유저에게만 보내는 게 정석이지만, 템플릿 구조상 전체 broadcast 후 클라이언트가 필터링해도 됨
-        broadcast(roomId, syncMsg);
+    // 기동 시 방 복구 : 복구된 인원은 아직 세션이 없음 -> 유예 시간 안에 resume 하지 않으면 퇴장 (차례가 멈추지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverRooms() {
+        for (BaseGameRoom room : roomService.recoverRooms()) {
+            String roomId = room.getRoomId();
+            for (Player player : room.getUsers().values()) {
+                GameMessage exitMsg = GameMessage.builder()
+                        .type("EXIT")
+                        .sender(player.getNickname())
+                        .senderId(player.getId())
+                        .build();
+                resumeRegistry.scheduleExit(roomId, player.getId(), () -> {
+                    metrics.exit("recovery");
+                    leave(roomId, exitMsg);
+                });
+            }
+        }
     }
 
-    // 게임 행동 처리 (핵심)
-    public void handleGameAction(String roomId, GameMessage message) {
+    // 게임 행동 처리 (핵심, 방 메일박스에서 순서대로 실행)
+    public void handleGameAction(String roomId, GameMessage message, String sessionId) {
+        BaseGameRoom room = roomService.findRoom(roomId);
+        if (room == null) return;
+        // 실시간 방의 칸 행동은 메일박스를 거치지 않고 이 스레드에서 바로 (방 안에서 칸 단위 CAS, 결과는 주기 전송)
+        if (room instanceof RealtimeMineRoom realtime && RealtimeMineRoom.isMove(message.resolveAction())) {
+            realtime.touch();
+            long started = System.nanoTime();
+            realtime.handleAction(message);
+            metrics.recordAction(message.resolveAction().actionType(), System.nanoTime() - started);
+            return;
+        }
+        roomExecutor.submit(roomId, () -> doGameAction(roomId, message, sessionId));
+    }
+
+    // 실시간 방 주기 전송 : 바뀐 칸이 있는 방만 메일박스에 전송 작업을 넣음 (입장/퇴장 메시지와 순서 유지)
+    @Scheduled(fixedDelayString = "${mine.realtime.tick-ms:50}")
+    public void flushRealtimeRooms() {
+        for (BaseGameRoom room : roomService.findAll()) {
+            if (room instanceof RealtimeMineRoom realtime && realtime.hasPendingChanges()) {
+                roomExecutor.submit(room.getRoomId(), () -> flushRealtime(realtime));
+            }
+        }
+    }
+
+    private void flushRealtime(RealtimeMineRoom room) {
+        String roomId = room.getRoomId();
+        if (roomService.findRoom(roomId) != room) return; // 그 사이 삭제된 방
+        boolean wasPlaying = room.isPlaying();
+        GameMessage delta = room.drainDelta();
+        if (delta == null) return;
+        if (room.isPlaying() != wasPlaying) roomService.markLobbyChanged(roomId);
+        if ("GAME_OVER".equals(delta.getType()) && delta.getEvent() instanceof GameEvent.Update update) {
+            endGame(roomId, new ArrayList<>(room.getUsers().values()), update.winnerIds());
+        }
+        broadcast(roomId, delta);
+    }
+
+    private void doGameAction(String roomId, GameMessage message, String sessionId) {
         BaseGameRoom room = roomService.findRoom(roomId);
         if (room != null) {
+            room.touch();
+
+            // 타입 있는 액션으로 (예전 클라이언트의 data 맵은 여기서 한 번만 변환)
+            GameAction action = message.resolveAction();
+            // 시드는 항상 서버가 정함 (클라이언트가 보낸 값은 버림) -> 이벤트 로그 재생 시 같은 보드
+            if (action instanceof GameAction.Start) {
+                action = prepareStart(room);
+                message.setAction(action);
+            }
+
+            boolean wasPlaying = room.isPlaying();
+            long started = System.nanoTime();
             GameMessage result = room.handleAction(message);
+            metrics.recordAction(action.actionType(), System.nanoTime() - started);
+            if (room.isPlaying() != wasPlaying) roomService.markLobbyChanged(roomId);
             if (result != null) {
+                // 상태를 바꾼 액션만 기록 (전체 상태 재요청, 힌트는 요청한 세션에게 답만 함), 게임이 끝나면 로그 압축
+                boolean reply = action instanceof GameAction.Resync || action instanceof GameAction.Hint;
+                if (!reply && (room.isPlaying() || wasPlaying)) eventLog.action(roomId, message);
+                if (wasPlaying && !room.isPlaying()) eventLog.compact(room);
                 // GAME_OVER일 때 승자 정보 추출
                 if ("GAME_OVER".equals(result.getType())) {
-                    List<String> winnerIds = (List<String>) result.getData().get("winnerIds");
+                    List<String> winnerIds = result.getEvent() instanceof GameEvent.Update update
+                            ? update.winnerIds()
+                            : winnerIds(result.getData());
                     // endGame에 승자 명단 전달
                     endGame(roomId, new ArrayList<>(room.getUsers().values()), winnerIds);
                 }
-                broadcast(roomId, result);
+                // RESYNC 응답(전체 상태)과 힌트는 요청한 세션에게만
+                if ("SYNC".equals(result.getType())) metrics.syncSent("resync");
+                if ("SYNC".equals(result.getType()) || "HINT".equals(result.getType())) {
+                    sendToSession(roomId, sessionId, result);
+                    return;
+                }
+                // 방 종류에 따라 여러 토픽으로 나눠 보냄 (초대형 보드는 청크별 토픽)
+                room.routeMessage(result).forEach((suffix, msg) -> broadcast(roomId, suffix, msg));
             }
         }
     }
 
-    public void chat(String roomId, GameMessage message) {
+    // 예전 data 맵의 승자 명단 (없거나 목록이 아니면 null -> 아무도 점수를 못 받음)
+    private static List<String> winnerIds(Map<String, Object> data) {
+        if (data == null || !(data.get("winnerIds") instanceof List<?> ids)) return null;
+        return ids.stream().map(String::valueOf).toList();
+    }
+
+    // 초대형 보드 청크 조회 : 현재 보기만 돌려줌 (상태를 바꾸지 않음)
+    // 이 청크에서 멈춘 빈칸 연쇄가 있으면 FLOOD 액션을 메일박스에 넣음 -> 기록되고 청크 구독자에게 전송
+    // (클라이언트는 청크 토픽을 먼저 구독하고 조회하므로 이어서 열린 칸은 토픽으로 받음)
+    public byte[] chunkView(MegaMineRoom room, int cr, int cc) {
+        if (room.hasPendingFlood(cr, cc)) {
+            String roomId = room.getRoomId();
+            GameMessage flood = GameMessage.builder()
+                    .type("ACTION")
+                    .roomId(roomId)
+                    .sender("SYSTEM")
+                    .action(new GameAction.Flood(cr, cc))
+                    .build();
+            roomExecutor.submit(roomId, () -> doGameAction(roomId, flood, null));
+        }
+        return room.getChunkView(cr, cc);
+    }
+
+    // 시작 보드 결정 : 풀에 준비된 no-guess 보드가 있으면 그 시드를, 없으면 새 시드로 일반 보드 (첫 칸 안전은 동일)
+    private GameAction.Start prepareStart(BaseGameRoom room) {
+        if (room instanceof MineRoom mineRoom && !mineRoom.isPlaying()) {
+            GeneratedBoard ready = boardGenerator.take(mineRoom.getROWS(), mineRoom.getCOLS(), mineRoom.getMINES());
+            if (ready != null) {
+                mineRoom.prepareBoard(ready);
+                return new GameAction.Start(ready.seed(), ready.noGuess()); // 풀의 보드는 풀이기를 통과한 것뿐
+            }
+        }
+        return new GameAction.Start(ThreadLocalRandom.current().nextLong(), null);
+    }
+
+    // 채팅 (도배 방지 통과한 것만, 클라이언트가 보낸 본문 그대로가 아니라 채팅 필드만 다시 담아 전송)
+    public void chat(String roomId, GameMessage message, String sessionId) {
+        if (roomService.findRoom(roomId) == null) return;
+        if (!chatLimiter.check(roomId, sessionId, message.getContent()).allowed()) return;
         // 정답 체크 로직이 필요하면 여기서 room.checkAnswer() 등을 호출 가능
-        broadcast(roomId, message);
+        broadcast(roomId, GameMessage.builder()
+                .type("CHAT")
+                .roomId(roomId)
+                .sender(message.getSender())
+                .senderId(message.getSenderId())
+                .content(message.getContent())
+                .build());
     }
     public void endGame(String roomId, List<Player> players, List<String> winnerIds) {
         // winnerIds가 null이면(전원 탈락 등) 아무도 점수를 못 받음
         if (winnerIds == null) return;
-        System.out.println(winnerIds);
         for (Player player : players) {
             if (player.getDbUsername() == null) continue;
 
             if (winnerIds.contains(player.getId())) {
-                scoreSender.sendScore(
-                        player.getDbUsername(),
-                        "Mine",
-                        -1
-                );
-                System.out.println("🏆 승리 기록 전송: " + player.getNickname());
+                // 큐에 넣기만 하고 바로 반환 (전송은 별도 스레드)
+                scoreQueue.submit(new ScoreRecord(player.getDbUsername(), "Mine", -1));
+                log.info("승리 기록 전송 예약 room={} nickname={}", roomId, player.getNickname());
             }
         }
     }
+    // 나가기 버튼 (명시적 퇴장)
     public void exit(String roomId, GameMessage message) {
+        metrics.exit("explicit");
+        leave(roomId, message);
+    }
+
+    private void leave(String roomId, GameMessage message) {
+        resumeRegistry.cancelExit(roomId, message.getSenderId());
+        resumeRegistry.unbind(roomId, message.getSenderId());
+        if (roomService.findRoom(roomId) == null) return;
+        roomExecutor.submit(roomId, () -> doExit(roomId, message));
+    }
+
+    private void doExit(String roomId, GameMessage message) {
         BaseGameRoom room = roomService.findRoom(roomId);
-        if (room != null) {
+        // 명시적 퇴장 뒤 연결 끊김으로 한 번 더 들어오는 경우 무시
+        if (room != null && room.getUsers().containsKey(message.getSenderId())) {
             room.exitUser(message.getSenderId());
+            eventLog.exited(roomId, message.getSenderId());
             if (room.getUsers().isEmpty()) {
-                roomService.deleteRoom(roomId);
+                roomService.deleteRoom(roomId); // 메일박스는 삭제 이벤트로 닫힘 (RoomExecutor)
+                history.remove(roomId);
+                roomBroadcaster.remove(roomId);
             } else {
+                roomService.markLobbyChanged(roomId);
                 broadcast(roomId, message);
             }
         }
     }
 
+    // 방 강제 종료 (RoomReaper) : 남은 인원에게 알리고 방 삭제
+    public void closeRoom(String roomId, String reason) {
+        roomExecutor.submit(roomId, () -> {
+            BaseGameRoom room = roomService.findRoom(roomId);
+            if (room == null) return;
+            if (!room.getUsers().isEmpty()) {
+                GameMessage closeMsg = new GameMessage();
+                closeMsg.setType("ROOM_CLOSED");
+                closeMsg.setRoomId(roomId);
+                closeMsg.setSender("SYSTEM");
+                closeMsg.setContent(reason);
+                broadcast(roomId, closeMsg);
+            }
+            roomService.deleteRoom(roomId);
+            history.remove(roomId);
+            roomBroadcaster.remove(roomId); // ROOM_CLOSED가 묶음에 남아 있으면 보내고 정리
+        });
+    }
+
+    // 방 전체 전송 : 순번을 붙이고 링에 기록 (번호 붙이기와 전송을 같은 락 안에서 -> 번호 순서대로 나감)
+    // JSON 인코딩은 여기서 한 번 (구독자 전체, 재접속 재전송이 같은 본문을 씀)
     private void broadcast(String roomId, GameMessage message) {
-        messagingTemplate.convertAndSend("/topic/" + roomId, message);
+        RoomMessageHistory.Ring ring = history.ring(roomId);
+        synchronized (ring) {
+            roomBroadcaster.publish(roomId, ring.append(message, roomBroadcaster::encode));
+        }
+    }
+
+    // 방 하위 토픽 전송 (빈 접미사는 방 토픽) : 같은 링 락 안에서 -> 앞선 방 메시지보다 먼저 나가지 않음
+    // 하위 토픽은 순번/재전송 대상이 아님 (청크는 재접속 시 클라이언트가 다시 조회)
+    private void broadcast(String roomId, String suffix, GameMessage message) {
+        if (suffix.isEmpty()) {
+            broadcast(roomId, message);
+            return;
+        }
+        RoomMessageHistory.Ring ring = history.ring(roomId);
+        synchronized (ring) {
+            roomBroadcaster.publish(roomId, suffix, roomBroadcaster.encode(message));
+        }
+    }
+
+    // 놓친 방 메시지 본문 : 묶음에 남은 것을 먼저 내보낸 뒤 (링 락 안에서 -> 그 사이 새 메시지가 끼지 않음)
+    private List<byte[]> missedSince(String roomId, long lastSeq) {
+        RoomMessageHistory.Ring ring = history.ring(roomId);
+        synchronized (ring) {
+            roomBroadcaster.flush(roomId);
+            return ring.payloadsSince(lastSeq);
+        }
+    }
+
+    // 한 세션에게만 전송 (전체 상태는 현재 방 순번을 달고 감 -> 클라이언트가 이어받을 기준)
+    // 묶음에 남은 방 메시지를 먼저 보냄 (그보다 번호가 큰 SYNC가 먼저 도착하면 클라이언트가 중복으로 보고 버림)
+    private void sendToSession(String roomId, String sessionId, GameMessage message) {
+        if (sessionId == null) return;
+        RoomMessageHistory.Ring ring = history.ring(roomId);
+        synchronized (ring) {
+            roomBroadcaster.flush(roomId);
+            message.setSeq(ring.lastSeq());
+        }
+        messagingTemplate.convertAndSendToUser(sessionId, USER_QUEUE, message, sessionHeaders(sessionId));
+    }
+
+    private void sendResumeFailed(String roomId, String sessionId) {
+        GameMessage failed = new GameMessage();
+        failed.setType("RESUME_FAILED");
+        failed.setRoomId(roomId);
+        failed.setSender("SYSTEM");
+        failed.setContent("방에 다시 들어갈 수 없습니다.");
+        messagingTemplate.convertAndSendToUser(sessionId, USER_QUEUE, failed, sessionHeaders(sessionId));
+    }
+
+    // Principal 없이 세션 ID로 /user 목적지를 쓰기 위한 헤더
+    private static Map<String, Object> sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
     }
 }
\ No newline at end of file
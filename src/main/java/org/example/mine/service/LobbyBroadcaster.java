@@ -0,0 +1,74 @@
+package org.example.mine.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mine.dto.BaseGameRoom;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.example.mine.service.RoomChangedEvent.Type.*;
+
+// 로비 푸시 (/topic/lobby)
+// 방 변경 이벤트를 방별로 모아 두었다가 flush 주기마다 한 프레임으로 전송
+// (같은 방의 여러 변경은 마지막 상태 하나로 합침 -> 바쁜 서버에서도 로비 트래픽이 주기당 1프레임)
+@Component
+@RequiredArgsConstructor
+public class LobbyBroadcaster {
+    public static final String LOBBY_TOPIC = "/topic/lobby";
+
+    private final RoomService roomService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterNode clusterNode;
+
+    private final Map<String, RoomChangedEvent.Type> pending = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        pending.merge(event.roomId(), event.type(), LobbyBroadcaster::coalesce);
+    }
+
+    @Scheduled(fixedDelayString = "${mine.lobby.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Map<String, Object>> events = new ArrayList<>();
+        for (String roomId : new ArrayList<>(pending.keySet())) {
+            RoomChangedEvent.Type type = pending.remove(roomId);
+            if (type == null) continue;
+
+            BaseGameRoom room = roomService.findRoom(roomId);
+            Map<String, Object> event = new HashMap<>();
+            event.put("roomId", roomId);
+            if (type == REMOVED || room == null) {
+                event.put("type", "ROOM_REMOVED");
+            } else {
+                event.put("type", type == CREATED ? "ROOM_CREATED" : "ROOM_UPDATED");
+                event.put("room", room.toSummary());
+            }
+            events.add(event);
+        }
+        if (events.isEmpty()) return;
+
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("type", "LOBBY_EVENTS");
+        frame.put("version", roomService.getLobbyView().version());
+        frame.put("events", events);
+        // 클러스터 모드 : 버전은 노드마다 따로 -> 어느 노드의 변경인지 표시 (다른 노드로는 ClusterRelayInterceptor가 복사)
+        if (clusterNode.isEnabled()) frame.put("node", clusterNode.nodeId());
+        messagingTemplate.convertAndSend(LOBBY_TOPIC, (Object) frame); // Map 그대로면 (목적지, 헤더) 오버로드와 모호
+    }
+
+    // 같은 주기 안의 변경 합치기 (생성 후 삭제는 아예 보내지 않음)
+    private static RoomChangedEvent.Type coalesce(RoomChangedEvent.Type prev, RoomChangedEvent.Type next) {
+        if (prev == CREATED && next == REMOVED) return null;
+        if (prev == CREATED) return CREATED;
+        return next;
+    }
+}
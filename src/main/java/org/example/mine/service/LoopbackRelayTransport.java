@@ -0,0 +1,62 @@
+package org.example.mine.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 같은 JVM 안의 노드끼리 바로 호출하는 전송 (직렬화 없음)
+// 한 머신에서 여러 노드를 띄워 보는 용도 : 테스트에서 ClusterNode 여러 개, 또는 포트만 다른 애플리케이션 여러 개 (shared())
+// 보내는 스레드에서 받는 쪽 핸들러를 그대로 호출 -> 같은 대상에게 보낸 순서가 유지됨
+@Slf4j
+public class LoopbackRelayTransport implements RelayTransport {
+    private static final LoopbackRelayTransport SHARED = new LoopbackRelayTransport();
+
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+
+    // JVM 전체에서 하나 (같은 프로세스의 스프링 컨텍스트끼리 클러스터를 이룸)
+    public static LoopbackRelayTransport shared() {
+        return SHARED;
+    }
+
+    @Override
+    public void register(String nodeId, Handler handler) {
+        if (handlers.putIfAbsent(nodeId, handler) != null) {
+            throw new IllegalStateException("이미 등록된 노드: " + nodeId);
+        }
+    }
+
+    @Override
+    public void unregister(String nodeId) {
+        handlers.remove(nodeId);
+    }
+
+    @Override
+    public void send(String nodeId, RelayMessage message) {
+        Handler handler = handlers.get(nodeId);
+        if (handler == null) {
+            log.debug("노드 {} 없음, 버림: {}", nodeId, message.getClass().getSimpleName());
+            return;
+        }
+        try {
+            handler.onMessage(message);
+        } catch (Exception e) {
+            // 받는 노드의 실패가 보내는 노드로 번지지 않게 (네트워크 전송과 같은 동작)
+            log.warn("노드 {} 전달 실패", nodeId, e);
+        }
+    }
+
+    @Override
+    public <R> CompletableFuture<R> request(String nodeId, RelayMessage.Request<R> request) {
+        Handler handler = handlers.get(nodeId);
+        if (handler == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("노드 없음: " + nodeId));
+        }
+        try {
+            return CompletableFuture.completedFuture(handler.onRequest(request));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.common.service.ScoreSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 랭킹 조회 캐시 (gameType별)
+// - ttl 안: 캐시 그대로 / stale 구간: 캐시를 주고 뒤에서 갱신 / 그 이후: 동기 조회
+// - 같은 gameType의 동시 조회는 원격 호출 하나로 합침 (single-flight)
+// - 새 점수가 랭킹 서버에 반영되면 해당 gameType 캐시를 버림
+// - gameType은 클라이언트가 보낸 값이므로 캐시 크기 제한 (max-entries, 가장 오래 안 쓴 것부터 버림) + stale-ttl 지난 항목은 조회 때 삭제
+@Component
+public class RankingCache {
+    private final ScoreSender scoreSender;
+    private final Duration ttl;
+    private final Duration staleTtl;
+
+    // 접근 순서 LinkedHashMap (LRU)
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    // 무효화 세대: 조회 도중 무효화되면 그 결과는 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ranking-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Timer loadTimer;
+
+    public RankingCache(ScoreSender scoreSender,
+                        MeterRegistry meterRegistry,
+                        @Value("${mine.ranking.cache.ttl:10s}") Duration ttl,
+                        @Value("${mine.ranking.cache.stale-ttl:60s}") Duration staleTtl,
+                        @Value("${mine.ranking.cache.max-entries:32}") int maxEntries) {
+        this.scoreSender = scoreSender;
+        this.ttl = ttl;
+        this.staleTtl = staleTtl;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("mine.ranking.cache").tag("result", "hit").register(meterRegistry);
+        this.staleHits = Counter.builder("mine.ranking.cache").tag("result", "stale").register(meterRegistry);
+        this.misses = Counter.builder("mine.ranking.cache").tag("result", "miss").register(meterRegistry);
+        this.loadTimer = Timer.builder("mine.ranking.load")
+                .description("랭킹 서버 조회 시간")
+                .register(meterRegistry);
+    }
+
+    public ResponseEntity<Object> get(String gameType) {
+        String key = gameType != null ? gameType : "";
+        Entry entry = entries.get(key);
+        long now = System.currentTimeMillis();
+
+        if (entry != null && now < entry.loadedAt() + ttl.toMillis()) {
+            hits.increment();
+            return entry.value();
+        }
+        if (entry != null && now < entry.loadedAt() + staleTtl.toMillis()) {
+            staleHits.increment();
+            if (!inFlight.containsKey(key)) refresher.execute(() -> load(key, gameType));
+            return entry.value();
+        }
+        if (entry != null) entries.remove(key, entry);
+
+        misses.increment();
+        try {
+            return load(key, gameType).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    public void invalidate(String gameType) {
+        generation.incrementAndGet();
+        entries.remove(gameType != null ? gameType : "");
+    }
+
+    @EventListener
+    public void onScoreDelivered(ScoreDeliveredEvent event) {
+        invalidate(event.record().gameType());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 이미 조회 중이면 그 결과를 같이 기다림
+    private CompletableFuture<ResponseEntity<Object>> load(String key, String gameType) {
+        CompletableFuture<ResponseEntity<Object>> mine = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) return existing;
+
+        long startGeneration = generation.get();
+        try {
+            ResponseEntity<Object> value = loadTimer.record(() -> scoreSender.ranking(gameType));
+            // 정상 응답만 캐시 (오류 응답은 다음 조회 때 다시 시도)
+            if (value != null && value.getStatusCode().is2xxSuccessful() && generation.get() == startGeneration) {
+                entries.put(key, new Entry(value, System.currentTimeMillis()));
+            }
+            mine.complete(value);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return mine;
+    }
+
+    private record Entry(ResponseEntity<Object> value, long loadedAt) {
+    }
+}
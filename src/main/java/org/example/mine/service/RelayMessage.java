@@ -0,0 +1,51 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.GameMessage;
+
+import java.util.UUID;
+
+// 노드 간에 오가는 메시지 (RelayTransport로 전달)
+// 방의 게임 로직은 주인 노드 한 곳에서만 돌고, 다른 노드는 자기 세션의 요청을 넘기고 주인이 보낸 프레임을 자기 브로커에 흘림
+public sealed interface RelayMessage {
+
+    // 주인 노드 -> 다른 노드 : 이미 인코딩된 STOMP 본문 (방/로비 토픽이면 sessionId null, /user 목적지면 그 노드의 세션)
+    record Frame(String destination, String sessionId, byte[] payload) implements RelayMessage {
+    }
+
+    // 세션이 붙은 노드 -> 방 주인 노드 : 클라이언트가 /app/{roomId}/... 로 보낸 메시지
+    record Inbound(Command command, String roomId, GameMessage message, String sessionId, String origin)
+            implements RelayMessage {
+    }
+
+    enum Command { JOIN, RESUME, CHAT, ACTION, EXIT, DISCONNECT }
+
+    // 세션이 붙은 노드 -> 다른 모든 노드 : 연결 끊김 (방에 들어가지 않았어도 보냄 -> 그 노드가 "노드@세션" 으로 쌓아 둔 상태 정리)
+    record SessionClosed(String sessionId, String origin) implements RelayMessage {
+    }
+
+    // 응답이 있는 요청 (R : 응답 타입)
+    sealed interface Request<R> extends RelayMessage {
+    }
+
+    // 방 생성 (방 id는 요청한 노드가 정함 -> 그 id의 주인 노드에서 생성) / 응답 : 방 JSON, 정원이 차면 null
+    // mode : CLASSIC(mines), MEGA(density), REALTIME(mines)
+    record CreateRoom(String roomId, String mode, String name, int rows, int cols, int mines, double density)
+            implements Request<byte[]> {
+
+        public static String newRoomId() {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    // 방 조회 / 응답 : 방 JSON, 없으면 null
+    record FindRoom(String roomId) implements Request<byte[]> {
+    }
+
+    // 초대형 보드 청크 / 응답 : 압축된 칸 상태, 없으면 null
+    record FindChunk(String roomId, int cr, int cc) implements Request<byte[]> {
+    }
+
+    // 그 노드의 로비 목록
+    record Lobby() implements Request<RoomService.LobbyView> {
+    }
+}
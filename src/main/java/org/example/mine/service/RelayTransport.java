@@ -0,0 +1,25 @@
+package org.example.mine.service;
+
+import java.util.concurrent.CompletableFuture;
+
+// 노드 간 전송 (구현 교체 가능 : 같은 JVM 안에서는 LoopbackRelayTransport, 여러 서버면 네트워크 구현)
+// 구현이 지킬 것 : 같은 대상에게 send 한 메시지는 보낸 순서대로 도착 (방 프레임의 seq 순서)
+public interface RelayTransport {
+
+    // 받는 쪽 (노드 하나에 하나)
+    interface Handler {
+        void onMessage(RelayMessage message);
+
+        <R> R onRequest(RelayMessage.Request<R> request);
+    }
+
+    void register(String nodeId, Handler handler);
+
+    void unregister(String nodeId);
+
+    // 단방향 전달 (대상 노드가 없으면 버림)
+    void send(String nodeId, RelayMessage message);
+
+    // 요청/응답 (대상 노드가 없거나 처리 중 예외면 실패한 future)
+    <R> CompletableFuture<R> request(String nodeId, RelayMessage.Request<R> request);
+}
@@ -0,0 +1,169 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.mine.dto.GameMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 방 토픽(/topic/{roomId}) 전송 단계
+// - 메시지는 여기서 한 번만 JSON으로 바꿔 byte[]로 보냄 (브로커는 같은 본문을 구독자 모두에게, 재접속 재전송도 같은 본문)
+// - 묶음 전송(mine.outbound.batch.enabled)이면 방별로 linger 동안 모았다가 한 프레임으로 : {"type":"BATCH","messages":[...]}
+//   이미 인코딩된 본문을 이어 붙이기만 하므로 묶음 때문에 다시 인코딩하지 않음 / max-messages개가 차면 바로 전송
+@Component
+public class RoomBroadcaster {
+    private static final byte[] BATCH_PREFIX = "{\"type\":\"BATCH\",\"messages\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BATCH_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JsonMapper jsonMapper;
+    private final boolean batchEnabled;
+    private final Duration linger;
+    private final int maxMessages;
+    private final ScheduledExecutorService flusher;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSize;
+    private final Timer flushDelay;
+
+    public RoomBroadcaster(SimpMessagingTemplate messagingTemplate,
+                           JsonMapper jsonMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${mine.outbound.batch.enabled:false}") boolean batchEnabled,
+                           @Value("${mine.outbound.batch.linger:5ms}") Duration linger,
+                           @Value("${mine.outbound.batch.max-messages:32}") int maxMessages) {
+        this.messagingTemplate = messagingTemplate;
+        this.jsonMapper = jsonMapper;
+        this.batchEnabled = batchEnabled;
+        this.linger = linger;
+        this.maxMessages = Math.max(1, maxMessages);
+        this.flusher = batchEnabled ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "room-outbound-flusher");
+            t.setDaemon(true);
+            return t;
+        }) : null;
+
+        this.batchSize = DistributionSummary.builder("mine.outbound.batch.size")
+                .description("방 토픽 프레임 하나에 담긴 메시지 수")
+                .register(meterRegistry);
+        this.flushDelay = Timer.builder("mine.outbound.batch.delay")
+                .description("첫 메시지가 들어온 뒤 프레임이 나가기까지 걸린 시간")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(meterRegistry);
+    }
+
+    // 방 하나의 보내지 않은 본문 (이 객체로 동기화 -> 같은 방 프레임은 순서대로 나감)
+    private static final class Pending {
+        final List<byte[]> payloads = new ArrayList<>();
+        long firstAt;
+    }
+
+    public byte[] encode(GameMessage message) {
+        return jsonMapper.writeValueAsBytes(message);
+    }
+
+    // 인코딩된 방 메시지 전송 (묶음 전송이 꺼져 있으면 바로)
+    public void publish(String roomId, byte[] payload) {
+        if (!batchEnabled) {
+            batchSize.record(1);
+            send("/topic/" + roomId, payload, null);
+            return;
+        }
+        Pending room = pending.computeIfAbsent(roomId, id -> new Pending());
+        synchronized (room) {
+            room.payloads.add(payload);
+            if (room.payloads.size() == 1) {
+                room.firstAt = System.nanoTime();
+                flusher.schedule(() -> flush(roomId), linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (room.payloads.size() >= maxMessages) flushLocked(roomId, room);
+        }
+    }
+
+    // 방 하위 토픽 전송 (초대형 보드 청크 토픽) : 묶음에 남은 방 메시지를 먼저 내보낸 뒤 바로 (순번 없음)
+    public void publish(String roomId, String suffix, byte[] payload) {
+        flush(roomId);
+        send("/topic/" + roomId + suffix, payload, null);
+    }
+
+    // 모아 둔 메시지를 지금 보냄 (세션 개별 전송 전에 호출 -> 방 메시지보다 앞질러 도착하지 않음)
+    public void flush(String roomId) {
+        Pending room = pending.get(roomId);
+        if (room == null) return;
+        synchronized (room) {
+            flushLocked(roomId, room);
+        }
+    }
+
+    // 방 삭제 시 (남은 메시지는 보내고 정리)
+    public void remove(String roomId) {
+        flush(roomId);
+        pending.remove(roomId);
+    }
+
+    // 한 세션에게 이미 인코딩된 메시지들 전송 (재접속 재전송, 여러 개면 BATCH 프레임 하나)
+    public void sendToSession(String sessionId, String userQueue, List<byte[]> payloads) {
+        if (payloads.isEmpty()) return;
+        byte[] frame = payloads.size() == 1 ? payloads.get(0) : batchFrame(payloads);
+        send(messagingTemplate.getUserDestinationPrefix() + sessionId + userQueue, frame, sessionId);
+    }
+
+    private void flushLocked(String roomId, Pending room) {
+        List<byte[]> payloads = room.payloads;
+        if (payloads.isEmpty()) return;
+
+        byte[] frame = payloads.size() == 1 ? payloads.get(0) : batchFrame(payloads);
+        batchSize.record(payloads.size());
+        flushDelay.record(System.nanoTime() - room.firstAt, TimeUnit.NANOSECONDS);
+        payloads.clear();
+        send("/topic/" + roomId, frame, null);
+    }
+
+    private static byte[] batchFrame(List<byte[]> payloads) {
+        int size = BATCH_PREFIX.length + BATCH_SUFFIX.length + payloads.size() - 1;
+        for (byte[] payload : payloads) size += payload.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.writeBytes(BATCH_PREFIX);
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) out.write(',');
+            out.writeBytes(payloads.get(i));
+        }
+        out.writeBytes(BATCH_SUFFIX);
+        return out.toByteArray();
+    }
+
+    // byte[] 본문은 변환기를 거치지 않고 그대로 나감 (content-type만 JSON으로)
+    private void send(String destination, byte[] payload, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (sessionId != null) accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) flusher.shutdown();
+    }
+}
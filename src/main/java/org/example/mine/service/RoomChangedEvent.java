@@ -0,0 +1,6 @@
+package org.example.mine.service;
+
+// 로비에 보이는 방 정보가 바뀌었을 때 RoomService가 발행하는 이벤트
+public record RoomChangedEvent(String roomId, Type type) {
+    public enum Type { CREATED, UPDATED, REMOVED }
+}
@@ -0,0 +1,452 @@
+package org.example.mine.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.MegaMineRoom;
+import org.example.mine.dto.MineRoom;
+import org.example.mine.dto.Player;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방 이벤트 로그 (재시작/장애 후 진행 중인 방 복구용)
+// - 방마다 {roomId}.log 파일 하나, 생성 정보 + 입장/퇴장 + handleAction에 들어간 모든 액션을 순서대로 기록
+// - 기록은 방별 버퍼에 모았다가 flush 주기마다 FileChannel로 한 번에 씀 (방 스레드는 파일 I/O를 기다리지 않음)
+// - 게임이 끝나면 생성 정보 + 현재 인원만 남기고 다시 씀 (compaction)
+// - 기동 시 로그를 처음부터 재생해서 방을 다시 만듦 (START에는 서버가 넣은 시드가 들어 있어 같은 보드가 나옴)
+// 레코드 형식 : [int 길이][byte 종류][내용]
+@Slf4j
+@Component
+public class RoomEventLog {
+    private static final byte CREATE_CLASSIC = 1;
+    private static final byte CREATE_MEGA = 2;
+    private static final byte JOIN = 3;
+    private static final byte EXIT = 4;
+    private static final byte ACTION = 5;
+
+    // 액션 데이터 값 종류
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte LIST = 6; // BATCH의 하위 액션 목록 (한 레코드로 기록 -> 재생도 한꺼번에)
+    private static final byte MAP = 7;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String SUFFIX = ".log";
+
+    private final boolean enabled;
+    private final Path dir;
+    private final boolean fsync;
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    public RoomEventLog(@Value("${mine.event-log.enabled:false}") boolean enabled,
+                        @Value("${mine.event-log.dir:room-logs}") Path dir,
+                        @Value("${mine.event-log.fsync:false}") boolean fsync) {
+        this.enabled = enabled;
+        this.dir = dir;
+        this.fsync = fsync;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ===== 기록 =====
+
+    public void roomCreated(MineRoom room) {
+        if (!enabled) return;
+        openSegment(room.getRoomId(), record(CREATE_CLASSIC, out -> {
+            out.writeUTF(room.getRoomId());
+            out.writeUTF(room.getRoomName());
+            out.writeInt(room.getROWS());
+            out.writeInt(room.getCOLS());
+            out.writeInt(room.getMINES());
+        }));
+    }
+
+    public void roomCreated(MegaMineRoom room, long seed) {
+        if (!enabled) return;
+        openSegment(room.getRoomId(), record(CREATE_MEGA, out -> {
+            out.writeUTF(room.getRoomId());
+            out.writeUTF(room.getRoomName());
+            out.writeInt(room.getROWS());
+            out.writeInt(room.getCOLS());
+            out.writeDouble(room.getMineDensity());
+            out.writeLong(seed);
+        }));
+    }
+
+    public void joined(String roomId, Player player) {
+        if (!enabled) return;
+        append(roomId, joinRecord(player));
+    }
+
+    public void exited(String roomId, String playerId) {
+        if (!enabled) return;
+        append(roomId, record(EXIT, out -> out.writeUTF(playerId)));
+    }
+
+    public void action(String roomId, GameMessage message) {
+        if (!enabled) return;
+        append(roomId, record(ACTION, out -> {
+            writeNullable(out, message.getSenderId());
+            writeNullable(out, message.getSender());
+            Map<String, Object> data = message.resolveAction().toData(); // 예전 기록과 같은 키/값 형식
+            out.writeShort(data.size());
+            for (Map.Entry<String, Object> e : data.entrySet()) {
+                out.writeUTF(e.getKey());
+                writeValue(out, e.getValue());
+            }
+        }));
+    }
+
+    // 게임 종료 후 로그 압축 : 생성 정보 + 현재 인원만 남김
+    public void compact(BaseGameRoom room) {
+        if (!enabled) return;
+        Segment segment = segments.get(room.getRoomId());
+        if (segment == null) return;
+
+        List<byte[]> records = new ArrayList<>();
+        records.add(segment.header);
+        for (Player p : room.getUsers().values()) records.add(joinRecord(p));
+        segment.rewrite(records);
+    }
+
+    public void roomDeleted(String roomId) {
+        if (!enabled) return;
+        Segment segment = segments.remove(roomId);
+        if (segment != null) segment.delete();
+    }
+
+    @Scheduled(fixedDelayString = "${mine.event-log.flush-interval-ms:50}")
+    public void flushAll() {
+        for (Segment segment : segments.values()) segment.flush(fsync);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Segment segment : segments.values()) segment.close();
+    }
+
+    // ===== 복구 =====
+
+    // 로그 디렉터리의 모든 방을 재생해서 돌려줌 (읽다 끊긴 마지막 레코드는 무시)
+    public List<BaseGameRoom> recover() {
+        List<BaseGameRoom> rooms = new ArrayList<>();
+        if (!enabled || !Files.isDirectory(dir)) return rooms;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    BaseGameRoom room = replay(file);
+                    if (room != null) rooms.add(room);
+                } catch (IOException | RuntimeException e) {
+                    log.error("방 로그 복구 실패: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("방 로그 디렉터리 읽기 실패: {}", dir, e);
+        }
+        return rooms;
+    }
+
+    private BaseGameRoom replay(Path file) throws IOException {
+        BaseGameRoom room = null;
+        byte[] header = null;
+        long valid = 0; // 온전히 읽은 바이트 수 (끊긴 꼬리는 잘라냄)
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                byte[] body;
+                try {
+                    int length = in.readInt();
+                    body = new byte[length];
+                    in.readFully(body);
+                } catch (EOFException e) {
+                    break;
+                }
+                valid += 4 + body.length;
+
+                DataInputStream rec = new DataInputStream(new ByteArrayInputStream(body));
+                byte type = rec.readByte();
+                if (room == null) {
+                    room = readCreate(type, rec);
+                    if (room == null) return null;
+                    header = frame(body);
+                    continue;
+                }
+                switch (type) {
+                    case JOIN -> room.enterUser(readPlayer(rec));
+                    case EXIT -> room.exitUser(rec.readUTF());
+                    case ACTION -> room.handleAction(readAction(room.getRoomId(), rec));
+                    default -> log.warn("알 수 없는 레코드 {} in {}", type, file);
+                }
+            }
+        }
+        if (room == null) return null;
+
+        if (Files.size(file) > valid) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+        }
+
+        // 이후 기록은 같은 파일 뒤에 이어서
+        segments.put(room.getRoomId(), new Segment(file, header, false));
+        return room;
+    }
+
+    private BaseGameRoom readCreate(byte type, DataInputStream in) throws IOException {
+        if (type == CREATE_CLASSIC) {
+            String roomId = in.readUTF();
+            MineRoom room = new MineRoom(in.readUTF(), in.readInt(), in.readInt(), in.readInt());
+            room.setRoomId(roomId);
+            return room;
+        }
+        if (type == CREATE_MEGA) {
+            String roomId = in.readUTF();
+            MegaMineRoom room = new MegaMineRoom(in.readUTF(), in.readInt(), in.readInt(), in.readDouble(), in.readLong());
+            room.setRoomId(roomId);
+            return room;
+        }
+        return null;
+    }
+
+    private Player readPlayer(DataInputStream in) throws IOException {
+        Player player = new Player(in.readUTF(), in.readUTF());
+        player.setDbUsername(readNullable(in));
+        String encoding = readNullable(in);
+        if (encoding != null) player.set("boardEncoding", encoding);
+        return player;
+    }
+
+    private GameMessage readAction(String roomId, DataInputStream in) throws IOException {
+        String senderId = readNullable(in);
+        String sender = readNullable(in);
+        int size = in.readShort();
+        Map<String, Object> data = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            data.put(in.readUTF(), readValue(in));
+        }
+        return GameMessage.builder()
+                .type("ACTION")
+                .roomId(roomId)
+                .senderId(senderId)
+                .sender(sender)
+                .data(data)
+                .build();
+    }
+
+    // ===== 인코딩 =====
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] record(byte type, RecordWriter writer) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            out.writeByte(type);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame(body.toByteArray());
+    }
+
+    private static byte[] frame(byte[] body) {
+        return ByteBuffer.allocate(4 + body.length).putInt(body.length).put(body).array();
+    }
+
+    private static byte[] joinRecord(Player player) {
+        return record(JOIN, out -> {
+            out.writeUTF(player.getNickname());
+            out.writeUTF(player.getId());
+            writeNullable(out, player.getDbUsername());
+            String encoding = player.getString("boardEncoding");
+            writeNullable(out, encoding.isEmpty() ? null : encoding);
+        });
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Integer i) {
+            out.writeByte(INT);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeLong(l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Number n) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(n.doubleValue());
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            out.writeShort(list.size());
+            for (Object item : list) writeValue(out, item);
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(MAP);
+            out.writeShort(map.size());
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                out.writeUTF(String.valueOf(e.getKey()));
+                writeValue(out, e.getValue());
+            }
+        } else if (value != null) {
+            out.writeByte(STRING);
+            out.writeUTF(value.toString());
+        } else {
+            out.writeByte(NULL);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case INT -> in.readInt();
+            case LONG -> in.readLong();
+            case BOOLEAN -> in.readBoolean();
+            case DOUBLE -> in.readDouble();
+            case STRING -> in.readUTF();
+            case LIST -> {
+                int size = in.readShort();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(in));
+                yield list;
+            }
+            case MAP -> {
+                int size = in.readShort();
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) map.put(in.readUTF(), readValue(in));
+                yield map;
+            }
+            default -> null;
+        };
+    }
+
+    // ===== 파일 =====
+
+    private void openSegment(String roomId, byte[] header) {
+        try {
+            Files.createDirectories(dir);
+            Segment segment = new Segment(dir.resolve(roomId + SUFFIX), header, true);
+            segment.append(header);
+            segments.put(roomId, segment);
+        } catch (IOException e) {
+            log.error("방 로그 생성 실패: {}", roomId, e);
+        }
+    }
+
+    private void append(String roomId, byte[] record) {
+        Segment segment = segments.get(roomId);
+        if (segment != null) segment.append(record);
+    }
+
+    // 방 하나의 로그 파일 (쓰기 버퍼 포함)
+    private static class Segment {
+        private final Path file;
+        private final byte[] header;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private FileChannel channel;
+
+        Segment(Path file, byte[] header, boolean truncate) throws IOException {
+            this.file = file;
+            this.header = header;
+            this.channel = open(file, truncate);
+        }
+
+        synchronized void append(byte[] record) {
+            if (channel == null) return;
+            try {
+                if (record.length > buffer.remaining()) writeBuffer();
+                if (record.length > buffer.capacity()) {
+                    channel.write(ByteBuffer.wrap(record));
+                } else {
+                    buffer.put(record);
+                }
+            } catch (IOException e) {
+                log.error("방 로그 쓰기 실패: {}", file, e);
+            }
+        }
+
+        synchronized void flush(boolean fsync) {
+            if (channel == null || buffer.position() == 0) return;
+            try {
+                writeBuffer();
+                if (fsync) channel.force(false);
+            } catch (IOException e) {
+                log.error("방 로그 flush 실패: {}", file, e);
+            }
+        }
+
+        // 임시 파일에 새로 쓴 뒤 교체
+        synchronized void rewrite(List<byte[]> records) {
+            try {
+                channel.close();
+                Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+                try (FileChannel out = open(tmp, true)) {
+                    for (byte[] record : records) out.write(ByteBuffer.wrap(record));
+                    out.force(false);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                buffer.clear();
+                channel = open(file, false);
+            } catch (IOException e) {
+                log.error("방 로그 압축 실패: {}", file, e);
+            }
+        }
+
+        synchronized void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.error("방 로그 삭제 실패: {}", file, e);
+            }
+        }
+
+        synchronized void close() {
+            if (channel == null) return;
+            try {
+                writeBuffer();
+                channel.close();
+            } catch (IOException e) {
+                log.error("방 로그 닫기 실패: {}", file, e);
+            }
+            channel = null;
+        }
+
+        private void writeBuffer() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        private static FileChannel open(Path file, boolean truncate) throws IOException {
+            return truncate
+                    ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                    : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 방별 직렬 실행기
+// 인바운드 채널 스레드는 작업을 방 메일박스에 넣기만 하고 바로 반환 -> 바쁜 방이 다른 방을 막지 않음
+// 메일박스는 방 생성(복구 포함) 때 만들고 방 삭제 때 닫음 (RoomChangedEvent)
+@Component
+public class RoomExecutor {
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final Map<String, RoomMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public RoomExecutor(MeterRegistry meterRegistry,
+                        @Value("${mine.room.executor.threads:0}") int threads) {
+        this.meterRegistry = meterRegistry;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(size, workerThreadFactory());
+    }
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> open(event.roomId());
+            case REMOVED -> remove(event.roomId());
+            default -> { }
+        }
+    }
+
+    public void open(String roomId) {
+        mailboxes.computeIfAbsent(roomId, id -> new RoomMailbox(id, workers, meterRegistry));
+    }
+
+    // roomId의 메일박스에 작업 추가 (같은 방의 작업은 순서대로 하나씩 실행)
+    // 없는 방(삭제된 방 포함)의 작업은 버림 -> 삭제 뒤 늦게 온 요청이 메일박스와 메트릭을 다시 만들지 않음
+    public boolean submit(String roomId, Runnable action) {
+        RoomMailbox mailbox = mailboxes.get(roomId);
+        if (mailbox == null) return false;
+        mailbox.enqueue(action);
+        return true;
+    }
+
+    // 방 삭제 시 (이미 들어간 작업은 마저 실행됨)
+    public void remove(String roomId) {
+        RoomMailbox mailbox = mailboxes.remove(roomId);
+        if (mailbox != null) mailbox.close();
+    }
+
+    public int depth(String roomId) {
+        RoomMailbox mailbox = mailboxes.get(roomId);
+        return mailbox != null ? mailbox.depth() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "room-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
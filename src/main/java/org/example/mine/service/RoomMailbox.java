@@ -0,0 +1,91 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 방 하나의 작업 큐 (액터 메일박스)
+// - 작업은 들어온 순서대로 한 번에 하나씩만 실행됨 -> 방 상태에 락 경쟁이 없음
+// - 실행 중이 아닐 때만 공용 워커 풀에 자신을 등록하고, 한 번에 BATCH개까지만 처리한 뒤 양보
+@Slf4j
+class RoomMailbox implements Runnable {
+    private static final int BATCH = 64;
+
+    private final String roomId;
+    private final Executor workers;
+    private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final MeterRegistry meterRegistry;
+    private final Gauge depthGauge;
+    private final Timer waitTimer;
+
+    RoomMailbox(String roomId, Executor workers, MeterRegistry meterRegistry) {
+        this.roomId = roomId;
+        this.workers = workers;
+        this.meterRegistry = meterRegistry;
+        this.depthGauge = Gauge.builder("mine.room.mailbox.depth", depth, AtomicInteger::get)
+                .description("방 메일박스에 쌓인 작업 수")
+                .tag("roomId", roomId)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("mine.room.mailbox.wait")
+                .description("작업이 메일박스에서 실행되기까지 기다린 시간")
+                .tag("roomId", roomId)
+                .register(meterRegistry);
+    }
+
+    void enqueue(Runnable action) {
+        queue.add(new Task(action, System.nanoTime()));
+        depth.incrementAndGet();
+        scheduleIfIdle();
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    // 방 삭제 시 메트릭 해제
+    void close() {
+        meterRegistry.remove(depthGauge);
+        meterRegistry.remove(waitTimer);
+    }
+
+    @Override
+    public void run() {
+        Task task;
+        int processed = 0;
+        while (processed < BATCH && (task = queue.poll()) != null) {
+            depth.decrementAndGet();
+            waitTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+            try {
+                task.action().run();
+            } catch (RuntimeException e) {
+                // 작업 하나가 실패해도 방의 다음 작업은 계속 처리
+                log.error("방 작업 실패 roomId={}", roomId, e);
+            }
+            processed++;
+        }
+
+        scheduled.set(false);
+        // 처리하는 사이 새 작업이 들어왔거나 BATCH만큼 처리하고 양보한 경우 다시 등록
+        if (!queue.isEmpty()) scheduleIfIdle();
+    }
+
+    private void scheduleIfIdle() {
+        if (scheduled.compareAndSet(false, true)) {
+            workers.execute(this);
+        }
+    }
+
+    private record Task(Runnable action, long enqueuedAt) {
+    }
+}
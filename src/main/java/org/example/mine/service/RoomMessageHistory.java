@@ -0,0 +1,68 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.GameMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 방별 최근 브로드캐스트 기록 (시퀀스 번호 + 링 버퍼)
+// 잠깐 끊겼다 다시 붙은 클라이언트에게 놓친 메시지만 다시 보내기 위함 (보낸 JSON 본문을 보관 -> 재전송 때 다시 인코딩하지 않음)
+@Component
+public class RoomMessageHistory {
+    private final int capacity;
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    public RoomMessageHistory(@Value("${mine.session.history-size:256}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    public Ring ring(String roomId) {
+        return rings.computeIfAbsent(roomId, id -> new Ring(capacity));
+    }
+
+    public void remove(String roomId) {
+        rings.remove(roomId);
+    }
+
+    // 보낸 본문만 보관 (재전송은 본문 그대로)
+    public static class Ring {
+        private final byte[][] payloads;
+        private long lastSeq = 0;
+
+        Ring(int capacity) {
+            this.payloads = new byte[capacity][];
+        }
+
+        // 다음 번호를 붙인 뒤 인코딩해서 저장 (번호가 본문에 들어가므로 순서가 중요) -> 인코딩된 본문 반환
+        // 호출한 쪽이 같은 락 안에서 전송해야 번호 순서 = 전송 순서
+        public synchronized byte[] append(GameMessage message, Function<GameMessage, byte[]> encoder) {
+            message.setSeq(++lastSeq);
+            byte[] payload = encoder.apply(message);
+            payloads[(int) (lastSeq % payloads.length)] = payload;
+            return payload;
+        }
+
+        public synchronized long lastSeq() {
+            return lastSeq;
+        }
+
+        // afterSeq 다음부터 보낸 본문 (링에서 이미 밀려났으면 null -> 전체 SYNC)
+        // afterSeq가 링보다 앞서 있으면 (서버 재시작으로 링이 새로 시작) 이어받을 수 없으므로 null
+        public synchronized List<byte[]> payloadsSince(long afterSeq) {
+            List<byte[]> missed = new ArrayList<>();
+            if (afterSeq > lastSeq) return null;
+            if (afterSeq == lastSeq) return missed;
+            if (lastSeq - afterSeq > payloads.length) return null;
+
+            for (long seq = afterSeq + 1; seq <= lastSeq; seq++) {
+                missed.add(payloads[(int) (seq % payloads.length)]);
+            }
+            return missed;
+        }
+    }
+}
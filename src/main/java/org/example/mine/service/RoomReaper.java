@@ -0,0 +1,75 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.mine.dto.BaseGameRoom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 방치된 방 정리
+// - 아무도 들어오지 않은 방, 대기실에서 오래 방치된 방, 게임 중 아무 행동이 없는 방을 주기적으로 닫음
+@Component
+public class RoomReaper {
+    private final RoomService roomService;
+    private final GameService gameService;
+
+    private final Duration neverJoinedTtl;
+    private final Duration idleLobbyTtl;
+    private final Duration abandonedInGameTtl;
+
+    private final Counter reapedNeverJoined;
+    private final Counter reapedIdleLobby;
+    private final Counter reapedAbandoned;
+
+    public RoomReaper(RoomService roomService,
+                      GameService gameService,
+                      MeterRegistry meterRegistry,
+                      @Value("${mine.room.ttl.never-joined:5m}") Duration neverJoinedTtl,
+                      @Value("${mine.room.ttl.idle-lobby:30m}") Duration idleLobbyTtl,
+                      @Value("${mine.room.ttl.abandoned-in-game:10m}") Duration abandonedInGameTtl) {
+        this.roomService = roomService;
+        this.gameService = gameService;
+        this.neverJoinedTtl = neverJoinedTtl;
+        this.idleLobbyTtl = idleLobbyTtl;
+        this.abandonedInGameTtl = abandonedInGameTtl;
+
+        Gauge.builder("mine.room.count", roomService, RoomService::roomCount)
+                .description("현재 방 수")
+                .register(meterRegistry);
+        this.reapedNeverJoined = reapedCounter(meterRegistry, "never_joined");
+        this.reapedIdleLobby = reapedCounter(meterRegistry, "idle_lobby");
+        this.reapedAbandoned = reapedCounter(meterRegistry, "abandoned_in_game");
+    }
+
+    @Scheduled(fixedDelayString = "${mine.room.reaper.interval-ms:30000}")
+    public void reap() {
+        long now = System.currentTimeMillis();
+        for (BaseGameRoom room : roomService.findAll()) {
+            if (!room.isEverJoined()) {
+                if (now - room.getCreatedAt() > neverJoinedTtl.toMillis()) {
+                    reapedNeverJoined.increment();
+                    gameService.closeRoom(room.getRoomId(), null);
+                }
+            } else if (room.isPlaying()) {
+                if (now - room.getLastActivityAt() > abandonedInGameTtl.toMillis()) {
+                    reapedAbandoned.increment();
+                    gameService.closeRoom(room.getRoomId(), "오랫동안 진행이 없어 방이 닫혔습니다.");
+                }
+            } else if (now - room.getLastActivityAt() > idleLobbyTtl.toMillis()) {
+                reapedIdleLobby.increment();
+                gameService.closeRoom(room.getRoomId(), "대기 시간이 너무 길어 방이 닫혔습니다.");
+            }
+        }
+    }
+
+    private static Counter reapedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("mine.room.reaped")
+                .description("정리된 방 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
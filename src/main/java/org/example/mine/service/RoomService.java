@@ -1,21 +1,95 @@
 package org.example.mine.service;
 
 import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.MegaMineRoom;
 import org.example.mine.dto.MineRoom;
+import org.example.mine.dto.RealtimeMineRoom;
+import org.example.mine.dto.RoomSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class RoomService {
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardPool boardPool;
+    private final RoomEventLog eventLog;
     private final Map<String, BaseGameRoom> rooms = new ConcurrentHashMap<>();
 
+    // 전체 방 개수 상한
+    @Value("${mine.room.max-rooms:1000}")
+    private int maxRooms = 1000;
+
+    // 로비 목록 캐시 : 방이 바뀔 때만 버전을 올리고, 조회 시 버전이 다르면 다시 만듦
+    private final AtomicLong lobbyVersion = new AtomicLong();
+    private volatile LobbyView lobbyView;
+
+    // 로비 목록 정렬 (방 이름, 같으면 id)
+    public static final Comparator<RoomSummary> LOBBY_ORDER =
+            Comparator.comparing(RoomSummary::getRoomName).thenComparing(RoomSummary::getRoomId);
+
     public MineRoom createRoom(String name, int rows, int cols, int mines) {
-        MineRoom room = new MineRoom(name, rows, cols, mines);
+        return createRoom(null, name, rows, cols, mines);
+    }
+
+    // roomId : 클러스터 모드에서 주인 노드를 정할 때 쓴 id (null이면 새로 만든 id 그대로)
+    public MineRoom createRoom(String roomId, String name, int rows, int cols, int mines) {
+        MineRoom room = new MineRoom(name, rows, cols, mines, boardPool.acquire(rows * cols));
+        if (roomId != null) room.setRoomId(roomId);
+        eventLog.roomCreated(room);
         rooms.put(room.getRoomId(), room);
+        publishChange(room.getRoomId(), RoomChangedEvent.Type.CREATED);
         return room;
     }
 
+    public MegaMineRoom createMegaRoom(String name, int rows, int cols, double mineDensity) {
+        return createMegaRoom(null, name, rows, cols, mineDensity);
+    }
+
+    public MegaMineRoom createMegaRoom(String roomId, String name, int rows, int cols, double mineDensity) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        MegaMineRoom room = new MegaMineRoom(name, rows, cols, mineDensity, seed);
+        if (roomId != null) room.setRoomId(roomId);
+        eventLog.roomCreated(room, seed);
+        rooms.put(room.getRoomId(), room);
+        publishChange(room.getRoomId(), RoomChangedEvent.Type.CREATED);
+        return room;
+    }
+
+    // 실시간 방은 이벤트 로그에 남기지 않음 (칸 행동이 여러 스레드에서 동시에 적용되어 기록 순서로 재생할 수 없음 -> 재시작 시 복구 안 됨)
+    public RealtimeMineRoom createRealtimeRoom(String name, int rows, int cols, int mines) {
+        return createRealtimeRoom(null, name, rows, cols, mines);
+    }
+
+    public RealtimeMineRoom createRealtimeRoom(String roomId, String name, int rows, int cols, int mines) {
+        RealtimeMineRoom room = new RealtimeMineRoom(name, rows, cols, mines);
+        if (roomId != null) room.setRoomId(roomId);
+        rooms.put(room.getRoomId(), room);
+        publishChange(room.getRoomId(), RoomChangedEvent.Type.CREATED);
+        return room;
+    }
+
+    // 이벤트 로그로 방 복구 (기동 시 GameService가 호출 -> 복구된 인원의 퇴장 유예까지 걸어 둠)
+    public List<BaseGameRoom> recoverRooms() {
+        if (!eventLog.isEnabled()) return List.of();
+        long started = System.currentTimeMillis();
+        List<BaseGameRoom> recovered = eventLog.recover();
+        for (BaseGameRoom room : recovered) {
+            rooms.put(room.getRoomId(), room);
+            publishChange(room.getRoomId(), RoomChangedEvent.Type.CREATED);
+        }
+        log.info("방 {}개 복구 ({}ms)", recovered.size(), System.currentTimeMillis() - started);
+        return recovered;
+    }
+
     public BaseGameRoom findRoom(String roomId) {
         return rooms.get(roomId);
     }
@@ -24,7 +98,68 @@ public class RoomService {
         return new ArrayList<>(rooms.values());
     }
 
+    // 방 메일박스 안에서 호출됨 -> 이후 이 방의 작업은 findRoom이 null이라 보드에 손대지 않음
     public void deleteRoom(String roomId) {
-        rooms.remove(roomId);
+        BaseGameRoom removed = rooms.remove(roomId);
+        if (removed == null) return;
+
+        eventLog.roomDeleted(roomId);
+        if (removed instanceof MineRoom mine) {
+            boardPool.release(mine.cells());
+        }
+        publishChange(roomId, RoomChangedEvent.Type.REMOVED);
+    }
+
+    public boolean hasCapacity() {
+        return rooms.size() < maxRooms;
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    public int playerCount() {
+        int count = 0;
+        for (BaseGameRoom room : rooms.values()) count += room.getUsers().size();
+        return count;
+    }
+
+    // 인원, 진행 상태 등 로비에 보이는 정보가 바뀌었을 때 호출
+    public void markLobbyChanged(String roomId) {
+        publishChange(roomId, RoomChangedEvent.Type.UPDATED);
+    }
+
+    private void publishChange(String roomId, RoomChangedEvent.Type type) {
+        lobbyVersion.incrementAndGet();
+        eventPublisher.publishEvent(new RoomChangedEvent(roomId, type));
+    }
+
+    public LobbyView getLobbyView() {
+        long version = lobbyVersion.get();
+        LobbyView view = lobbyView;
+        if (view != null && view.version() == version) return view;
+
+        List<RoomSummary> summaries = new ArrayList<>();
+        for (BaseGameRoom room : rooms.values()) {
+            summaries.add(room.toSummary());
+        }
+        summaries.sort(LOBBY_ORDER);
+
+        // 만드는 사이 버전이 또 바뀌었으면 다음 조회 때 다시 만들어짐
+        view = new LobbyView(version, List.copyOf(summaries));
+        lobbyView = view;
+        return view;
+    }
+
+    // 특정 버전의 로비 목록 (ETag = 버전)
+    // versions : 클러스터 모드에서 합친 목록일 때 노드별 버전 (단일 노드면 비어 있음)
+    public record LobbyView(long version, List<RoomSummary> rooms, Map<String, Long> versions) {
+        public LobbyView(long version, List<RoomSummary> rooms) {
+            this(version, rooms, Map.of());
+        }
+
+        public String etag() {
+            return "\"lobby-" + version + "\"";
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,5 @@
+package org.example.mine.service;
+
+// 점수가 랭킹 서버에 실제로 반영된 뒤 발행 (랭킹 캐시 무효화용)
+public record ScoreDeliveredEvent(ScoreRecord record) {
+}
@@ -0,0 +1,5 @@
+package org.example.mine.service;
+
+// 랭킹 서버로 보낼 점수 한 건
+public record ScoreRecord(String username, String gameType, int score) {
+}
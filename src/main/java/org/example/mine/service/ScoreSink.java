@@ -0,0 +1,26 @@
+package org.example.mine.service;
+
+import java.util.List;
+
+// 점수 전송 대상 (운영: 랭킹 서버 HTTP API, 테스트: 로컬 스텁)
+@FunctionalInterface
+public interface ScoreSink {
+    void send(ScoreRecord record) throws Exception;
+
+    // 묶음 전송 : 앞에서부터 순서대로 보내고 전달된 건수를 돌려줌 (도중에 실패하면 그 건에서 멈춤)
+    // 기본 구현은 한 건씩 send (공통 모듈 ScoreSender는 한 건 API만 있음) / 묶음 API가 있는 대상은 요청 한 번으로 재정의
+    default Delivery sendAll(List<ScoreRecord> records) {
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                send(records.get(i));
+            } catch (Exception e) {
+                return new Delivery(i, e);
+            }
+        }
+        return new Delivery(records.size(), null);
+    }
+
+    // delivered : 앞에서부터 전달된 건수 / failure : 멈춘 이유 (모두 전달됐으면 null)
+    record Delivery(int delivered, Exception failure) {
+    }
+}
@@ -0,0 +1,297 @@
+package org.example.mine.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 비동기 점수 전송 큐
+// - endGame은 submit()만 하고 바로 반환 -> GAME_OVER 브로드캐스트가 랭킹 서버를 기다리지 않음
+// - 전용 스레드가 여러 방의 결과를 묶어서 ScoreSink.sendAll로 전송, 실패 시 아직 안 간 건만 지수 백오프로 재시도
+// - 재시도까지 실패하거나 큐가 가득 차면 로컬 파일(spill)에 적어두고, 서버가 살아나면 다시 전송
+@Slf4j
+@Component
+public class ScoreSubmissionQueue {
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration SPILL_RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    private final ScoreSink sink;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<ScoreRecord> queue;
+    private final int maxBatch;
+    private final Duration linger;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Path spillFile;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastSpillReplay;
+
+    public ScoreSubmissionQueue(ScoreSink sink,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${mine.score.queue-capacity:10000}") int capacity,
+                                @Value("${mine.score.max-batch:100}") int maxBatch,
+                                @Value("${mine.score.linger:200ms}") Duration linger,
+                                @Value("${mine.score.max-attempts:5}") int maxAttempts,
+                                @Value("${mine.score.base-backoff:200ms}") Duration baseBackoff,
+                                @Value("${mine.score.spill-file:score-spill.tsv}") Path spillFile) {
+        this.sink = sink;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.linger = linger;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.spillFile = spillFile;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "score-submitter");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 종료 시 남은 건은 파일에 적어 다음 기동 때 전송
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<ScoreRecord> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(this::spill);
+    }
+
+    // 절대 블록하지 않음 (큐가 가득 차면 바로 파일로)
+    public void submit(ScoreRecord record) {
+        if (!queue.offer(record)) {
+            log.warn("점수 큐 가득 참, 파일에 보관: {}", record);
+            spill(record);
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void runLoop() {
+        List<ScoreRecord> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                ScoreRecord first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // 한가할 때 보관해둔 점수 재전송 시도
+                    if (System.currentTimeMillis() - lastSpillReplay > SPILL_RETRY_INTERVAL.toMillis()) {
+                        replaySpill();
+                    }
+                    continue;
+                }
+
+                // 잠깐 더 기다려서 다른 방 결과까지 한 묶음으로
+                batch.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < maxBatch) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) break;
+                    ScoreRecord next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                if (sendBatch(batch)) replaySpill();
+            } catch (InterruptedException e) {
+                // 종료 중: 보내지 못한 묶음은 파일로
+                batch.forEach(this::spill);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 묶음 전송, 끝까지 실패하면 남은 건은 파일로 (처리한 건은 batch에서 빠짐, 중단되면 남은 건은 파일로)
+    private boolean sendBatch(List<ScoreRecord> batch) throws InterruptedException {
+        try {
+            if (deliver(batch)) return true;
+            batch.forEach(this::spill);
+            batch.clear();
+            return false;
+        } catch (InterruptedException e) {
+            batch.forEach(this::spill);
+            batch.clear();
+            throw e;
+        }
+    }
+
+    // 실패하면 아직 전달되지 않은 건만 지수 백오프로 재시도 (전달된 건은 records에서 빠짐 -> 다시 보내지 않음)
+    private boolean deliver(List<ScoreRecord> records) throws InterruptedException {
+        long backoff = baseBackoff.toMillis();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            ScoreSink.Delivery result;
+            try {
+                result = sink.sendAll(records);
+            } catch (RuntimeException e) {
+                result = new ScoreSink.Delivery(0, e);
+            }
+            List<ScoreRecord> delivered = records.subList(0, result.delivered());
+            delivered.forEach(record -> eventPublisher.publishEvent(new ScoreDeliveredEvent(record))); // 랭킹 캐시 무효화
+            delivered.clear();
+            if (records.isEmpty()) return true;
+
+            log.warn("점수 전송 실패 ({}/{}): {}건 남음 - {}", attempt, maxAttempts, records.size(),
+                    result.failure() != null ? result.failure().getMessage() : "응답 없음");
+            if (attempt == maxAttempts) break;
+            Thread.sleep(backoff);
+            backoff = Math.min(backoff * 2, MAX_BACKOFF.toMillis());
+        }
+        return false;
+    }
+
+    // 파일에 보관된 점수 재전송
+    // 보관 파일을 재전송 파일(.replay)로 옮기고 (그 사이 새로 보관되는 건은 새 보관 파일에) 묶음씩 보냄
+    // 묶음을 보낼 때마다 남은 건만 임시 파일에 써서 재전송 파일과 바꿈 -> 도중에 멈춰도 이미 간 건을 다시 보내지 않음
+    private void replaySpill() throws InterruptedException {
+        lastSpillReplay = System.currentTimeMillis();
+        List<ScoreRecord> pending = takeSpilled();
+        if (pending == null) return;
+        if (pending.isEmpty()) {
+            rewriteReplay(pending);
+            return;
+        }
+
+        log.info("보관된 점수 {}건 재전송", pending.size());
+        while (!pending.isEmpty()) {
+            List<ScoreRecord> batch = new ArrayList<>(pending.subList(0, Math.min(maxBatch, pending.size())));
+            int size = batch.size();
+            boolean delivered = deliver(batch);
+            pending.subList(0, size - batch.size()).clear();
+            if (!rewriteReplay(pending) || !delivered) return; // 못 보낸 건은 재전송 파일에 남아 다음 차례에
+        }
+    }
+
+    private synchronized void spill(ScoreRecord record) {
+        try {
+            Files.writeString(spillFile, format(record) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("점수 보관 실패, 유실됨: {}", record, e);
+        }
+    }
+
+    // 재전송할 점수 (지난번에 다 못 보낸 재전송 파일이 있으면 그것부터) / 읽지 못하면 null (파일은 그대로)
+    // 형식이 깨진 줄은 버림 (다음 rewriteReplay 때 파일에서도 빠짐)
+    private List<ScoreRecord> takeSpilled() {
+        Path replay = replayFile();
+        try {
+            synchronized (this) {
+                if (!Files.exists(replay)) {
+                    if (!Files.exists(spillFile)) return null;
+                    Files.move(spillFile, replay, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            List<ScoreRecord> records = new ArrayList<>();
+            for (String line : Files.readAllLines(replay, StandardCharsets.UTF_8)) {
+                ScoreRecord record = parse(line);
+                if (record != null) records.add(record);
+                else log.warn("보관 파일의 잘못된 줄 버림: {}", line);
+            }
+            return records;
+        } catch (IOException e) {
+            log.error("보관 파일 읽기 실패: {}", spillFile, e);
+            return null;
+        }
+    }
+
+    // 남은 건으로 재전송 파일 교체 (다 보냈으면 삭제)
+    private boolean rewriteReplay(List<ScoreRecord> remaining) {
+        Path replay = replayFile();
+        try {
+            if (remaining.isEmpty()) {
+                Files.deleteIfExists(replay);
+                return true;
+            }
+            Path temp = replay.resolveSibling(replay.getFileName() + ".tmp");
+            Files.write(temp, remaining.stream().map(ScoreSubmissionQueue::format).toList(), StandardCharsets.UTF_8);
+            Files.move(temp, replay, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            log.error("재전송 파일 갱신 실패: {}", replay, e);
+            return false;
+        }
+    }
+
+    private Path replayFile() {
+        return spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+    }
+
+    // 한 줄에 한 건 : 사용자명 \t 게임 종류 \t 점수 (사용자명은 클라이언트가 보낸 값 -> \, 탭, 줄바꿈은 이스케이프)
+    static String format(ScoreRecord record) {
+        return escape(record.username()) + "\t" + escape(record.gameType()) + "\t" + record.score();
+    }
+
+    // 형식이 맞지 않으면 null
+    static ScoreRecord parse(String line) {
+        String[] parts = line.split("\t", -1);
+        if (parts.length != 3) return null;
+        try {
+            return new ScoreRecord(unescape(parts[0]), unescape(parts[1]), Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String unescape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch != '\\') {
+                sb.append(ch);
+                continue;
+            }
+            if (++i == value.length()) throw new IllegalArgumentException("잘린 이스케이프: " + value);
+            switch (value.charAt(i)) {
+                case '\\' -> sb.append('\\');
+                case 't' -> sb.append('\t');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                default -> throw new IllegalArgumentException("알 수 없는 이스케이프: " + value);
+            }
+        }
+        return sb.toString();
+    }
+}
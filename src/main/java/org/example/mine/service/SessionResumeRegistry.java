@@ -0,0 +1,76 @@
+package org.example.mine.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 연결이 끊긴 플레이어의 퇴장 유예
+// 끊기자마자 퇴장시키지 않고 grace 동안 기다림 -> 그 사이 resume 하면 퇴장 취소
+@Component
+public class SessionResumeRegistry {
+    private final Duration grace;
+    private final Map<String, ScheduledFuture<?>> pendingExits = new ConcurrentHashMap<>();
+    // (방, 플레이어) -> 지금 쓰고 있는 세션 (옛 세션의 끊김 이벤트가 늦게 와도 무시하기 위함)
+    private final Map<String, String> activeSessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "session-exit");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SessionResumeRegistry(@Value("${mine.session.resume-grace:30s}") Duration grace) {
+        this.grace = grace;
+    }
+
+    public boolean isEnabled() {
+        return !grace.isZero();
+    }
+
+    public void bind(String roomId, String senderId, String sessionId) {
+        if (sessionId != null) activeSessions.put(key(roomId, senderId), sessionId);
+    }
+
+    public boolean isActiveSession(String roomId, String senderId, String sessionId) {
+        String active = activeSessions.get(key(roomId, senderId));
+        return active == null || active.equals(sessionId);
+    }
+
+    public void scheduleExit(String roomId, String senderId, Runnable exit) {
+        String key = key(roomId, senderId);
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+            pendingExits.remove(key);
+            activeSessions.remove(key);
+            exit.run();
+        }, grace.toMillis(), TimeUnit.MILLISECONDS);
+
+        ScheduledFuture<?> previous = pendingExits.put(key, future);
+        if (previous != null) previous.cancel(false);
+    }
+
+    public void unbind(String roomId, String senderId) {
+        activeSessions.remove(key(roomId, senderId));
+    }
+
+    // 유예 중이던 퇴장을 취소했으면 true
+    public boolean cancelExit(String roomId, String senderId) {
+        ScheduledFuture<?> future = pendingExits.remove(key(roomId, senderId));
+        return future != null && future.cancel(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static String key(String roomId, String senderId) {
+        return roomId + "|" + senderId;
+    }
+}
@@ -10,13 +10,14 @@ const Core = (function() {
     let GameImpl = null;
     let CONFIG = { apiPath: "", wsPath: "/ws" };
 
-    function sendActionInternal(data) {
+    // 게임 행동은 action 필드로 전송 ({ actionType, ... } -> 서버가 타입 있는 액션으로 바로 읽음)
+    function sendActionInternal(action) {
         if (!stompClient || !currentRoomId) return;
         stompClient.send(`/app/${currentRoomId}/action`, {}, JSON.stringify({
             type: 'ACTION',
             senderId: myId,
             sender: myNickname,
-            data: data
+            action: action
         }));
     }
 
@@ -121,30 +122,94 @@ const Core = (function() {
         loadRooms();
     }
 
+    // 로비 목록 (roomId -> 요약). 처음엔 REST로 받고, 이후엔 /topic/lobby 이벤트로 갱신
+    let lobbyClient = null;
+    let lobbyRooms = new Map();
+    let lobbyVersions = null; // 노드별 로비 버전 (단일 서버면 '' 하나, 초기 목록 도착 전이면 null)
+    let lobbyBuffered = [];
+
     function loadRooms() {
-        fetch(`${CONFIG.apiPath}/api/rooms`)
+        fetch(`${CONFIG.apiPath}/api/rooms?size=50`)
             .then(res => res.json())
-            .then(rooms => {
-                const list = document.getElementById('room-list');
-                list.innerHTML = '';
-                if (!rooms.length) list.innerHTML = '<li style="padding:15px; text-align:center; color:#888;">생성된 방이 없습니다.</li>';
-
-                rooms.forEach(r => {
-                    const li = document.createElement('li');
-                    li.className = 'room-item';
-
-                    // [수정] 게임 중인 경우 버튼 비활성화 및 텍스트 변경
-                    const btnHtml = r.playing
-                        ? `<button class="btn-default" disabled style="opacity:0.6; cursor:not-allowed;">진행 중</button>`
-                        : `<button class="btn-default" onclick="Core.joinRoom('${r.roomId}', '${r.roomName}')">참가</button>`;
-
-                    li.innerHTML = `<span style="font-weight:bold;">${r.roomName}</span> ${btnHtml}`;
-                    list.appendChild(li);
-                });
+            .then(page => {
+                lobbyRooms = new Map(page.content.map(r => [r.roomId, r]));
+                renderRoomList();
+                connectLobby();
             })
             .catch(err => showAlert("방 목록 로드 실패"));
     }
 
+    // 로비 푸시 연결 : 이벤트 토픽을 먼저 구독하고 초기 목록(/app/lobby)을 받음
+    function connectLobby() {
+        if (lobbyClient) return;
+        const socket = new SockJS(CONFIG.wsPath);
+        lobbyClient = Stomp.over(socket);
+        lobbyClient.debug = null;
+        lobbyVersions = null;
+        lobbyBuffered = [];
+        lobbyClient.connect({}, function () {
+            lobbyClient.subscribe('/topic/lobby', function (msg) {
+                const frame = JSON.parse(msg.body);
+                if (!lobbyVersions) lobbyBuffered.push(frame); // 초기 목록 도착 전이면 보관
+                else applyLobbyEvents(frame);
+            });
+            lobbyClient.subscribe('/app/lobby', function (msg) {
+                const snapshot = JSON.parse(msg.body);
+                lobbyRooms = new Map(snapshot.rooms.map(r => [r.roomId, r]));
+                // 클러스터 모드면 노드별 버전 (versions), 아니면 버전 하나
+                lobbyVersions = snapshot.versions && Object.keys(snapshot.versions).length
+                    ? { ...snapshot.versions }
+                    : { '': snapshot.version };
+                lobbyBuffered.forEach(applyLobbyEvents);
+                lobbyBuffered = [];
+                renderRoomList();
+            });
+        }, function () {
+            lobbyClient = null; // 끊기면 다음 loadRooms 때 다시 연결
+        });
+    }
+
+    function disconnectLobby() {
+        if (lobbyClient) lobbyClient.disconnect();
+        lobbyClient = null;
+    }
+
+    function applyLobbyEvents(frame) {
+        const node = frame.node || '';
+        if (frame.version <= (lobbyVersions[node] ?? -1)) return; // 초기 목록에 이미 반영됨
+        lobbyVersions[node] = frame.version;
+        frame.events.forEach(e => {
+            if (e.type === 'ROOM_REMOVED') lobbyRooms.delete(e.roomId);
+            else lobbyRooms.set(e.roomId, e.room);
+        });
+        renderRoomList();
+    }
+
+    function renderRoomList() {
+        const rooms = Array.from(lobbyRooms.values());
+        const list = document.getElementById('room-list');
+        if (!list) return;
+        list.innerHTML = '';
+        if (!rooms.length) list.innerHTML = '<li style="padding:15px; text-align:center; color:#888;">생성된 방이 없습니다.</li>';
+
+        rooms.forEach(r => {
+            const li = document.createElement('li');
+            li.className = 'room-item';
+
+            // [수정] 게임 중인 경우 버튼 비활성화 및 텍스트 변경
+            const full = r.playerCount >= r.maxPlayers;
+            const btnHtml = !r.joinable
+                ? `<button class="btn-default" disabled style="opacity:0.6; cursor:not-allowed;">진행 중</button>`
+                : full
+                ? `<button class="btn-default" disabled style="opacity:0.6; cursor:not-allowed;">정원 초과</button>`
+                : `<button class="btn-default" onclick="Core.joinRoom('${r.roomId}', '${r.roomName}')">참가</button>`;
+
+            li.innerHTML = `<span style="font-weight:bold;">${r.roomName}</span>
+                <span style="color:#888; font-size:0.9em;">👥 ${r.playerCount}/${r.maxPlayers} · ${r.rows}x${r.cols}</span> ${btnHtml}`;
+            list.appendChild(li);
+        });
+    }
+
     function createRoom() {
         const nameInput = document.getElementById('roomNameInput');
         const createBtn = document.querySelector('button[onclick="Core.createRoom()"]');
@@ -204,11 +269,13 @@ const Core = (function() {
         fetch(`${CONFIG.apiPath}/api/rooms/${roomId}`)
             .then(res => res.json())
             .then(room => {
-                if (room.playing) {
+                // 게임 중에도 입장 가능한 방(초대형 보드)은 통과
+                if (room.playing && !room.joinable) {
                     showAlert("이미 게임이 시작되어 입장할 수 없습니다.");
                     loadRooms(); // 목록 새로고침
                     return;
                 }
+                disconnectLobby();
                 currentRoomId = roomId;
                 const titleText = document.getElementById('room-title-text');
                 if(titleText) titleText.innerText = roomName;
@@ -224,11 +291,35 @@ const Core = (function() {
             .catch(err => showAlert("입장 실패: " + err));
     }
 
-    function connectStomp(roomId) {
+    // 방 연결 상태 : lastSeq = 마지막으로 적용한 방 메시지 순번 (재접속 시 이어받기 기준)
+    let lastSeq = 0;
+    let leaving = false;
+    let reconnectAttempts = 0;
+    const MAX_RECONNECT_ATTEMPTS = 6;
+
+    function connectStomp(roomId, resume) {
         const socket = new SockJS(CONFIG.wsPath);
         stompClient = Stomp.over(socket);
         stompClient.debug = null;
         stompClient.connect({}, function () {
+            reconnectAttempts = 0;
+            // 구독을 먼저 해야 입장 직후 메시지(SYNC 등)를 놓치지 않음
+            stompClient.subscribe(`/topic/${roomId}`, function (msg) {
+                receiveRoomMessage(JSON.parse(msg.body));
+            });
+            // 나에게만 오는 메시지 (SYNC, 재접속 시 놓친 메시지 재전송)
+            stompClient.subscribe('/user/queue/room', function (msg) {
+                receiveRoomMessage(JSON.parse(msg.body));
+            });
+
+            if (resume) {
+                stompClient.send(`/app/${roomId}/resume`, {}, JSON.stringify({
+                    type: 'RESUME', sender: myNickname, senderId: myId, data: { lastSeq: lastSeq }
+                }));
+                if (GameImpl.onReconnect) GameImpl.onReconnect();
+                return;
+            }
+
             // 👇 1. 여기서 joinData를 아주 잘 만드셨습니다.
             const joinData = {
                 type: 'JOIN',
@@ -238,16 +329,45 @@ const Core = (function() {
                     dbUsername: localStorage.getItem('username')
                 }
             };
+            // 게임별 입장 옵션 (예: 보드 압축 인코딩 협상)
+            if (GameImpl.getJoinOptions) Object.assign(joinData.data, GameImpl.getJoinOptions());
 
             stompClient.send(`/app/${roomId}/join`, {}, JSON.stringify(joinData));
-            stompClient.subscribe(`/topic/${roomId}`, function (msg) {
-                handleCommonMessage(JSON.parse(msg.body));
-            });
         }, function(error) {
-            showAlert("서버 연결 끊김");
+            if (leaving || currentRoomId !== roomId) return;
+            // 끊기면 점점 간격을 늘려 재접속 (서버가 유예 시간 동안 자리를 잡아둠)
+            if (reconnectAttempts >= MAX_RECONNECT_ATTEMPTS) {
+                showAlert("서버 연결 끊김");
+                return;
+            }
+            const delay = Math.min(1000 * Math.pow(2, reconnectAttempts++), 16000);
+            showChat('SYSTEM', `연결이 끊겼습니다. ${delay / 1000}초 후 다시 연결합니다...`);
+            setTimeout(() => connectStomp(roomId, true), delay);
         });
     }
 
+    // 순번 확인 : 이미 받은 메시지(재전송 중복)는 버리고, SYNC는 항상 적용 후 그 순번을 기준으로 삼음
+    // (서버 재시작 뒤에는 순번이 처음부터 다시 시작하므로 더 작아질 수 있음)
+    function receiveRoomMessage(msg) {
+        // 서버가 묶어 보낸 프레임 : 안의 메시지를 순서대로 (순번은 메시지마다)
+        if (msg.type === 'BATCH') {
+            (msg.messages || []).forEach(receiveRoomMessage);
+            return;
+        }
+        // 타입 있는 이벤트(event)도 예전 data와 같은 모양이므로 data로 읽음
+        if (msg.event && !msg.data) msg.data = msg.event;
+        if (msg.seq != null) {
+            if (msg.type === 'SYNC') {
+                lastSeq = msg.seq;
+            } else if (msg.seq <= lastSeq) {
+                return;
+            } else {
+                lastSeq = msg.seq;
+            }
+        }
+        handleCommonMessage(msg);
+    }
+
     function handleCommonMessage(msg) {
         if (msg.type === 'CHAT') {
             showChat(msg.sender, msg.content);
@@ -265,6 +385,14 @@ const Core = (function() {
             refreshUserCount();
             if (GameImpl.handleMessage) GameImpl.handleMessage(msg, myId);
         }
+        else if (msg.type === 'RESUME_FAILED') {
+            showAlert(msg.content || "방에 다시 들어갈 수 없습니다.");
+            setTimeout(() => exitRoom(), 1500);
+        }
+        else if (msg.type === 'ROOM_CLOSED') {
+            showAlert(msg.content || "방이 닫혔습니다.");
+            setTimeout(() => exitRoom(), 1500);
+        }
         else if (msg.type === 'GAME_OVER') {
             document.getElementById('ranking-modal').classList.remove('hidden');
             const wName = (msg.data && msg.data.winnerName) ? msg.data.winnerName : "Unknown";
@@ -323,6 +451,28 @@ const Core = (function() {
         }
     }
 
+    // 방 안의 하위 토픽 구독 (예: 초대형 보드의 청크 토픽) -> 구독 객체 반환 (unsubscribe()로 해제)
+    function subscribeRoomTopic(suffix, callback) {
+        if (!stompClient || !currentRoomId) return null;
+        return stompClient.subscribe(`/topic/${currentRoomId}${suffix}`, msg => callback(JSON.parse(msg.body)));
+    }
+
+    // 현재 방의 REST 하위 경로 조회 (예: 초대형 보드 청크) -> JSON, 실패하면 null
+    function fetchRoomApi(suffix) {
+        if (!currentRoomId) return Promise.resolve(null);
+        return fetch(`${CONFIG.apiPath}/api/rooms/${currentRoomId}${suffix}`)
+            .then(res => res.ok ? res.json() : null)
+            .catch(() => null);
+    }
+
+    // base64 문자열 -> 바이트 배열 (압축 보드 디코딩용)
+    function decodeBase64(str) {
+        const bin = window.atob(str);
+        const bytes = new Uint8Array(bin.length);
+        for (let i = 0; i < bin.length; i++) bytes[i] = bin.charCodeAt(i);
+        return bytes;
+    }
+
     function showAlert(msg) {
         document.getElementById('alert-msg-text').innerText = msg;
         document.getElementById('alert-modal').classList.remove('hidden');
@@ -333,6 +483,11 @@ const Core = (function() {
         exitRoom();
     }
     function exitRoom() {
+        leaving = true;
+        // 명시적 퇴장 (그냥 끊으면 서버는 재접속을 기다림)
+        if (stompClient && stompClient.connected && currentRoomId) {
+            stompClient.send(`/app/${currentRoomId}/exit`, {}, JSON.stringify({ type: 'EXIT', sender: myNickname, senderId: myId }));
+        }
         if(stompClient) stompClient.disconnect();
         location.reload();
     }
@@ -630,6 +785,7 @@ const Core = (function() {
         closeLeaderboard,toggleChat,
         openImageModal, closeImageModal,
         uploadFile, addExternalLink,loadImages,
+        decodeBase64, subscribeRoomTopic, fetchRoomApi, showChat,
         startGame: () => sendActionInternal({ actionType: 'START' }),
         sendAction: (data) => sendActionInternal(data)
     };
@@ -3,12 +3,19 @@
 const MineGame = {
     myId: null,
     playerNames: {},
-    myFlags: new Set(),
+    state: null, // 서버 상태 사본 (SYNC/GAME_START 전체 상태 + UPDATE 델타로 갱신)
+    resyncRequested: false,
+
+    // JOIN 때 서버에 알리는 옵션: 보드를 압축 문자열로 받음
+    getJoinOptions: () => ({ boardEncoding: "packed" }),
 
     onEnterRoom: () => {
         MineGame.myId = null;
         MineGame.playerNames = {};
-        MineGame.myFlags.clear();
+        resetMoves();
+        MineGame.state = null;
+        MineGame.resyncRequested = false;
+        Mega.reset();
         console.log("Joined Mine Room.");
 
         const boardEl = document.getElementById('board');
@@ -17,7 +24,16 @@ const MineGame = {
         renderUserList({}, [], null);
     },
 
+    // 재접속 : 청크 구독은 옛 연결과 함께 사라짐 -> 보고 있는 청크를 다시 구독하고 조회
+    onReconnect: () => {
+        if (Mega.active) Mega.reload();
+    },
+
     handleMessage: (msg, myId) => {
+        if (msg.type === 'HINT') {
+            showHint(msg);
+            return;
+        }
         if (msg.type === 'GAME_OVER') {
             if (msg.data && msg.data.isWin) {
                 confetti({ particleCount: 150, spread: 60 });
@@ -30,23 +46,386 @@ const MineGame = {
             Core.showAlert(msg.content);
         }
         else if (msg.type === 'UPDATE' && msg.content) {
-            Core.showAlert(msg.content);
+            // 초대형 보드의 탈락 알림은 인원이 많아 채팅으로만
+            if (Mega.active) Core.showChat('SYSTEM', msg.content);
+            else Core.showAlert(msg.content);
         }
 
         MineGame.myId = myId;
         const data = msg.data;
         if (!data) return;
 
+        // 초대형 보드 : 전체 보드 대신 보고 있는 청크만 (방 토픽에는 인원/탈락 정보만 옴)
+        if (data.mode === 'MEGA' || Mega.active) {
+            Mega.apply(data, myId);
+            return;
+        }
+
+        // 보낸 행동의 결과가 도착 -> 그 사이 모아 둔 행동을 한 번에 전송
+        if (msg.type === 'GAME_OVER') resetMoves();
+        else if (['UPDATE', 'SYNC', 'GAME_START'].includes(msg.type)) flushMoves();
+
         if (data.playerNames) {
             MineGame.playerNames = data.playerNames;
         }
 
-        updateStatus(data, myId);
-        renderUserList(MineGame.playerNames, data.eliminatedUsers || [], data.currentTurnId);
-        renderBoard(data, myId);
+        const state = applyState(data);
+        if (!state) return;
+
+        updateStatus(state, myId);
+        renderUserList(MineGame.playerNames, state.eliminatedUsers || [], state.currentTurnId);
+        renderBoard(state, myId);
     }
 };
 
+// --- [상태 동기화] ---
+
+// 전체 상태(board 포함)는 그대로 교체, 델타(cells)는 버전이 이어질 때만 적용
+function applyState(data) {
+    if (data.packedBoard) {
+        const unpacked = decodePackedBoard(data.packedBoard, data.rows, data.cols);
+        data.board = unpacked.board;
+        data.viewState = unpacked.viewState;
+    }
+
+    if (data.board) {
+        MineGame.resyncRequested = false;
+        MineGame.state = {
+            board: data.board,
+            viewState: data.viewState,
+            realtime: data.mode === 'REALTIME', // 턴 없는 실시간 방 (누구나 열 수 있음)
+            playing: data.playing,
+            currentTurnId: data.currentTurnId,
+            eliminatedUsers: data.eliminatedUsers,
+            remainingCells: data.remainingCells,
+            version: data.version
+        };
+        return MineGame.state;
+    }
+
+    if (!data.cells) return MineGame.state;
+
+    const state = MineGame.state;
+    if (!state || data.version !== state.version + 1) {
+        // 중간 메시지를 놓침 -> 전체 상태 다시 요청 (응답 올 때까지 한 번만)
+        if (!MineGame.resyncRequested) {
+            MineGame.resyncRequested = true;
+            Core.sendAction({ actionType: "RESYNC" });
+        }
+        return null;
+    }
+
+    // 깃발 먼저 (깃발을 뽑고 연 칸이 다시 닫히지 않도록, 열린 칸에는 깃발 변화가 오지 않음)
+    (data.flags || []).forEach(([r, c, on]) => {
+        state.viewState[r][c] = on ? 2 : 0;
+    });
+    data.cells.forEach(([r, c, value]) => {
+        state.board[r][c] = value;
+        state.viewState[r][c] = 1;
+    });
+    state.playing = data.playing;
+    state.currentTurnId = data.currentTurnId;
+    state.eliminatedUsers = data.eliminatedUsers;
+    state.remainingCells = data.remainingCells;
+    state.version = data.version;
+    return state;
+}
+
+// --- [행동 묶음 전송] ---
+// 보낸 행동의 결과(UPDATE)를 기다리는 동안 들어온 행동은 모아 두었다가 결과가 오면 BATCH 한 프레임으로 전송
+// (서버가 거절한 행동은 결과가 오지 않으므로 잠시 뒤 그냥 다음 묶음을 보냄)
+// 한 차례에 칸을 여는 행동(OPEN / CHORD)은 하나뿐 -> 묶음에는 깃발 + 여는 행동 하나까지만 모음
+const MAX_BATCH = 64;
+const MOVE_TIMEOUT_MS = 300;
+const Moves = { inFlight: false, queued: [], timer: null };
+
+function sendMove(action) {
+    if (Moves.inFlight) {
+        // 서버가 어차피 버릴 두 번째 여는 행동은 모으지 않음
+        if (action.actionType !== 'FLAG' && Moves.queued.some(a => a.actionType !== 'FLAG')) return;
+        Moves.queued.push(action);
+        return;
+    }
+    dispatchMoves([action]);
+}
+
+function dispatchMoves(actions) {
+    Moves.inFlight = true;
+    clearTimeout(Moves.timer);
+    Moves.timer = setTimeout(flushMoves, MOVE_TIMEOUT_MS);
+    Core.sendAction(actions.length === 1 ? actions[0] : { actionType: "BATCH", actions: actions });
+}
+
+function flushMoves() {
+    Moves.inFlight = false;
+    clearTimeout(Moves.timer);
+    if (Moves.queued.length > 0) dispatchMoves(Moves.queued.splice(0, MAX_BATCH));
+}
+
+function resetMoves() {
+    Moves.inFlight = false;
+    Moves.queued = [];
+    clearTimeout(Moves.timer);
+}
+
+// --- [힌트] ---
+function requestHint() {
+    Core.sendAction({ actionType: "HINT" });
+}
+
+// 경계 칸에 지뢰 확률(%) 표시 (다음 렌더링 때 사라짐)
+function showHint(msg) {
+    const data = msg.data || {};
+    if (msg.content) Core.showAlert(msg.content);
+    if (!data.cells || !MineGame.state || data.version !== MineGame.state.version) return;
+
+    const boardEl = document.getElementById('board');
+    const cols = MineGame.state.board[0].length;
+    data.cells.forEach(([r, c, permille]) => {
+        const cell = boardEl.children[r * cols + c];
+        if (!cell || cell.classList.contains('open')) return;
+        const percent = Math.round(permille / 10);
+        cell.title = `지뢰 확률 ${percent}%`;
+        cell.style.background = `rgba(231, 76, 60, ${(permille / 1000 * 0.6).toFixed(2)})`;
+        if (!cell.innerHTML) {
+            cell.style.fontSize = '0.6em';
+            cell.innerText = percent;
+        }
+    });
+    Core.showChat('SYSTEM', `💡 나머지 닫힌 칸 지뢰 확률 ${Math.round(data.interiorPermille / 10)}% (남은 힌트 ${data.hintsLeft}회)`);
+}
+
+// 한 칸 = 1바이트 (하위 4비트: 값+1, 상위 4비트: 보기 상태) -> board / viewState 2차원 배열
+function decodePackedBoard(packed, rows, cols) {
+    const bytes = Core.decodeBase64(packed);
+    const board = [];
+    const viewState = [];
+    for (let r = 0; r < rows; r++) {
+        const boardRow = new Array(cols);
+        const viewRow = new Array(cols);
+        for (let c = 0; c < cols; c++) {
+            const v = bytes[r * cols + c];
+            boardRow[c] = (v & 0x0F) - 1;
+            viewRow[c] = v >> 4;
+        }
+        board.push(boardRow);
+        viewState.push(viewRow);
+    }
+    return { board, viewState };
+}
+
+// --- [초대형 보드] ---
+// 화면에 보이는 칸만 그리고, 그 칸이 걸친 청크만 구독 (/topic/{roomId}/chunk/{cr}/{cc}) + REST로 현재 상태 조회
+// 구독을 먼저 하고 조회 -> 그 사이 열린 칸은 토픽으로 받음 (열린 칸은 다시 닫히지 않으므로 둘을 합치면 됨)
+// 칸 바이트는 서버 청크 보기와 같은 형식 (하위 4비트: 값+1, 상위 4비트: 1이면 열림)
+const MEGA_CELL_SIZE = 24;
+const MEGA_MAX_VIEW = 40;
+
+const Mega = {
+    active: false,
+    rows: 0, cols: 0, chunkSize: 32,
+    top: 0, left: 0, viewRows: 0, viewCols: 0,
+    state: { playing: false, eliminatedUsers: [], openedCells: 0, playerCount: 0 },
+    myId: null,
+    chunks: new Map(), // "cr/cc" -> { bytes, sub }
+    renderQueued: false,
+
+    reset() {
+        Mega.chunks.forEach(chunk => unsubscribeChunk(chunk));
+        Mega.chunks.clear();
+        Mega.active = false;
+        const hintBtn = document.getElementById('hintBtn');
+        if (hintBtn) hintBtn.style.display = '';
+    },
+
+    // SYNC(mode: MEGA) 또는 이후 방 메시지
+    apply(data, myId) {
+        Mega.myId = myId;
+        if (data.mode === 'MEGA' && !Mega.active) {
+            Mega.active = true;
+            Mega.rows = data.rows;
+            Mega.cols = data.cols;
+            Mega.chunkSize = data.chunkSize;
+            measureMegaView();
+            Mega.top = Math.max(0, Math.floor((Mega.rows - Mega.viewRows) / 2));
+            Mega.left = Math.max(0, Math.floor((Mega.cols - Mega.viewCols) / 2));
+            bindMegaControls();
+            const hintBtn = document.getElementById('hintBtn');
+            if (hintBtn) hintBtn.style.display = 'none';
+        }
+        ['playing', 'eliminatedUsers', 'openedCells', 'playerCount'].forEach(key => {
+            if (data[key] !== undefined) Mega.state[key] = data[key];
+        });
+        updateStatus({ ...Mega.state, realtime: true }, myId);
+        const countEl = document.getElementById('room-user-count');
+        if (countEl && data.playerCount !== undefined) countEl.innerText = `👥 ${data.playerCount}명`;
+        syncMegaChunks();
+        queueMegaRender();
+    },
+
+    reload() {
+        Mega.chunks.clear(); // 옛 연결의 구독은 이미 끊김
+        syncMegaChunks();
+    },
+
+    // 화면 이동 (보드 밖으로 나가지 않게)
+    pan(dRows, dCols) {
+        Mega.top = Math.min(Math.max(0, Mega.top + dRows), Math.max(0, Mega.rows - Mega.viewRows));
+        Mega.left = Math.min(Math.max(0, Mega.left + dCols), Math.max(0, Mega.cols - Mega.viewCols));
+        syncMegaChunks();
+        queueMegaRender();
+    }
+};
+
+function measureMegaView() {
+    const stageEl = document.querySelector('.game-stage');
+    const width = stageEl ? stageEl.clientWidth - 40 : 600;
+    const height = stageEl ? stageEl.clientHeight - 40 : 600;
+    Mega.viewCols = Math.max(5, Math.min(MEGA_MAX_VIEW, Mega.cols, Math.floor(width / (MEGA_CELL_SIZE + 1))));
+    Mega.viewRows = Math.max(5, Math.min(MEGA_MAX_VIEW, Mega.rows, Math.floor(height / (MEGA_CELL_SIZE + 1))));
+}
+
+// 휠(Shift: 가로), 방향키, 터치 밀기로 화면 이동 (한 번만 연결)
+let megaControlsBound = false;
+function bindMegaControls() {
+    if (megaControlsBound) return;
+    megaControlsBound = true;
+    const boardEl = document.getElementById('board');
+    if (!boardEl) return;
+
+    boardEl.addEventListener('wheel', e => {
+        if (!Mega.active) return;
+        e.preventDefault();
+        const step = Math.sign(e.deltaY || e.deltaX) * 3;
+        if (e.shiftKey || Math.abs(e.deltaX) > Math.abs(e.deltaY)) Mega.pan(0, step);
+        else Mega.pan(step, 0);
+    }, { passive: false });
+
+    document.addEventListener('keydown', e => {
+        if (!Mega.active || ['INPUT', 'TEXTAREA'].includes(document.activeElement.tagName)) return;
+        const moves = { ArrowUp: [-3, 0], ArrowDown: [3, 0], ArrowLeft: [0, -3], ArrowRight: [0, 3] };
+        if (!moves[e.key]) return;
+        e.preventDefault();
+        Mega.pan(moves[e.key][0], moves[e.key][1]);
+    });
+
+    let touchStart = null;
+    boardEl.addEventListener('touchstart', e => {
+        if (Mega.active && e.touches.length === 1) touchStart = [e.touches[0].clientX, e.touches[0].clientY];
+    }, { passive: true });
+    boardEl.addEventListener('touchend', e => {
+        if (!Mega.active || !touchStart) return;
+        const t = e.changedTouches[0];
+        const dCols = Math.round((touchStart[0] - t.clientX) / MEGA_CELL_SIZE);
+        const dRows = Math.round((touchStart[1] - t.clientY) / MEGA_CELL_SIZE);
+        touchStart = null;
+        if (dRows || dCols) Mega.pan(dRows, dCols);
+    });
+}
+
+// 화면에 걸친 청크만 남김 : 새 청크는 구독 후 조회, 벗어난 청크는 구독 해제
+function syncMegaChunks() {
+    const size = Mega.chunkSize;
+    const needed = new Set();
+    for (let cr = Math.floor(Mega.top / size); cr <= Math.floor((Mega.top + Mega.viewRows - 1) / size); cr++) {
+        for (let cc = Math.floor(Mega.left / size); cc <= Math.floor((Mega.left + Mega.viewCols - 1) / size); cc++) {
+            needed.add(`${cr}/${cc}`);
+        }
+    }
+
+    Mega.chunks.forEach((chunk, key) => {
+        if (needed.has(key)) return;
+        unsubscribeChunk(chunk);
+        Mega.chunks.delete(key);
+    });
+
+    needed.forEach(key => {
+        if (Mega.chunks.has(key)) return;
+        const chunk = { bytes: new Uint8Array(size * size), sub: null };
+        Mega.chunks.set(key, chunk);
+        chunk.sub = Core.subscribeRoomTopic(`/chunk/${key}`, applyChunkUpdate);
+        Core.fetchRoomApi(`/chunks/${key}`).then(view => {
+            if (!view || Mega.chunks.get(key) !== chunk) return;
+            const fetched = Core.decodeBase64(view.packedCells);
+            for (let i = 0; i < fetched.length; i++) {
+                if (fetched[i] >> 4) chunk.bytes[i] = fetched[i];
+            }
+            queueMegaRender();
+        });
+    });
+}
+
+function unsubscribeChunk(chunk) {
+    try {
+        if (chunk.sub) chunk.sub.unsubscribe();
+    } catch (e) {
+        // 이미 끊긴 연결의 구독
+    }
+}
+
+// CHUNK_UPDATE : data = { cr, cc, cells: [[r, c, value], ...] } (r, c는 보드 전체 좌표)
+function applyChunkUpdate(msg) {
+    const data = msg.data;
+    if (!data) return;
+    const chunk = Mega.chunks.get(`${data.cr}/${data.cc}`);
+    if (!chunk) return;
+    const size = Mega.chunkSize;
+    data.cells.forEach(([r, c, value]) => {
+        chunk.bytes[(r % size) * size + (c % size)] = (1 << 4) | (value + 1);
+    });
+    queueMegaRender();
+}
+
+// 여러 청크 메시지가 연달아 와도 한 프레임에 한 번만 그림
+function queueMegaRender() {
+    if (Mega.renderQueued) return;
+    Mega.renderQueued = true;
+    requestAnimationFrame(() => {
+        Mega.renderQueued = false;
+        if (Mega.active) renderMegaBoard();
+    });
+}
+
+function renderMegaBoard() {
+    const boardEl = document.getElementById('board');
+    if (!boardEl) return;
+    const size = Mega.chunkSize;
+    const isEliminated = (Mega.state.eliminatedUsers || []).includes(Mega.myId);
+    const canInteract = Mega.state.playing && !isEliminated;
+
+    boardEl.style.gap = '1px';
+    boardEl.style.setProperty('--cell-size', `${MEGA_CELL_SIZE}px`);
+    boardEl.style.gridTemplateColumns = `repeat(${Mega.viewCols}, 1fr)`;
+    boardEl.title = `(${Mega.top}, ${Mega.left}) / ${Mega.rows}x${Mega.cols} · 열린 칸 ${Mega.state.openedCells}`;
+    if (canInteract) boardEl.classList.remove('disabled-board');
+    else boardEl.classList.add('disabled-board');
+
+    boardEl.innerHTML = '';
+    for (let r = Mega.top; r < Mega.top + Mega.viewRows; r++) {
+        for (let c = Mega.left; c < Mega.left + Mega.viewCols; c++) {
+            const cell = document.createElement('div');
+            cell.className = 'cell';
+            const chunk = Mega.chunks.get(`${Math.floor(r / size)}/${Math.floor(c / size)}`);
+            const b = chunk ? chunk.bytes[(r % size) * size + (c % size)] : 0;
+
+            if (b >> 4) {
+                const value = (b & 0x0F) - 1;
+                cell.classList.add('open');
+                if (value === -1) {
+                    cell.classList.add('mine');
+                    cell.innerHTML = '<i class="fas fa-bomb"></i>';
+                } else if (value > 0) {
+                    cell.innerText = value;
+                    cell.classList.add('num-' + value);
+                }
+            } else if (canInteract) {
+                cell.onclick = () => Core.sendAction({ actionType: 'OPEN', row: r, col: c });
+            }
+            boardEl.appendChild(cell);
+        }
+    }
+}
+
 // --- [UI 렌더링 헬퍼] ---
 
 function updateStatus(data, myId) {
@@ -81,13 +460,17 @@ function updateStatus(data, myId) {
     }
 
     const isEliminated = data.eliminatedUsers && data.eliminatedUsers.includes(myId);
-    const isMyTurn = (data.currentTurnId === myId);
+    const isMyTurn = data.realtime || (data.currentTurnId === myId);
 
     // ★ [수정됨] Yacht.js 스타일: 배경색 변경 없이 텍스트/테두리로만 상태 표시
     if (isEliminated) {
         statusEl.innerText = "☠️ 관전 모드";
         statusEl.style.color = "var(--status-offline)"; // 빨강
         statusEl.style.borderColor = "var(--status-offline)";
+    } else if (data.realtime) {
+        statusEl.innerText = "⚡ 실시간 - 모두 동시에";
+        statusEl.style.color = "var(--status-online)";
+        statusEl.style.borderColor = "var(--status-online)";
     } else if (isMyTurn) {
         statusEl.innerText = "🟢 나의 턴";
         statusEl.style.color = "var(--status-online)"; // 초록
@@ -195,7 +578,7 @@ function renderBoard(data, myId) {
 
     // ... (이하 기존 로직 동일: 클래스 추가, 이벤트 연결 등) ...
     const isEliminated = data.eliminatedUsers && data.eliminatedUsers.includes(myId);
-    const isMyTurn = (data.currentTurnId === myId);
+    const isMyTurn = data.realtime || (data.currentTurnId === myId);
     const canInteract = data.playing && !isEliminated && isMyTurn;
     const canFlag = data.playing && !isEliminated;
 
@@ -215,11 +598,9 @@ function renderBoard(data, myId) {
 
             const state = viewState[r][c];
             const value = boardData[r][c];
-            const cellKey = `${r},${c}`;
 
             if (state === 1) {
                 cell.classList.add("open");
-                if (MineGame.myFlags.has(cellKey)) MineGame.myFlags.delete(cellKey);
 
                 if (value === -1) {
                     cell.classList.add("mine");
@@ -227,29 +608,25 @@ function renderBoard(data, myId) {
                 } else if (value > 0) {
                     cell.innerText = value;
                     cell.classList.add("num-" + value);
+                    // 열린 숫자 칸 클릭 : 주변 깃발 수가 맞으면 나머지 이웃을 한 번에 열기
+                    if (canInteract) {
+                        cell.onclick = () => sendMove({ actionType: "CHORD", row: r, col: c });
+                    }
                 }
             } else {
-                if (MineGame.myFlags.has(cellKey)) {
+                // 깃발은 서버 상태 (모두에게 보임)
+                if (state === 2) {
                     cell.innerHTML = '<i class="fas fa-flag" style="color:#e74c3c;"></i>';
                 }
 
-                if (canInteract) {
-                    cell.onclick = () => {
-                        if (MineGame.myFlags.has(cellKey)) return;
-                        Core.sendAction({ actionType: "OPEN", row: r, col: c });
-                    };
+                if (canInteract && state === 0) {
+                    cell.onclick = () => sendMove({ actionType: "OPEN", row: r, col: c });
                 }
 
                 if (canFlag) {
                     cell.oncontextmenu = (e) => {
                         e.preventDefault();
-                        if (MineGame.myFlags.has(cellKey)) {
-                            MineGame.myFlags.delete(cellKey);
-                            cell.innerHTML = '';
-                        } else {
-                            MineGame.myFlags.add(cellKey);
-                            cell.innerHTML = '<i class="fas fa-flag" style="color:#e74c3c;"></i>';
-                        }
+                        sendMove({ actionType: "FLAG", row: r, col: c });
                         return false;
                     };
                 }
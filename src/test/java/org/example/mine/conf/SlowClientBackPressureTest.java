@@ -0,0 +1,198 @@
+package org.example.mine.conf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 느린 클라이언트 : 실제 서버에 붙은 STOMP 세션 하나가 읽기를 멈추면 그 세션만 끊기고 다른 구독자는 계속 받는지
+// (순수 WebSocket 소켓으로 접속해 구독만 하고 더 읽지 않음 -> TCP 버퍼가 차면 서버 전송이 막힘)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "mine.websocket.sockjs.enabled=false",
+        "mine.websocket.transport.send-buffer-size-limit=64KB",
+        "mine.websocket.transport.send-time-limit=500ms"
+})
+class SlowClientBackPressureTest {
+
+    private static final String TOPIC = "/topic/back-pressure";
+    private static final String FRAME = "x".repeat(4000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private DisconnectRecorder disconnects;
+
+    @TestConfiguration
+    static class RecorderConfig {
+        @Bean
+        DisconnectRecorder disconnectRecorder() {
+            return new DisconnectRecorder();
+        }
+    }
+
+    // 서버에서 닫힌 세션 기록
+    static class DisconnectRecorder implements ApplicationListener<SessionDisconnectEvent> {
+        private final List<SessionDisconnectEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onApplicationEvent(SessionDisconnectEvent event) {
+            events.add(event);
+        }
+    }
+
+    @Test
+    void defaultsAreBoundWithoutAnyProperties() {
+        WebSocketProperties properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("mine.websocket", WebSocketProperties.class);
+
+        assertEquals(512 * 1024, properties.transport().sendBufferSizeLimit().toBytes());
+        assertEquals(Duration.ofSeconds(10), properties.transport().sendTimeLimit());
+        assertArrayEquals(new long[]{10_000, 10_000}, properties.broker().heartbeat());
+        assertTrue(properties.broker().preservePublishOrder());
+        assertTrue(properties.sockjs().enabled());
+        assertFalse(properties.virtualThreads());
+    }
+
+    @Test
+    void slowClientIsCutOffWhileOtherSubscriberKeepsReceiving() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        StompSession fast = stompClient.connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {})
+                .get(5, TimeUnit.SECONDS);
+        fast.subscribe(TOPIC, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.incrementAndGet();
+            }
+        });
+
+        try (Socket slow = new Socket()) {
+            slow.setReceiveBufferSize(4096);
+            slow.connect(new InetSocketAddress("localhost", port), 5000);
+            slow.setSoTimeout(5000);
+            subscribeWithoutReading(slow);
+
+            // 느린 세션이 끊길 때까지 방 프레임을 계속 발행 (읽는 구독자가 따라올 만큼씩)
+            int published = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+            while (slowCutOff() == null && System.nanoTime() < deadline) {
+                published += publish(8);
+                awaitReceived(received, published);
+            }
+            assertNotNull(slowCutOff(), "읽지 않는 세션이 끊기지 않음");
+
+            // 끊긴 뒤에도 다른 구독자는 계속 받음
+            published += publish(20);
+            assertTrue(awaitReceived(received, published));
+            assertTrue(fast.isConnected());
+        } finally {
+            if (fast.isConnected()) fast.disconnect();
+            stompClient.stop();
+        }
+    }
+
+    private int publish(int count) {
+        for (int i = 0; i < count; i++) messagingTemplate.convertAndSend(TOPIC, FRAME);
+        return count;
+    }
+
+    private static boolean awaitReceived(AtomicInteger received, int expected) throws InterruptedException {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.get() < expected) {
+            if (System.nanoTime() > until) return false;
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    // 한도를 넘어 닫힌 세션 (전송 버퍼/시간 한도 -> SESSION_NOT_RELIABLE)
+    private SessionDisconnectEvent slowCutOff() {
+        return disconnects.events.stream()
+                .filter(e -> CloseStatus.SESSION_NOT_RELIABLE.equals(e.getCloseStatus()))
+                .findFirst().orElse(null);
+    }
+
+    // 핸드셰이크 -> CONNECT -> CONNECTED 확인 -> SUBSCRIBE 후 소켓을 더 읽지 않음
+    private void subscribeWithoutReading(Socket socket) throws Exception {
+        OutputStream out = socket.getOutputStream();
+        InputStream in = socket.getInputStream();
+        String key = Base64.getEncoder().encodeToString("slow-client-key!".getBytes(StandardCharsets.US_ASCII));
+        out.write(("GET /ws HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: " + key + "\r\n"
+                + "Sec-WebSocket-Version: 13\r\n"
+                + "Sec-WebSocket-Protocol: v12.stomp\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        String response = readUntil(in, "\r\n\r\n");
+        assertTrue(response.startsWith("HTTP/1.1 101"), response);
+
+        writeText(out, "CONNECT\naccept-version:1.2\nhost:localhost\nheart-beat:0,0\n\n\0");
+        assertTrue(readUntil(in, "\0").contains("CONNECTED"));
+        writeText(out, "SUBSCRIBE\nid:slow\ndestination:" + TOPIC + "\n\n\0");
+    }
+
+    private static String readUntil(InputStream in, String end) throws Exception {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        while (!buf.toString(StandardCharsets.ISO_8859_1).endsWith(end)) {
+            int b = in.read();
+            if (b < 0) throw new IllegalStateException("연결 끊김: " + buf);
+            buf.write(b);
+        }
+        return buf.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    // 클라이언트 -> 서버 텍스트 프레임 (마스킹 필수, 125바이트 이하만)
+    private static void writeText(OutputStream out, String text) throws Exception {
+        byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+        byte[] mask = {1, 2, 3, 4};
+        out.write(0x81);
+        out.write(0x80 | payload.length);
+        out.write(mask);
+        for (int i = 0; i < payload.length; i++) out.write(payload[i] ^ mask[i % 4]);
+        out.flush();
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.mine.controller;
+
+import org.example.mine.dto.RoomSummary;
+import org.example.mine.service.ClusterNode;
+import org.example.mine.service.GameService;
+import org.example.mine.service.LoopbackRelayTransport;
+import org.example.mine.service.RankingCache;
+import org.example.mine.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class RoomControllerTest {
+
+    private final RoomService roomService = mock(RoomService.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        // 단일 노드 (클러스터 꺼짐) -> 로비는 이 노드 목록 그대로
+        ClusterNode clusterNode = new ClusterNode(false, "node-1", List.of(), 16, Duration.ofSeconds(1), new LoopbackRelayTransport());
+        RoomController controller = new RoomController(roomService, mock(GameService.class), mock(RankingCache.class), clusterNode);
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        // r00 ~ r24 : 짝수는 게임 중, 3의 배수는 정원 참
+        List<RoomSummary> rooms = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            int players = i % 3 == 0 ? 4 : 1;
+            rooms.add(new RoomSummary("id" + i, String.format("r%02d", i), "CLASSIC", players, 4, 10, 10, i % 2 == 0, true));
+        }
+        when(roomService.getLobbyView()).thenReturn(new RoomService.LobbyView(7, List.copyOf(rooms)));
+    }
+
+    @Test
+    void pagesThroughLobby() throws Exception {
+        mvc.perform(get("/api/rooms").param("page", "1").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.content[0].roomName").value("r10"))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.totalElements").value(25));
+
+        mvc.perform(get("/api/rooms").param("page", "2").param("size", "10"))
+                .andExpect(jsonPath("$.content", hasSize(5)));
+    }
+
+    @Test
+    void outOfRangePagingIsClampedInsteadOfFailing() throws Exception {
+        // page * size가 int를 넘는 경우 -> 빈 페이지
+        mvc.perform(get("/api/rooms").param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andExpect(jsonPath("$.totalElements").value(25));
+
+        // 음수 page -> 0, 범위 밖 size -> 20
+        mvc.perform(get("/api/rooms").param("page", "-3").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.content", hasSize(20)));
+    }
+
+    @Test
+    void filtersNotPlayingAndFreeSlot() throws Exception {
+        mvc.perform(get("/api/rooms").param("notPlaying", "true"))
+                .andExpect(jsonPath("$.totalElements").value(12));
+
+        mvc.perform(get("/api/rooms").param("hasFreeSlot", "true"))
+                .andExpect(jsonPath("$.totalElements").value(16));
+
+        // 홀수이면서 3의 배수가 아닌 방
+        mvc.perform(get("/api/rooms").param("notPlaying", "true").param("hasFreeSlot", "true").param("size", "5"))
+                .andExpect(jsonPath("$.totalElements").value(8))
+                .andExpect(jsonPath("$.content[*].roomName").value(contains("r01", "r05", "r07", "r11", "r13")));
+    }
+
+    @Test
+    void unchangedLobbyAnswers304() throws Exception {
+        mvc.perform(get("/api/rooms"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"lobby-7\""));
+
+        mvc.perform(get("/api/rooms").header("If-None-Match", "\"lobby-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        // 버전이 바뀌면 다시 200
+        when(roomService.getLobbyView()).thenReturn(new RoomService.LobbyView(8, List.of()));
+        mvc.perform(get("/api/rooms").header("If-None-Match", "\"lobby-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"lobby-8\""));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCodecTest {
+
+    private static final int[] VIEWS = {0, BoardCodec.OPEN, BoardCodec.FLAG};
+
+    @Test
+    void everyValueAndViewRoundTrips() {
+        for (int value = -1; value <= 8; value++) {
+            for (int view : VIEWS) {
+                byte cell = BoardCodec.cell(value, view);
+                assertEquals(value, BoardCodec.value(cell), "value " + value + " view " + view);
+                assertEquals(view, BoardCodec.view(cell), "value " + value + " view " + view);
+            }
+        }
+        // 닫힌 지뢰가 0 바이트, 닫힌 빈칸이 EMPTY
+        assertEquals(0, BoardCodec.cell(-1, 0));
+        assertEquals(BoardCodec.EMPTY, BoardCodec.cell(0, 0));
+    }
+
+    @Test
+    void withViewKeepsValue() {
+        for (int value = -1; value <= 8; value++) {
+            byte cell = BoardCodec.cell(value, 0);
+            for (int view : VIEWS) {
+                byte changed = BoardCodec.withView(cell, view);
+                assertEquals(value, BoardCodec.value(changed));
+                assertEquals(view, BoardCodec.view(changed));
+                cell = changed;
+            }
+            // 깃발 -> 닫힘으로 되돌려도 값 그대로
+            assertEquals(BoardCodec.cell(value, 0), BoardCodec.withView(cell, 0));
+        }
+    }
+
+    @Test
+    void encodedBoardDecodesToSameCells() {
+        byte[] cells = new byte[30];
+        for (int i = 0; i < cells.length; i++) cells[i] = BoardCodec.cell(i % 10 - 1, VIEWS[i % 3]);
+
+        byte[] decoded = Base64.getDecoder().decode(BoardCodec.encode(cells));
+
+        assertArrayEquals(cells, decoded);
+        for (int i = 0; i < cells.length; i++) {
+            assertEquals(i % 10 - 1, BoardCodec.value(decoded[i]));
+            assertEquals(VIEWS[i % 3], BoardCodec.view(decoded[i]));
+        }
+    }
+
+    @Test
+    void onlyPlayersAskingForPackedAccept() {
+        Player packed = new Player("a", "p1");
+        packed.setAttribute("boardEncoding", BoardCodec.PACKED);
+        Player raw = new Player("b", "p2");
+
+        assertTrue(BoardCodec.accepts(packed));
+        assertFalse(BoardCodec.accepts(raw));
+        assertFalse(BoardCodec.accepts(null));
+    }
+}
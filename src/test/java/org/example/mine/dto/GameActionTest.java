@@ -0,0 +1,81 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameActionTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void typedActionIsReadByActionType() {
+        GameMessage msg = mapper.readValue(
+                "{\"type\":\"ACTION\",\"senderId\":\"p1\",\"action\":{\"actionType\":\"OPEN\",\"row\":3,\"col\":4}}",
+                GameMessage.class);
+
+        assertEquals(new GameAction.Open(3, 4), msg.resolveAction());
+    }
+
+    @Test
+    void unknownActionTypeDoesNotRejectMessage() {
+        GameMessage msg = mapper.readValue(
+                "{\"type\":\"ACTION\",\"action\":{\"actionType\":\"TELEPORT\",\"row\":1}}", GameMessage.class);
+
+        assertInstanceOf(GameAction.Unknown.class, msg.resolveAction());
+    }
+
+    @Test
+    void legacyDataMapIsConverted() {
+        GameMessage msg = GameMessage.builder()
+                .data(Map.of("actionType", "OPEN", "row", 1, "col", 2))
+                .build();
+
+        assertEquals(new GameAction.Open(1, 2), msg.resolveAction());
+    }
+
+    @Test
+    void malformedLegacyDataBecomesUnknown() {
+        // 예전에는 (int) 캐스팅에서 ClassCastException
+        assertInstanceOf(GameAction.Unknown.class, GameAction.fromData(Map.of("actionType", "OPEN", "row", "x", "col", 2)));
+        assertInstanceOf(GameAction.Unknown.class, GameAction.fromData(Map.of("row", 1)));
+        assertInstanceOf(GameAction.Unknown.class, GameAction.fromData(null));
+    }
+
+    @Test
+    void eventLogDataRoundTrips() {
+        List<GameAction> actions = List.of(
+                new GameAction.Start(42L, true),
+                new GameAction.Start(7L, null),
+                new GameAction.Open(5, 6),
+                new GameAction.Resync(),
+                new GameAction.Hint());
+        for (GameAction action : actions) {
+            assertEquals(action, GameAction.fromData(action.toData()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateEventKeepsLegacyFieldNames() {
+        GameMessage msg = new GameMessage();
+        msg.setType("GAME_OVER");
+        msg.setEvent(new GameEvent.Update(3, List.of(new int[]{0, 1, 2}), null, false, "", Set.of("p2"), 0,
+                true, List.of("p1"), "tester"));
+
+        Map<String, Object> json = mapper.readValue(mapper.writeValueAsString(msg), Map.class);
+        Map<String, Object> event = (Map<String, Object>) json.get("event");
+
+        assertFalse(json.containsKey("action"));
+        assertFalse(event.containsKey("flags"));
+        assertEquals(true, event.get("isWin"));
+        assertEquals(List.of("p1"), event.get("winnerIds"));
+        assertEquals(List.of(List.of(0, 1, 2)), event.get("cells"));
+        assertEquals(0, event.get("remainingCells"));
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintEngineTest {
+
+    @Test
+    void forcedFiftyFiftyIsHalf() {
+        // 0 1 *
+        // 0 1 1   (왼쪽 두 줄만 열림)
+        int[][] board = {{0, 1, -1}, {0, 1, 1}};
+        int[][] view = {{1, 1, 0}, {1, 1, 0}};
+
+        HintEngine.Result result = new HintEngine(2, 3, 1, pack(board, view)).probabilities();
+
+        assertEquals(2, result.cells().size());
+        result.cells().forEach(cell -> assertEquals(500, cell[2]));
+    }
+
+    @Test
+    void certainCellsAreZeroOrOne() {
+        // 0 1 *   -> (0,2)만 닫힘, 확실한 지뢰
+        int[][] board = {{0, 1, -1}};
+        int[][] view = {{1, 1, 0}};
+
+        HintEngine.Result result = new HintEngine(1, 3, 1, pack(board, view)).probabilities();
+
+        assertEquals(1, result.cells().size());
+        assertEquals(1000, result.cells().get(0)[2]);
+    }
+
+    @Test
+    void incrementalMatchesFromScratchWhileCellsOpen() {
+        for (long seed = 1; seed <= 10; seed++) {
+            GeneratedBoard generated = MineBoardGenerator.generate(16, 16, 40, seed, false);
+            byte[] cells = new byte[256];
+            for (int i = 0; i < 256; i++) cells[i] = BoardCodec.cell(generated.cells()[i], 0);
+
+            HintEngine incremental = new HintEngine(16, 16, 40, cells);
+            reveal(cells, 16, 16, incremental, generated.startRow(), generated.startCol());
+
+            Random rand = new Random(seed);
+            for (int step = 0; step < 15; step++) {
+                assertSameResult(new HintEngine(16, 16, 40, cells).probabilities(), incremental.probabilities(),
+                        "seed=" + seed + " step=" + step);
+
+                // 아무 닫힌 안전 칸 하나 열기
+                int r;
+                int c;
+                do {
+                    r = rand.nextInt(16);
+                    c = rand.nextInt(16);
+                } while (BoardCodec.view(cells[r * 16 + c]) != 0 || BoardCodec.value(cells[r * 16 + c]) == -1);
+                reveal(cells, 16, 16, incremental, r, c);
+            }
+        }
+    }
+
+    private static void assertSameResult(HintEngine.Result expected, HintEngine.Result actual, String message) {
+        List<int[]> e = sorted(expected.cells());
+        List<int[]> a = sorted(actual.cells());
+        assertEquals(e.size(), a.size(), message);
+        for (int i = 0; i < e.size(); i++) {
+            assertArrayEquals(e.get(i), a.get(i), message);
+        }
+        assertEquals(expected.interiorPermille(), actual.interiorPermille(), message);
+    }
+
+    private static List<int[]> sorted(List<int[]> cells) {
+        return cells.stream()
+                .sorted(Comparator.<int[]>comparingInt(cell -> cell[0]).thenComparingInt(cell -> cell[1]))
+                .toList();
+    }
+
+    private static byte[] pack(int[][] board, int[][] view) {
+        int cols = board[0].length;
+        byte[] cells = new byte[board.length * cols];
+        for (int i = 0; i < cells.length; i++) cells[i] = BoardCodec.cell(board[i / cols][i % cols], view[i / cols][i % cols]);
+        return cells;
+    }
+
+    // MineRoom.openCell과 같은 연쇄 열기 + 엔진 통지
+    private static void reveal(byte[] cells, int rows, int cols, HintEngine engine, int r, int c) {
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        cells[r * cols + c] = BoardCodec.withView(cells[r * cols + c], BoardCodec.OPEN);
+        engine.onReveal(r, c);
+        queue.add(new int[]{r, c});
+        while (!queue.isEmpty()) {
+            int[] cur = queue.poll();
+            if (BoardCodec.value(cells[cur[0] * cols + cur[1]]) != 0) continue;
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int nr = cur[0] + dr;
+                    int nc = cur[1] + dc;
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || BoardCodec.view(cells[nr * cols + nc]) != 0) continue;
+                    cells[nr * cols + nc] = BoardCodec.withView(cells[nr * cols + nc], BoardCodec.OPEN);
+                    engine.onReveal(nr, nc);
+                    queue.add(new int[]{nr, nc});
+                }
+            }
+        }
+    }
+}
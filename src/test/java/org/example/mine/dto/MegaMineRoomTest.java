@@ -0,0 +1,136 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MegaMineRoomTest {
+
+    @Test
+    void sameSeedProducesSameBoard() {
+        MegaMineRoom a = startedRoom(42);
+        MegaMineRoom b = startedRoom(42);
+
+        a.handleAction(open("p1", 500, 500));
+        b.handleAction(open("p1", 500, 500));
+
+        for (int cr = 14; cr <= 16; cr++) {
+            for (int cc = 14; cc <= 16; cc++) {
+                assertArrayEquals(a.getChunkView(cr, cc), b.getChunkView(cr, cc));
+            }
+        }
+        assertEquals(a.getOpenedCells(), b.getOpenedCells());
+    }
+
+    @Test
+    void onlyTouchedChunksAreGenerated() {
+        MegaMineRoom room = startedRoom(7);
+        assertEquals(0, room.getLoadedChunkCount());
+
+        // 조회만 해서는 청크가 만들어지지 않음
+        room.getChunkView(0, 0);
+        assertEquals(0, room.getLoadedChunkCount());
+
+        room.handleAction(open("p1", 5000, 5000));
+        assertTrue(room.getLoadedChunkCount() > 0);
+        assertTrue(room.getLoadedChunkCount() < 100);
+    }
+
+    @Test
+    void revealedCellsAreRoutedToChunkTopics() {
+        MegaMineRoom room = startedRoom(3);
+        GameMessage result = null;
+        // 지뢰가 아닌 칸을 열 때까지 (지뢰를 밟으면 content에 탈락 알림이 담김)
+        for (int c = 0; c < 100; c++) {
+            result = room.handleAction(open("p" + c, 2000, 2000 + c));
+            if (result != null && result.getContent() == null) break;
+        }
+
+        assertNotNull(result);
+        Map<String, GameMessage> routed = room.routeMessage(result);
+        assertFalse(routed.isEmpty());
+        routed.forEach((suffix, msg) -> {
+            assertTrue(suffix.startsWith("/chunk/"));
+            assertEquals("CHUNK_UPDATE", msg.getType());
+        });
+    }
+
+    @Test
+    void floodStopsAtTouchedChunkNeighbourhoodAndContinuesOnChunkView() {
+        // 지뢰가 거의 없는 보드 -> 범위가 없으면 한 번에 보드 전체가 열림
+        MegaMineRoom room = startedRoom(11, 0.001);
+        GameMessage result = room.handleAction(open("p1", 5000, 5000));
+        assertNull(result.getContent());
+
+        int cr = 5000 / MegaMineRoom.CHUNK_SIZE;
+        int cc = 5000 / MegaMineRoom.CHUNK_SIZE;
+        room.routeMessage(result).keySet().forEach(suffix -> {
+            String[] parts = suffix.split("/");
+            assertTrue(Math.abs(Integer.parseInt(parts[2]) - cr) <= 1);
+            assertTrue(Math.abs(Integer.parseInt(parts[3]) - cc) <= 1);
+        });
+        assertTrue(room.getOpenedCells() <= 9L * MegaMineRoom.CHUNK_SIZE * MegaMineRoom.CHUNK_SIZE);
+        assertFalse(hasOpenCell(room.getChunkView(cr + 2, cc)));
+
+        // 범위 밖 청크는 멈춘 연쇄만 표시 (조회로는 상태가 바뀌지 않음) -> FLOOD 액션으로 그 청크 안으로만 이어서 열림
+        assertTrue(room.hasPendingFlood(cr + 2, cc));
+        assertFalse(hasOpenCell(room.getChunkView(cr + 2, cc)));
+        assertTrue(room.hasPendingFlood(cr + 2, cc));
+
+        GameMessage more = room.handleAction(flood(cr + 2, cc));
+        assertNotNull(more);
+        assertEquals(Set.of("/chunk/" + (cr + 2) + "/" + cc), room.routeMessage(more).keySet());
+        assertTrue(hasOpenCell(room.getChunkView(cr + 2, cc)));
+        assertFalse(room.hasPendingFlood(cr + 2, cc));
+        assertNull(room.handleAction(flood(cr + 2, cc)));
+        assertNull(room.handleAction(flood(cr + 5, cc)));
+    }
+
+    @Test
+    void floodActionRoundTripsThroughEventLogData() {
+        GameMessage logged = flood(3, 4);
+        GameMessage replayed = GameMessage.builder().data(logged.resolveAction().toData()).build();
+        assertEquals(new GameAction.Flood(3, 4), replayed.resolveAction());
+    }
+
+    @Test
+    void megaRoomsStayJoinableWhilePlaying() {
+        MegaMineRoom room = startedRoom(1);
+        assertTrue(room.isPlaying());
+        assertTrue(room.isJoinable());
+        assertTrue(room.toSummary().isJoinable());
+    }
+
+    private static boolean hasOpenCell(byte[] view) {
+        for (byte b : view) {
+            if (b != 0) return true;
+        }
+        return false;
+    }
+
+    private static MegaMineRoom startedRoom(long seed) {
+        return startedRoom(seed, 0.15);
+    }
+
+    private static MegaMineRoom startedRoom(long seed, double density) {
+        MegaMineRoom room = new MegaMineRoom("mega", 10000, 10000, density, seed);
+        room.handleAction(GameMessage.builder().senderId("host").data(Map.of("actionType", "START")).build());
+        return room;
+    }
+
+    private static GameMessage flood(int cr, int cc) {
+        return GameMessage.builder().type("ACTION").sender("SYSTEM").action(new GameAction.Flood(cr, cc)).build();
+    }
+
+    private static GameMessage open(String senderId, int r, int c) {
+        return GameMessage.builder()
+                .type("ACTION")
+                .sender(senderId)
+                .senderId(senderId)
+                .data(Map.of("actionType", "OPEN", "row", r, "col", c))
+                .build();
+    }
+}
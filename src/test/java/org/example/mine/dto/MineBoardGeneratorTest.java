@@ -0,0 +1,78 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MineBoardGeneratorTest {
+
+    @Test
+    void sameSeedProducesSameBoard() {
+        GeneratedBoard a = MineBoardGenerator.generate(16, 16, 40, 99L, true);
+        GeneratedBoard b = MineBoardGenerator.generate(16, 16, 40, 99L, true);
+
+        assertArrayEquals(a.cells(), b.cells());
+        assertEquals(a.startRow(), b.startRow());
+        assertEquals(a.startCol(), b.startCol());
+        assertEquals(a.noGuess(), b.noGuess());
+    }
+
+    @Test
+    void startAreaIsAlwaysMineFree() {
+        for (long seed = 1; seed <= 50; seed++) {
+            GeneratedBoard board = MineBoardGenerator.generate(10, 10, 15, seed, false);
+            assertEquals(15, countMines(board));
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int r = board.startRow() + dr;
+                    int c = board.startCol() + dc;
+                    if (r < 0 || r >= 10 || c < 0 || c >= 10) continue;
+                    assertNotEquals(-1, board.cells()[r * 10 + c], "seed=" + seed);
+                }
+            }
+            // 주변에 지뢰가 없으므로 시작 칸은 빈칸 (연쇄로 열림)
+            assertEquals(0, board.cells()[board.startRow() * 10 + board.startCol()]);
+        }
+    }
+
+    @Test
+    void noGuessBoardsAreSolvableFromStart() {
+        for (long seed = 1; seed <= 20; seed++) {
+            GeneratedBoard board = MineBoardGenerator.generate(10, 10, 15, seed, true);
+            assertTrue(board.noGuess(), "seed=" + seed);
+            assertTrue(MineSolver.isSolvable(board.cells(), 10, 10, 15, board.startRow(), board.startCol()));
+        }
+    }
+
+    @Test
+    void solverRejectsForcedFiftyFifty() {
+        // 0 1 *
+        // 0 1 1   -> 오른쪽 두 칸 중 어느 쪽이 지뢰인지 알 수 없음
+        byte[] cells = {0, 1, -1, 0, 1, 1};
+        assertFalse(MineSolver.isSolvable(cells, 2, 3, 1, 1, 0));
+    }
+
+    @Test
+    void solverFollowsSinglePointDeduction() {
+        byte[] cells = {0, 1, -1};
+        assertTrue(MineSolver.isSolvable(cells, 1, 3, 1, 0, 0));
+    }
+
+    @Test
+    void solverUsesSubsetRule() {
+        // * 2 *    (1,0)의 1 -> {(0,0),(0,1)} 중 1개, (1,1)의 2 -> {(0,0),(0,1),(0,2)} 중 2개
+        // 1 2 1    => 차집합 (0,2)는 지뢰 (한 칸 규칙만으로는 막힘)
+        // 0 0 0    아래 줄 왼쪽에서 시작
+        byte[] cells = {
+                -1, 2, -1,
+                1, 2, 1,
+                0, 0, 0};
+        assertTrue(MineSolver.isSolvable(cells, 3, 3, 2, 2, 0));
+    }
+
+    private static int countMines(GeneratedBoard board) {
+        int cnt = 0;
+        for (byte v : board.cells()) if (v == -1) cnt++;
+        return cnt;
+    }
+}
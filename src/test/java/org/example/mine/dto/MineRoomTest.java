@@ -0,0 +1,307 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MineRoomTest {
+
+    private static final String PLAYER_ID = "p1";
+
+    @Test
+    void floodFillMatchesRecursiveReferenceOnSeededBoards() {
+        int[][] sizes = {{10, 10, 15}, {30, 30, 100}, {40, 25, 60}, {16, 30, 20}};
+        for (int[] size : sizes) {
+            for (long seed = 1; seed <= 30; seed++) {
+                assertSameAsReference(size[0], size[1], size[2], seed);
+            }
+        }
+    }
+
+    @Test
+    void floodFillOnHugeEmptyBoardDoesNotOverflowStack() {
+        MineRoom room = newRoom(1000, 1000, 1);
+        start(room, 7);
+
+        int[] safe = findCell(room, 0);
+        GameMessage result = room.handleAction(open(safe[0], safe[1]));
+
+        // 지뢰 1개짜리 보드는 첫 클릭 한 번에 전부 열림
+        assertNotNull(result);
+        assertEquals("GAME_OVER", result.getType());
+        assertEquals(0, room.getRemainingNonMineCells());
+    }
+
+    @Test
+    void flagBlocksOpenAndDoesNotPassTurn() {
+        MineRoom room = newRoom(10, 10, 15);
+        room.enterUser(new Player("other", "p2"));
+        start(room, 3);
+        String first = room.getTurnOrder().get(0);
+        String second = room.getTurnOrder().get(1);
+        int[] cell = findClosed(room, 1);
+
+        // 차례가 아닌 사람도 깃발은 꽂을 수 있음
+        GameMessage flagged = room.handleAction(action(second, new GameAction.Flag(cell[0], cell[1])));
+        assertNotNull(flagged);
+        assertEquals(2, room.getViewState()[cell[0]][cell[1]]);
+        assertEquals(first, room.getTurnOrder().get(room.getCurrentTurnIndex()));
+
+        // 깃발 칸은 열리지 않음, 다시 보내면 뽑힘
+        assertNull(room.handleAction(action(first, new GameAction.Open(cell[0], cell[1]))));
+        room.handleAction(action(second, new GameAction.Flag(cell[0], cell[1])));
+        assertEquals(0, room.getViewState()[cell[0]][cell[1]]);
+    }
+
+    @Test
+    void chordOpensUnflaggedNeighboursOfSatisfiedNumber() {
+        for (long seed = 1; seed <= 20; seed++) {
+            MineRoom room = newRoom(16, 16, 40);
+            start(room, seed);
+            int[][] board = room.getBoard();
+            int[] number = findClosed(room, 1);
+            room.handleAction(open(number[0], number[1]));
+
+            // 숫자 1 주변의 지뢰 하나에 깃발
+            int[] mine = null;
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int r = number[0] + dr;
+                    int c = number[1] + dc;
+                    if (r >= 0 && r < 16 && c >= 0 && c < 16 && board[r][c] == -1) mine = new int[]{r, c};
+                }
+            }
+            room.handleAction(action(PLAYER_ID, new GameAction.Flag(mine[0], mine[1])));
+            room.handleAction(action(PLAYER_ID, new GameAction.Chord(number[0], number[1])));
+
+            int[][] view = room.getViewState();
+            assertEquals(2, view[mine[0]][mine[1]], "seed=" + seed);
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int r = number[0] + dr;
+                    int c = number[1] + dc;
+                    if (r < 0 || r >= 16 || c < 0 || c >= 16 || (r == mine[0] && c == mine[1])) continue;
+                    assertEquals(1, view[r][c], "seed=" + seed + " cell=" + r + "," + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void batchOpensOnlyOnceAndKeepsLaterFlags() {
+        MineRoom room = newRoom(16, 16, 40);
+        room.enterUser(new Player("other", "p2"));
+        start(room, 11);
+        String first = room.getTurnOrder().get(0);
+        String second = room.getTurnOrder().get(1);
+        int[] a = findClosed(room, 2);
+        int[] b = findClosed(room, 3);
+        int[] mine = findClosed(room, -1);
+        long version = room.getStateVersion();
+
+        GameMessage result = room.handleAction(action(first, new GameAction.Batch(List.of(
+                new GameAction.Open(a[0], a[1]),
+                new GameAction.Open(b[0], b[1]),
+                new GameAction.Flag(mine[0], mine[1])))));
+
+        assertNotNull(result);
+        assertEquals("UPDATE", result.getType());
+        GameEvent.Update update = (GameEvent.Update) result.getEvent();
+        assertEquals(version + 1, update.version());
+        // 첫 OPEN에서 차례가 끝남 -> 두 번째 OPEN은 버려지고, 뒤의 깃발은 적용
+        assertEquals(1, update.cells().size());
+        assertEquals(0, room.getViewState()[b[0]][b[1]]);
+        assertEquals(1, update.flags().size());
+        assertEquals(second, update.currentTurnId());
+    }
+
+    @Test
+    void batchFromWaitingPlayerAppliesOnlyFlags() {
+        MineRoom room = newRoom(16, 16, 40);
+        room.enterUser(new Player("other", "p2"));
+        start(room, 5);
+        String second = room.getTurnOrder().get(1);
+        int[] a = findClosed(room, 2);
+        int[] mine = findClosed(room, -1);
+
+        GameMessage result = room.handleAction(action(second, new GameAction.Batch(List.of(
+                new GameAction.Open(a[0], a[1]),
+                new GameAction.Flag(mine[0], mine[1])))));
+
+        GameEvent.Update update = (GameEvent.Update) result.getEvent();
+        assertTrue(update.cells().isEmpty());
+        assertEquals(1, update.flags().size());
+        assertEquals(0, room.getViewState()[a[0]][a[1]]);
+    }
+
+    @Test
+    void snapshotKeepsEliminatedUsersAsOfWhenItWasTaken() {
+        MineRoom room = newRoom(16, 16, 40);
+        room.enterUser(new Player("other", "p2"));
+        start(room, 9);
+        Map<String, Object> snapshot = room.getGameSnapshot();
+
+        String first = room.getTurnOrder().get(0);
+        int[] mine = findClosed(room, -1);
+        room.handleAction(action(first, new GameAction.Open(mine[0], mine[1])));
+
+        assertTrue(room.getEliminatedUsers().contains(first));
+        assertEquals(Set.of(), snapshot.get("eliminatedUsers"));
+    }
+
+    @Test
+    void syncUsesRequestingPlayersEncodingWhileGameStartNeedsEveryone() {
+        MineRoom room = newRoom(9, 9, 10);
+        Player packed = new Player("packed", "p2");
+        packed.setAttribute("boardEncoding", BoardCodec.PACKED);
+        room.enterUser(packed);
+
+        // 방 전체 GAME_START : 압축을 모르는 p1이 있으므로 2차원 배열
+        GameMessage started = room.handleAction(action(PLAYER_ID, new GameAction.Start(3L, false)));
+        assertEquals("GAME_START", started.getType());
+        assertTrue(started.getData().containsKey("board"));
+        assertFalse(started.getData().containsKey("packedBoard"));
+
+        // SYNC는 요청한 세션에게만 -> 그 플레이어 형식으로
+        Map<String, Object> packedSync = room.handleAction(action("p2", new GameAction.Resync())).getData();
+        Map<String, Object> rawSync = room.handleAction(action(PLAYER_ID, new GameAction.Resync())).getData();
+        assertTrue(packedSync.containsKey("packedBoard"));
+        assertFalse(packedSync.containsKey("board"));
+        assertTrue(rawSync.containsKey("board"));
+        assertFalse(rawSync.containsKey("packedBoard"));
+        assertTrue(room.getGameSnapshot("p2").containsKey("packedBoard"));
+        assertTrue(room.getGameSnapshot(PLAYER_ID).containsKey("board"));
+    }
+
+    @Test
+    void packedSnapshotMatchesBoardAndViewState() {
+        MineRoom room = newRoom(9, 9, 10);
+        room.getUsers().get(PLAYER_ID).setAttribute("boardEncoding", BoardCodec.PACKED);
+        start(room, 17);
+        int[] number = findClosed(room, 1);
+        int[] mine = findClosed(room, -1);
+        room.handleAction(action(PLAYER_ID, new GameAction.Flag(mine[0], mine[1])));
+        room.handleAction(action(PLAYER_ID, new GameAction.Open(number[0], number[1])));
+
+        Map<String, Object> snapshot = room.getGameSnapshot();
+        assertFalse(snapshot.containsKey("board"));
+        assertEquals(9, snapshot.get("rows"));
+        assertEquals(9, snapshot.get("cols"));
+
+        byte[] cells = Base64.getDecoder().decode((String) snapshot.get("packedBoard"));
+        int[][] board = room.getBoard();
+        int[][] view = room.getViewState();
+        assertEquals(81, cells.length);
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                assertEquals(board[r][c], BoardCodec.value(cells[r * 9 + c]));
+                assertEquals(view[r][c], BoardCodec.view(cells[r * 9 + c]));
+            }
+        }
+        assertEquals(BoardCodec.FLAG, BoardCodec.view(cells[mine[0] * 9 + mine[1]]));
+        assertEquals(-1, BoardCodec.value(cells[mine[0] * 9 + mine[1]]));
+        assertEquals(BoardCodec.OPEN, BoardCodec.view(cells[number[0] * 9 + number[1]]));
+    }
+
+    private void assertSameAsReference(int rows, int cols, int mines, long seed) {
+        MineRoom room = newRoom(rows, cols, mines);
+        start(room, seed);
+
+        int[][] board = room.getBoard();
+        int[][] expected = new int[rows][cols];
+
+        for (int r = 0; r < rows && room.isPlaying(); r++) {
+            for (int c = 0; c < cols && room.isPlaying(); c++) {
+                if (board[r][c] == -1 || expected[r][c] != 0) continue;
+
+                referenceOpen(board, expected, r, c);
+                room.handleAction(open(r, c));
+
+                if (room.isPlaying()) {
+                    for (int i = 0; i < rows; i++) {
+                        assertArrayEquals(expected[i], room.getViewState()[i],
+                                "seed=" + seed + " size=" + rows + "x" + cols + " click=" + r + "," + c);
+                    }
+                    assertEquals(rows * cols - mines - countOpen(expected), room.getRemainingNonMineCells());
+                }
+            }
+        }
+    }
+
+    // 기존 재귀 구현 그대로
+    private static void referenceOpen(int[][] board, int[][] view, int r, int c) {
+        if (r < 0 || r >= board.length || c < 0 || c >= board[0].length || view[r][c] != 0) return;
+        view[r][c] = 1;
+        if (board[r][c] == 0) {
+            int[] dr = {-1, -1, -1, 0, 0, 1, 1, 1};
+            int[] dc = {-1, 0, 1, -1, 1, -1, 0, 1};
+            for (int i = 0; i < 8; i++) referenceOpen(board, view, r + dr[i], c + dc[i]);
+        }
+    }
+
+    private static int countOpen(int[][] view) {
+        int cnt = 0;
+        for (int[] row : view) {
+            for (int v : row) if (v == 1) cnt++;
+        }
+        return cnt;
+    }
+
+    private static int[] findCell(MineRoom room, int value) {
+        int[][] board = room.getBoard();
+        for (int r = 0; r < board.length; r++) {
+            for (int c = 0; c < board[r].length; c++) {
+                if (board[r][c] == value) return new int[]{r, c};
+            }
+        }
+        throw new IllegalStateException("no cell with value " + value);
+    }
+
+    // 아직 닫혀 있는 칸 중 값이 value인 첫 칸
+    private static int[] findClosed(MineRoom room, int value) {
+        int[][] board = room.getBoard();
+        int[][] view = room.getViewState();
+        for (int r = 0; r < board.length; r++) {
+            for (int c = 0; c < board[r].length; c++) {
+                if (board[r][c] == value && view[r][c] == 0) return new int[]{r, c};
+            }
+        }
+        throw new IllegalStateException("no closed cell with value " + value);
+    }
+
+    // 시드 고정 보드로 시작 (첫 칸을 열어 주지 않아 모든 칸이 닫힌 상태)
+    private static void start(MineRoom room, long seed) {
+        room.startGame(new Random(seed),
+                MineBoardGenerator.generate(room.getROWS(), room.getCOLS(), room.getMINES(), seed, false));
+    }
+
+    private static MineRoom newRoom(int rows, int cols, int mines) {
+        MineRoom room = new MineRoom("test", rows, cols, mines);
+        room.enterUser(new Player("tester", PLAYER_ID));
+        return room;
+    }
+
+    private static GameMessage action(String senderId, GameAction action) {
+        return GameMessage.builder()
+                .type("ACTION")
+                .sender("nick-" + senderId)
+                .senderId(senderId)
+                .action(action)
+                .build();
+    }
+
+    private static GameMessage open(int r, int c) {
+        return GameMessage.builder()
+                .type("ACTION")
+                .sender("tester")
+                .senderId(PLAYER_ID)
+                .data(Map.of("actionType", "OPEN", "row", r, "col", c))
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.mine.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RealtimeMineRoomTest {
+
+    @Test
+    void concurrentPlayersOpenEverySafeCellExactlyOnce() throws Exception {
+        int players = 16;
+        RealtimeMineRoom room = startedRoom(120, 120, 2000, 5L, players);
+        List<Integer> safe = closedCells(room, false);
+        int mines = closedCells(room, true).size();
+
+        // 모두가 모든 안전 칸을 서로 다른 순서로 클릭 (같은 칸, 겹치는 연쇄 열기가 계속 부딪힘)
+        ExecutorService pool = Executors.newFixedThreadPool(players);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            String playerId = "p" + p;
+            List<Integer> order = new ArrayList<>(safe);
+            Collections.shuffle(order, new Random(p));
+            futures.add(pool.submit(() -> {
+                go.await();
+                for (int idx : order) room.handleAction(action(playerId, new GameAction.Open(idx / 120, idx % 120)));
+                return null;
+            }));
+        }
+
+        // 주기 전송을 흉내 내며 델타를 모음
+        List<GameMessage> deltas = new ArrayList<>();
+        go.countDown();
+        while (!futures.stream().allMatch(Future::isDone)) {
+            GameMessage delta = room.drainDelta();
+            if (delta != null) deltas.add(delta);
+        }
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+        for (GameMessage delta; (delta = room.drainDelta()) != null; ) deltas.add(delta);
+
+        Set<Integer> seen = new HashSet<>();
+        long version = 1;
+        for (GameMessage delta : deltas) {
+            GameEvent.Update update = (GameEvent.Update) delta.getEvent();
+            assertEquals(++version, update.version()); // 빈 번호 없음
+            for (int[] cell : update.cells()) assertTrue(seen.add(cell[0] * 120 + cell[1]), "같은 칸이 두 번 전송됨");
+        }
+        assertEquals(safe.size() + mines, seen.size()); // 안전 칸 + 종료 시 공개한 지뢰
+
+        GameMessage last = deltas.get(deltas.size() - 1);
+        assertEquals("GAME_OVER", last.getType());
+        assertEquals(players, ((GameEvent.Update) last.getEvent()).winnerIds().size());
+        assertEquals(0, room.getRemainingNonMineCells());
+        assertFalse(room.isPlaying());
+    }
+
+    @Test
+    void mineEliminatesOnlyThePlayerWhoHitIt() {
+        RealtimeMineRoom room = startedRoom(20, 20, 60, 3L, 2);
+        int mine = closedCells(room, true).get(0);
+        room.handleAction(action("p0", new GameAction.Open(mine / 20, mine % 20)));
+
+        GameMessage delta = room.drainDelta();
+        assertEquals("UPDATE", delta.getType());
+        assertTrue(delta.getContent().contains("탈락"));
+        assertEquals(Set.of("p0"), ((GameEvent.Update) delta.getEvent()).eliminatedUsers());
+        assertTrue(room.isPlaying());
+
+        // 탈락한 사람의 클릭은 무시, 남은 사람은 계속
+        int safe = closedCells(room, false).get(0);
+        room.handleAction(action("p0", new GameAction.Open(safe / 20, safe % 20)));
+        assertNull(room.drainDelta());
+        room.handleAction(action("p1", new GameAction.Open(safe / 20, safe % 20)));
+        assertNotNull(room.drainDelta());
+    }
+
+    @Test
+    void lastSurvivorHittingMineEndsGame() {
+        RealtimeMineRoom room = startedRoom(20, 20, 60, 3L, 1);
+        int mine = closedCells(room, true).get(0);
+        room.handleAction(action("p0", new GameAction.Open(mine / 20, mine % 20)));
+
+        GameMessage over = room.drainDelta();
+        assertEquals("GAME_OVER", over.getType());
+        assertEquals(false, ((GameEvent.Update) over.getEvent()).isWin());
+        assertFalse(room.isPlaying());
+    }
+
+    @Test
+    void flagBlocksOpenAndTogglesAreSentInOrder() {
+        RealtimeMineRoom room = startedRoom(20, 20, 60, 3L, 2);
+        int idx = closedCells(room, false).get(0);
+        int r = idx / 20;
+        int c = idx % 20;
+
+        room.handleAction(action("p0", new GameAction.Flag(r, c)));
+        room.handleAction(action("p1", new GameAction.Open(r, c)));
+        room.handleAction(action("p1", new GameAction.Flag(r, c)));
+        room.handleAction(action("p0", new GameAction.Flag(r, c)));
+
+        GameEvent.Update update = (GameEvent.Update) room.drainDelta().getEvent();
+        assertTrue(update.cells().isEmpty());
+        List<Integer> toggles = update.flags().stream().map(f -> f[2]).toList();
+        assertEquals(List.of(1, 0, 1), toggles);
+        assertEquals(BoardCodec.FLAG, room.viewAt(r, c));
+    }
+
+    private static RealtimeMineRoom startedRoom(int rows, int cols, int mines, long seed, int players) {
+        RealtimeMineRoom room = new RealtimeMineRoom("test", rows, cols, mines);
+        for (int p = 0; p < players; p++) room.enterUser(new Player("nick-p" + p, "p" + p));
+        GameMessage start = room.handleAction(action("p0", new GameAction.Start(seed, null)));
+        assertEquals("GAME_START", start.getType());
+        return room;
+    }
+
+    // 아직 닫힌 칸 (mines가 true면 지뢰, false면 안전 칸)
+    private static List<Integer> closedCells(RealtimeMineRoom room, boolean mines) {
+        List<Integer> cells = new ArrayList<>();
+        for (int r = 0; r < room.getROWS(); r++) {
+            for (int c = 0; c < room.getCOLS(); c++) {
+                if (room.viewAt(r, c) == 0 && (room.valueAt(r, c) == -1) == mines) cells.add(r * room.getCOLS() + c);
+            }
+        }
+        return cells;
+    }
+
+    private static GameMessage action(String senderId, GameAction action) {
+        return GameMessage.builder()
+                .type("ACTION")
+                .sender("nick-" + senderId)
+                .senderId(senderId)
+                .action(action)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mine.dto.GeneratedBoard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGeneratorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BoardGenerator generator = new BoardGenerator(registry, 2, 3, 10000, 4, List.of("10x10x15"));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        generator.shutdown();
+    }
+
+    @Test
+    void warmUpFillsPresetPoolAndTakeReturnsReadyBoard() throws InterruptedException {
+        generator.warmUp();
+        awaitReady(10, 10, 15, 3);
+
+        GeneratedBoard board = generator.take(10, 10, 15);
+        assertNotNull(board);
+        assertTrue(board.matches(10, 10, 15));
+        assertTrue(board.noGuess());
+
+        // 꺼낸 만큼 다시 채움
+        awaitReady(10, 10, 15, 3);
+    }
+
+    @Test
+    void unknownSizeMissesFirstThenIsFilledInBackground() throws InterruptedException {
+        assertNull(generator.take(12, 12, 20));
+        awaitReady(12, 12, 20, 3);
+        assertNotNull(generator.take(12, 12, 20));
+    }
+
+    @Test
+    void poolNeverReturnsUnsolvedBoards() throws InterruptedException {
+        // 9x9에 지뢰 27개 : 시드 대부분이 시도 횟수 안에 no-guess 배치를 못 찾음 -> 버리고 다시 만든 것만 쌓임
+        assertNull(generator.take(9, 9, 27));
+        for (int round = 0; round < 2; round++) {
+            awaitReady(9, 9, 27, 3);
+            for (int i = 0; i < 3; i++) {
+                GeneratedBoard board = generator.take(9, 9, 27);
+                assertNotNull(board);
+                assertTrue(board.noGuess());
+            }
+        }
+        assertTrue(unsolvableCount() > 0);
+    }
+
+    @Test
+    void sizeWithoutSolvableBoardsStopsRefilling() throws InterruptedException {
+        // 6x6에 지뢰 33개 : 풀리는 배치가 없음 -> 일반 보드로 시작하도록 null, 실패한 작업은 다시 제출되다 실패가 쌓이면 멈춤
+        int failed = BoardGenerator.MAX_FAILURES * BoardGenerator.REGENERATE_ATTEMPTS;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (unsolvableCount() < failed) {
+            if (System.currentTimeMillis() > deadline) fail("보드 생성 시간 초과");
+            assertNull(generator.take(6, 6, 33));
+            Thread.sleep(10);
+        }
+        assertEquals(0, generator.readyCount(6, 6, 33));
+
+        // 이미 돌던 작업(최대 풀 크기만큼)만 끝나고 더 만들지 않음
+        Thread.sleep(300);
+        double settled = unsolvableCount();
+        assertTrue(settled <= failed + 3 * BoardGenerator.REGENERATE_ATTEMPTS);
+        assertNull(generator.take(6, 6, 33));
+        Thread.sleep(300);
+        assertEquals(settled, unsolvableCount());
+    }
+
+    @Test
+    void oversizedBoardsAreNotPooled() {
+        assertNull(generator.take(200, 200, 100));
+        assertEquals(0, generator.readyCount(200, 200, 100));
+    }
+
+    private double unsolvableCount() {
+        return registry.get("mine.board.generator.unsolvable").counter().count();
+    }
+
+    private void awaitReady(int rows, int cols, int mines, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (generator.readyCount(rows, cols, mines) < expected) {
+            if (System.currentTimeMillis() > deadline) fail("보드 생성 시간 초과");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardPoolTest {
+
+    private final BoardPool pool = new BoardPool(new SimpleMeterRegistry());
+
+    @Test
+    void releasedBoardIsClearedAndReusedForSameSize() {
+        byte[] cells = pool.acquire(120);
+        cells[34] = 7;
+        pool.release(cells);
+
+        byte[] reused = pool.acquire(120);
+        assertSame(cells, reused);
+        assertEquals(0, reused[34]);
+    }
+
+    @Test
+    void differentSizeGetsFreshBoard() {
+        byte[] cells = pool.acquire(100);
+        pool.release(cells);
+
+        byte[] other = pool.acquire(400);
+        assertNotSame(cells, other);
+        assertEquals(400, other.length);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.example.mine.service.ChatLimiter.Verdict.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // 세션 : 초당 2개, 최대 3개 / 방 : 초당 4개, 최대 5개 / 반복 창 2초
+    private final ChatLimiter limiter = new ChatLimiter(registry, 10, 2, 3, 4, 5, Duration.ofSeconds(2));
+
+    @Test
+    void sessionBurstThenRefillAtRate() {
+        long now = 100 * SECOND;
+        for (int i = 0; i < 3; i++) assertEquals(OK, limiter.check("room", "s1", "m" + i, now));
+        assertEquals(SESSION_RATE, limiter.check("room", "s1", "m3", now));
+
+        // 0.5초에 토큰 하나
+        assertEquals(OK, limiter.check("room", "s1", "m4", now + SECOND / 2));
+        assertEquals(SESSION_RATE, limiter.check("room", "s1", "m5", now + SECOND / 2));
+        assertEquals(2.0, rejected("session_rate"));
+    }
+
+    @Test
+    void roomBucketIsSharedBySessions() {
+        long now = 100 * SECOND;
+        for (int s = 0; s < 5; s++) assertEquals(OK, limiter.check("room", "s" + s, "hi", now));
+        assertEquals(ROOM_RATE, limiter.check("room", "s5", "hi", now));
+        assertEquals(OK, limiter.check("other", "s5", "hello", now)); // 다른 방은 따로
+
+        // 방이 지워지면 버킷도 정리 (같은 id로 다시 만들어지면 가득 찬 버킷부터)
+        limiter.onRoomChanged(new RoomChangedEvent("room", RoomChangedEvent.Type.REMOVED));
+        assertEquals(OK, limiter.check("room", "s6", "hi", now));
+    }
+
+    @Test
+    void repeatedContentIsCollapsedWithinWindow() {
+        long now = 100 * SECOND;
+        assertEquals(OK, limiter.check("room", "s1", "ㅋㅋ", now));
+        assertEquals(REPEAT, limiter.check("room", "s1", "ㅋㅋ", now + SECOND));
+        assertEquals(OK, limiter.check("room", "s2", "ㅋㅋ", now + SECOND)); // 다른 사람은 같은 내용 가능
+        assertEquals(OK, limiter.check("room", "s1", "ㅋㅋ", now + 3 * SECOND));
+        assertEquals(1.0, rejected("repeat"));
+    }
+
+    @Test
+    void rateLimitedMessageIsNotRememberedAsRepeat() {
+        long now = 100 * SECOND;
+        for (int i = 0; i < 3; i++) assertEquals(OK, limiter.check("room", "s1", "m" + i, now));
+        // 버킷에서 막힌 메시지는 기억하지 않음 -> 토큰이 차면 같은 내용을 다시 보낼 수 있음
+        assertEquals(SESSION_RATE, limiter.check("room", "s1", "retry", now));
+        assertEquals(OK, limiter.check("room", "s1", "retry", now + SECOND / 2));
+
+        // 방 버킷에서 막힌 메시지도 마찬가지
+        for (int s = 2; s < 5; s++) limiter.check("room", "s" + s, "fill", now + SECOND / 2);
+        assertEquals(ROOM_RATE, limiter.check("room", "s5", "hello", now + SECOND / 2));
+        assertEquals(OK, limiter.check("room", "s5", "hello", now + SECOND));
+    }
+
+    @Test
+    void lengthAndEmptyAreRejectedBeforeBuckets() {
+        long now = 100 * SECOND;
+        assertEquals(TOO_LONG, limiter.check("room", "s1", "x".repeat(11), now));
+        assertEquals(EMPTY, limiter.check("room", "s1", "  ", now));
+        assertEquals(EMPTY, limiter.check("room", "s1", null, now));
+        for (int i = 0; i < 3; i++) assertEquals(OK, limiter.check("room", "s1", "m" + i, now));
+        assertEquals(1.0, rejected("too_long"));
+    }
+
+    @Test
+    void closedSessionStartsWithFullBucket() {
+        long now = 100 * SECOND;
+        for (int i = 0; i < 3; i++) limiter.check("room", "s1", "m" + i, now);
+        assertEquals(SESSION_RATE, limiter.check("room", "s1", "m3", now));
+
+        limiter.sessionClosed("s1");
+        assertEquals(OK, limiter.check("room", "s1", "m3", now));
+    }
+
+    private double rejected(String reason) {
+        return registry.get("mine.chat.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.RoomSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 같은 JVM 안의 노드 셋 (LoopbackRelayTransport 하나를 같이 씀)
+class ClusterNodeTest {
+
+    private final LoopbackRelayTransport transport = new LoopbackRelayTransport();
+    private final List<String> nodeIds = List.of("node-a", "node-b", "node-c");
+    private final Map<String, ClusterNode> nodes = Map.of(
+            "node-a", node("node-a"),
+            "node-b", node("node-b"),
+            "node-c", node("node-c"));
+    private final Map<String, RecordingHandler> handlers = Map.of(
+            "node-a", start("node-a", 3),
+            "node-b", start("node-b", 7),
+            "node-c", start("node-c", 1));
+
+    @Test
+    void everyNodeAgreesOnOwnerAndForwardsToIt() {
+        String roomId = "room-42";
+        String owner = nodes.get("node-a").ownerOf(roomId);
+        for (ClusterNode node : nodes.values()) assertEquals(owner, node.ownerOf(roomId));
+
+        String other = nodeIds.stream().filter(id -> !id.equals(owner)).findFirst().orElseThrow();
+        GameMessage chat = GameMessage.builder().type("CHAT").content("hi").build();
+        assertFalse(nodes.get(owner).forward(RelayMessage.Command.CHAT, roomId, chat, "s1")); // 주인은 직접 처리
+        assertTrue(nodes.get(other).forward(RelayMessage.Command.CHAT, roomId, chat, "s1"));
+
+        RelayMessage.Inbound inbound = (RelayMessage.Inbound) handlers.get(owner).messages.get(0);
+        assertEquals(other, inbound.origin());
+        assertEquals("s1", inbound.sessionId());
+        assertEquals(ClusterNode.qualify(other, "s1"), other + "@s1");
+    }
+
+    @Test
+    void topicFramesGoToAllPeersAndSessionFramesToTheirNode() {
+        byte[] payload = "{}".getBytes();
+        nodes.get("node-a").relayToPeers("/topic/room-1", payload);
+
+        assertTrue(handlers.get("node-a").messages.isEmpty());
+        for (String peer : List.of("node-b", "node-c")) {
+            RelayMessage.Frame frame = (RelayMessage.Frame) handlers.get(peer).messages.get(0);
+            assertEquals("/topic/room-1", frame.destination());
+            assertNull(frame.sessionId());
+        }
+
+        nodes.get("node-a").relayToSession("node-c@abc", "/user/", "/queue/room", payload);
+        RelayMessage.Frame frame = (RelayMessage.Frame) handlers.get("node-c").messages.get(1);
+        assertEquals("/user/abc/queue/room", frame.destination());
+        assertEquals("abc", frame.sessionId());
+        assertEquals(1, handlers.get("node-b").messages.size());
+    }
+
+    @Test
+    void lobbyMergesAllNodesAndSkipsMissingOnes() {
+        RoomService.LobbyView local = handlers.get("node-a").lobby;
+        RoomService.LobbyView merged = nodes.get("node-a").lobbyView(local);
+
+        assertEquals(List.of("a-room", "b-room", "c-room"), merged.rooms().stream().map(RoomSummary::getRoomName).toList());
+        assertEquals(Map.of("node-a", 3L, "node-b", 7L, "node-c", 1L), merged.versions());
+
+        // 노드 하나가 빠지면 그 노드 방만 빠지고 합친 버전(ETag)이 바뀜
+        transport.unregister("node-c");
+        RoomService.LobbyView partial = nodes.get("node-a").lobbyView(local);
+        assertEquals(List.of("a-room", "b-room"), partial.rooms().stream().map(RoomSummary::getRoomName).toList());
+        assertNotEquals(merged.etag(), partial.etag());
+    }
+
+    @Test
+    void requestToMissingNodeFails() {
+        transport.unregister("node-b");
+        assertThrows(IllegalStateException.class, () -> nodes.get("node-a").request("node-b", new RelayMessage.FindRoom("x")));
+        assertNull(nodes.get("node-a").request("node-a", new RelayMessage.FindRoom("x"))); // 자기 자신은 바로
+    }
+
+    @Test
+    void disabledNodeOwnsEverything() {
+        ClusterNode single = new ClusterNode(false, "node-a", nodeIds, 16, Duration.ofSeconds(1), transport);
+        assertTrue(single.owns("anything"));
+        assertFalse(single.forward(RelayMessage.Command.JOIN, "anything", new GameMessage(), "s1"));
+        RoomService.LobbyView local = new RoomService.LobbyView(5, List.of());
+        assertSame(local, single.lobbyView(local));
+    }
+
+    private ClusterNode node(String id) {
+        return new ClusterNode(true, id, nodeIds, 64, Duration.ofSeconds(1), transport);
+    }
+
+    private RecordingHandler start(String id, long lobbyVersion) {
+        String name = id.substring(id.length() - 1) + "-room";
+        RecordingHandler handler = new RecordingHandler(new RoomService.LobbyView(lobbyVersion,
+                List.of(new RoomSummary(id + "-1", name, "CLASSIC", 0, 8, 10, 10, false, true))));
+        nodes.get(id).start(handler);
+        return handler;
+    }
+
+    private static final class RecordingHandler implements RelayTransport.Handler {
+        final List<RelayMessage> messages = new ArrayList<>();
+        final RoomService.LobbyView lobby;
+
+        RecordingHandler(RoomService.LobbyView lobby) {
+            this.lobby = lobby;
+        }
+
+        @Override
+        public void onMessage(RelayMessage message) {
+            messages.add(message);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> R onRequest(RelayMessage.Request<R> request) {
+            return request instanceof RelayMessage.Lobby ? (R) lobby : null;
+        }
+    }
+}
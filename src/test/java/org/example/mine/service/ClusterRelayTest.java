@@ -0,0 +1,177 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mine.conf.ClusterRelayInterceptor;
+import org.example.mine.conf.WebSocketEventListener;
+import org.example.mine.dto.GameMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 노드 둘을 실제 부품으로 연결 (LoopbackRelayTransport 하나를 같이 씀)
+// 노드마다 브로커 채널 -> ClusterRelayInterceptor, SimpleBroker + /user 목적지 처리, ClusterRelayHandler
+// 게임 로직(GameService, RoomService)만 목으로
+class ClusterRelayTest {
+
+    private static final List<String> NODE_IDS = List.of("node-a", "node-b");
+
+    private final LoopbackRelayTransport transport = new LoopbackRelayTransport();
+    private final Node a = new Node("node-a");
+    private final Node b = new Node("node-b");
+
+    @AfterEach
+    void tearDown() {
+        a.stop();
+        b.stop();
+    }
+
+    @Test
+    void roomTopicFramesReachSubscribersOnOtherNodeOnce() {
+        a.subscribe("sa", "/topic/room-1");
+        b.subscribe("sb", "/topic/room-1");
+
+        byte[] payload = "{\"type\":\"UPDATE\"}".getBytes();
+        a.template.convertAndSend("/topic/room-1", payload);
+
+        Message<?> remote = b.delivered("sb");
+        assertArrayEquals(payload, (byte[]) remote.getPayload());
+        assertEquals(1, a.outbound.size()); // 받은 노드가 다시 돌려보내지 않음
+        assertEquals(1, b.outbound.size());
+    }
+
+    @Test
+    void sessionSyncGoesOnlyToQualifiedSessionOnItsNode() {
+        a.subscribe("sa", "/user/queue/room");
+        b.subscribe("sb", "/user/queue/room");
+        b.subscribe("other", "/user/queue/room");
+
+        // 주인 노드(a)가 다른 노드 세션에게 SYNC (GameService.sendToSession과 같은 헤더)
+        byte[] sync = "{\"type\":\"SYNC\"}".getBytes();
+        String qualified = ClusterNode.qualify("node-b", "sb");
+        a.template.convertAndSendToUser(qualified, GameService.USER_QUEUE, sync, sessionHeaders(qualified));
+
+        Message<?> delivered = b.delivered("sb");
+        assertArrayEquals(sync, (byte[]) delivered.getPayload());
+        assertEquals(1, b.outbound.size());
+        assertTrue(a.outbound.isEmpty());
+    }
+
+    @Test
+    void disconnectClearsChatStateOnOwnerEvenOutsideRoom() {
+        String roomId = roomOwnedBy("node-a");
+        // 주인 노드의 채팅 처리 : 세션 id는 "노드@세션"
+        doAnswer(inv -> a.chatLimiter.check(roomId, inv.getArgument(2), ((GameMessage) inv.getArgument(1)).getContent()))
+                .when(a.gameService).chat(eq(roomId), any(), anyString());
+
+        GameMessage chat = GameMessage.builder().type("CHAT").content("hi").build();
+        assertTrue(b.clusterNode.forward(RelayMessage.Command.CHAT, roomId, chat, "sb"));
+        assertEquals(1, a.chatLimiter.trackedSessions());
+
+        // 세션 속성에 roomId가 없어도 (퇴장 후 끊김 등) 정리는 다른 노드로 감
+        b.disconnect("sb");
+        assertEquals(0, a.chatLimiter.trackedSessions());
+        verify(a.gameService, never()).disconnected(any(), any(), any());
+    }
+
+    private String roomOwnedBy(String node) {
+        for (int i = 0; ; i++) {
+            if (a.clusterNode.ownerOf("room-" + i).equals(node)) return "room-" + i;
+        }
+    }
+
+    private static Map<String, Object> sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    private final class Node {
+        final ClusterNode clusterNode;
+        final GameService gameService = mock(GameService.class);
+        final ChatLimiter chatLimiter = new ChatLimiter(new SimpleMeterRegistry(), 200, 2, 5, 20, 40, Duration.ofSeconds(3));
+        final SimpMessagingTemplate template;
+        final List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+        final WebSocketEventListener eventListener;
+        private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        private final SimpleBrokerMessageHandler broker;
+        private final UserDestinationMessageHandler userDestinations;
+
+        Node(String id) {
+            clusterNode = new ClusterNode(true, id, NODE_IDS, 64, Duration.ofSeconds(1), transport);
+
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            brokerChannel.addInterceptor(new ClusterRelayInterceptor(clusterNode));
+            ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+            clientOutbound.subscribe(m -> {
+                if (SimpMessageHeaderAccessor.getMessageType(m.getHeaders()) == SimpMessageType.MESSAGE) outbound.add(m);
+            });
+
+            broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic", "/queue"));
+            userDestinations = new UserDestinationMessageHandler(clientInbound, brokerChannel,
+                    new DefaultUserDestinationResolver(new DefaultSimpUserRegistry()));
+            broker.start();
+            userDestinations.start();
+
+            template = new SimpMessagingTemplate(brokerChannel);
+            new ClusterRelayHandler(clusterNode, gameService, mock(RoomService.class), chatLimiter, template,
+                    JsonMapper.builder().build()).start();
+            eventListener = new WebSocketEventListener(gameService, chatLimiter, clusterNode);
+        }
+
+        // CONNECT 후 구독 (브로커는 CONNECT한 세션에게만 보냄)
+        void subscribe(String sessionId, String destination) {
+            SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+            connect.setSessionId(sessionId);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-" + sessionId);
+            accessor.setDestination(destination);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        void disconnect(String sessionId) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            accessor.setSessionAttributes(new HashMap<>());
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            eventListener.handleWebSocketDisconnectListener(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+        }
+
+        Message<?> delivered(String sessionId) {
+            return outbound.stream()
+                    .filter(m -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(m.getHeaders())))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError(sessionId + " 세션에 전달된 프레임 없음"));
+        }
+
+        void stop() {
+            clusterNode.stop();
+            userDestinations.stop();
+            broker.stop();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.mine.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    void keysAreSpreadEvenlyAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) counts.merge(ring.ownerOf("room-" + i), 1, Integer::sum);
+
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(Math.abs(count - KEYS / 4) < KEYS / 4 * 0.2, "치우침: " + counts);
+        }
+    }
+
+    @Test
+    void removingANodeOnlyMovesItsOwnKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+
+        for (int i = 0; i < KEYS; i++) {
+            String key = "room-" + i;
+            String owner = before.ownerOf(key);
+            if (!owner.equals("d")) assertEquals(owner, after.ownerOf(key));
+            else assertNotEquals("d", after.ownerOf(key));
+        }
+    }
+
+    @Test
+    void ownerDoesNotDependOnNodeListOrder() {
+        ConsistentHashRing one = new ConsistentHashRing(List.of("a", "b", "c"), 64);
+        ConsistentHashRing other = new ConsistentHashRing(List.of("c", "a", "b"), 64);
+
+        for (int i = 0; i < 1000; i++) assertEquals(one.ownerOf("room-" + i), other.ownerOf("room-" + i));
+    }
+}
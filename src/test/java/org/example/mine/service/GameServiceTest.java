@@ -0,0 +1,87 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.GameAction;
+import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.MineRoom;
+import org.example.mine.dto.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 방 로직(MineRoom)은 실제로, 전송/기록 부품은 목으로 (메일박스 작업은 바로 실행)
+class GameServiceTest {
+
+    private final RoomService roomService = mock(RoomService.class);
+    private final RoomExecutor roomExecutor = mock(RoomExecutor.class);
+    private final RoomEventLog eventLog = mock(RoomEventLog.class);
+    private final SessionResumeRegistry resumeRegistry = new SessionResumeRegistry(Duration.ofMillis(50));
+    private GameService gameService;
+    private MineRoom room;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService(roomService, mock(SimpMessagingTemplate.class), mock(ScoreSubmissionQueue.class),
+                roomExecutor, eventLog, new RoomMessageHistory(16), resumeRegistry, mock(BoardGenerator.class),
+                mock(GameMetrics.class), mock(RoomBroadcaster.class), mock(ChatLimiter.class));
+        when(roomExecutor.submit(anyString(), any())).thenAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        room = new MineRoom("test", 10, 10, 15);
+        room.enterUser(new Player("a", "p1"));
+        room.enterUser(new Player("b", "p2"));
+        when(roomService.findRoom(room.getRoomId())).thenReturn(room);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resumeRegistry.shutdown();
+    }
+
+    @Test
+    void recoveredPlayersLeaveAfterGraceWithoutResume() throws InterruptedException {
+        when(roomService.recoverRooms()).thenReturn(List.of(room));
+
+        gameService.recoverRooms();
+        // 한 명은 유예 안에 다시 붙음
+        resumeRegistry.cancelExit(room.getRoomId(), "p2");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (room.getUsers().containsKey("p1")) {
+            if (System.currentTimeMillis() > deadline) fail("복구된 플레이어가 퇴장하지 않음");
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertEquals(List.of("p2"), List.copyOf(room.getUsers().keySet()));
+        verify(eventLog).exited(room.getRoomId(), "p1");
+    }
+
+    @Test
+    void resyncAndHintAreNotLogged() {
+        gameService.handleGameAction(room.getRoomId(), action("p1", new GameAction.Start(7L, null)), "s1");
+        String current = room.getTurnOrder().get(room.getCurrentTurnIndex());
+        verify(eventLog, times(1)).action(eq(room.getRoomId()), any());
+
+        gameService.handleGameAction(room.getRoomId(), action(current, new GameAction.Resync()), "s1");
+        gameService.handleGameAction(room.getRoomId(), action(current, new GameAction.Hint()), "s1");
+
+        verify(eventLog, times(1)).action(eq(room.getRoomId()), any());
+    }
+
+    private static GameMessage action(String senderId, GameAction action) {
+        return GameMessage.builder()
+                .type("ACTION")
+                .sender("nick-" + senderId)
+                .senderId(senderId)
+                .action(action)
+                .build();
+    }
+}
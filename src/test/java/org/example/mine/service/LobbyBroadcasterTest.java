@@ -0,0 +1,67 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mine.dto.MineRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LobbyBroadcasterTest {
+
+    private SimpMessagingTemplate template;
+    private RoomService roomService;
+    private LobbyBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        template = mock(SimpMessagingTemplate.class);
+        LobbyBroadcaster[] holder = new LobbyBroadcaster[1];
+        roomService = new RoomService(event -> holder[0].onRoomChanged((RoomChangedEvent) event),
+                new BoardPool(new SimpleMeterRegistry()), new RoomEventLog(false, null, false));
+        broadcaster = new LobbyBroadcaster(roomService, template,
+                new ClusterNode(false, "node-1", List.of(), 1, Duration.ofSeconds(1), new LoopbackRelayTransport()));
+        holder[0] = broadcaster;
+    }
+
+    @Test
+    void changesWithinOneWindowAreSentAsOneFrame() {
+        MineRoom a = roomService.createRoom("a", 10, 10, 15);
+        MineRoom b = roomService.createRoom("b", 10, 10, 15);
+        roomService.markLobbyChanged(a.getRoomId());
+        roomService.markLobbyChanged(a.getRoomId());
+
+        broadcaster.flush();
+
+        List<Map<String, Object>> events = sentEvents();
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(e -> "ROOM_CREATED".equals(e.get("type"))));
+        assertTrue(events.stream().anyMatch(e -> b.getRoomId().equals(e.get("roomId"))));
+    }
+
+    @Test
+    void roomCreatedAndRemovedInSameWindowIsDropped() {
+        MineRoom a = roomService.createRoom("a", 10, 10, 15);
+        roomService.deleteRoom(a.getRoomId());
+
+        broadcaster.flush();
+
+        verify(template, never()).convertAndSend(eq(LobbyBroadcaster.LOBBY_TOPIC), any(Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> sentEvents() {
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(template, times(1)).convertAndSend(eq(LobbyBroadcaster.LOBBY_TOPIC), frame.capture());
+        return (List<Map<String, Object>>) ((Map<String, Object>) frame.getValue()).get("events");
+    }
+}
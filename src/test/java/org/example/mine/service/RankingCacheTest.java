@@ -0,0 +1,83 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.common.service.ScoreSender;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RankingCacheTest {
+
+    private final ScoreSender scoreSender = mock(ScoreSender.class);
+    private final RankingCache cache = new RankingCache(scoreSender, new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), Duration.ofMinutes(5), 2);
+
+    @Test
+    void repeatedLookupsHitCache() {
+        when(scoreSender.ranking("Mine")).thenReturn(ResponseEntity.ok(List.of("r1")));
+
+        cache.get("Mine");
+        cache.get("Mine");
+
+        verify(scoreSender, times(1)).ranking("Mine");
+    }
+
+    @Test
+    void concurrentMissesShareOneRemoteCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(scoreSender.ranking("Mine")).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(List.of("r1"));
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ResponseEntity<Object>>> results = new java.util.ArrayList<>();
+            for (int i = 0; i < 8; i++) results.add(pool.submit(() -> cache.get("Mine")));
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<ResponseEntity<Object>> f : results) assertEquals(List.of("r1"), f.get().getBody());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(scoreSender, times(1)).ranking("Mine");
+    }
+
+    @Test
+    void deliveredScoreInvalidatesItsGameType() {
+        when(scoreSender.ranking("Mine")).thenReturn(ResponseEntity.ok(List.of("old")), ResponseEntity.ok(List.of("new")));
+
+        assertEquals(List.of("old"), cache.get("Mine").getBody());
+        cache.onScoreDelivered(new ScoreDeliveredEvent(new ScoreRecord("winner", "Mine", -1)));
+
+        assertEquals(List.of("new"), cache.get("Mine").getBody());
+    }
+
+    @Test
+    void cacheKeepsOnlyMostRecentlyUsedGameTypes() {
+        when(scoreSender.ranking(anyString())).thenAnswer(inv -> ResponseEntity.ok(List.of(inv.getArgument(0, String.class))));
+
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c"); // 상한 2 -> 가장 오래 안 쓴 b가 빠짐
+
+        cache.get("a");
+        cache.get("c");
+        cache.get("b");
+        verify(scoreSender, times(1)).ranking("a");
+        verify(scoreSender, times(1)).ranking("c");
+        verify(scoreSender, times(2)).ranking("b");
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mine.dto.GameMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RoomBroadcasterTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void withoutBatchingEachMessageIsSentOnceAsEncodedBytes() {
+        RoomBroadcaster broadcaster = broadcaster(false, 32);
+        byte[] payload = broadcaster.encode(chat("hi", 1));
+
+        broadcaster.publish("room", payload);
+
+        assertSame(payload, sent("/topic/room").get(0).getPayload());
+    }
+
+    @Test
+    void messagesWithinLingerAreSentAsOneBatchFrame() {
+        RoomBroadcaster broadcaster = broadcaster(true, 32);
+        broadcaster.publish("room", broadcaster.encode(chat("a", 1)));
+        broadcaster.publish("room", broadcaster.encode(chat("b", 2)));
+        verify(template, never()).send(anyString(), any(Message.class));
+
+        broadcaster.flush("room");
+
+        Map<String, Object> frame = json(sent("/topic/room").get(0));
+        assertEquals("BATCH", frame.get("type"));
+        List<?> messages = (List<?>) frame.get("messages");
+        assertEquals(List.of("a", "b"), messages.stream().map(m -> ((Map<?, ?>) m).get("content")).toList());
+        assertEquals(2.0, registry.get("mine.outbound.batch.size").summary().mean());
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForLinger() {
+        RoomBroadcaster broadcaster = broadcaster(true, 2);
+        broadcaster.publish("room", broadcaster.encode(chat("a", 1)));
+        broadcaster.publish("room", broadcaster.encode(chat("b", 2)));
+
+        assertEquals(1, sent("/topic/room").size());
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subTopicFrameFollowsPendingRoomMessages() {
+        RoomBroadcaster broadcaster = broadcaster(true, 32);
+        broadcaster.publish("room", broadcaster.encode(chat("a", 1)));
+        byte[] chunk = "{\"type\":\"CHUNK_UPDATE\"}".getBytes(StandardCharsets.UTF_8);
+
+        broadcaster.publish("room", "/chunk/1/2", chunk);
+
+        // 묶음에 남은 방 메시지가 먼저 나가고, 청크 프레임은 묶지 않고 하위 토픽으로
+        var order = inOrder(template);
+        order.verify(template).send(eq("/topic/room"), any(Message.class));
+        order.verify(template).send(eq("/topic/room/chunk/1/2"), any(Message.class));
+        assertSame(chunk, sent("/topic/room/chunk/1/2").get(0).getPayload());
+        broadcaster.shutdown();
+    }
+
+    private RoomBroadcaster broadcaster(boolean batch, int maxMessages) {
+        return new RoomBroadcaster(template, mapper, registry, batch, Duration.ofSeconds(10), maxMessages);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message<byte[]>> sent(String destination) {
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(template, atLeastOnce()).send(eq(destination), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> json(Message<byte[]> message) {
+        return mapper.readValue(new String(message.getPayload(), StandardCharsets.UTF_8), Map.class);
+    }
+
+    private static GameMessage chat(String content, long seq) {
+        GameMessage msg = new GameMessage();
+        msg.setType("CHAT");
+        msg.setContent(content);
+        msg.setSeq(seq);
+        return msg;
+    }
+}
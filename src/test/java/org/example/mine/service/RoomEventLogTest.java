@@ -0,0 +1,128 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.BaseGameRoom;
+import org.example.mine.dto.GameMessage;
+import org.example.mine.dto.MineRoom;
+import org.example.mine.dto.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomEventLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayRebuildsRoomInProgress() {
+        RoomEventLog log = new RoomEventLog(true, dir, false);
+        MineRoom room = new MineRoom("replay", 12, 12, 20);
+        log.roomCreated(room);
+        join(log, room, "a");
+        join(log, room, "b");
+        act(log, room, "a", Map.of("actionType", "START", "seed", 1234L));
+        for (int i = 0; i < 6 && room.isPlaying(); i++) {
+            String turn = room.getTurnOrder().get(room.getCurrentTurnIndex());
+            act(log, room, turn, Map.of("actionType", "OPEN", "row", i, "col", i));
+        }
+        log.close();
+
+        List<BaseGameRoom> recovered = new RoomEventLog(true, dir, false).recover();
+
+        assertEquals(1, recovered.size());
+        MineRoom copy = (MineRoom) recovered.get(0);
+        assertEquals(room.getRoomId(), copy.getRoomId());
+        assertEquals(room.isPlaying(), copy.isPlaying());
+        assertEquals(room.getTurnOrder(), copy.getTurnOrder());
+        assertEquals(room.getCurrentTurnIndex(), copy.getCurrentTurnIndex());
+        assertEquals(room.getEliminatedUsers(), copy.getEliminatedUsers());
+        assertEquals(room.getRemainingNonMineCells(), copy.getRemainingNonMineCells());
+        for (int r = 0; r < 12; r++) {
+            assertArrayEquals(room.getBoard()[r], copy.getBoard()[r]);
+            assertArrayEquals(room.getViewState()[r], copy.getViewState()[r]);
+        }
+    }
+
+    @Test
+    void replayRestoresBatchedFlagsAndOpens() {
+        RoomEventLog log = new RoomEventLog(true, dir, false);
+        MineRoom room = new MineRoom("batch", 12, 12, 20);
+        log.roomCreated(room);
+        join(log, room, "a");
+        act(log, room, "a", Map.of("actionType", "START", "seed", 77L));
+        act(log, room, "a", Map.of("actionType", "BATCH", "actions", List.of(
+                Map.of("actionType", "FLAG", "row", 0, "col", 0),
+                Map.of("actionType", "FLAG", "row", 11, "col", 11),
+                Map.of("actionType", "OPEN", "row", 5, "col", 6))));
+        log.close();
+
+        MineRoom copy = (MineRoom) new RoomEventLog(true, dir, false).recover().get(0);
+
+        assertEquals(room.getStateVersion(), copy.getStateVersion());
+        assertEquals(room.getRemainingNonMineCells(), copy.getRemainingNonMineCells());
+        for (int r = 0; r < 12; r++) {
+            assertArrayEquals(room.getViewState()[r], copy.getViewState()[r]);
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyRoomAndCurrentPlayers() throws Exception {
+        RoomEventLog log = new RoomEventLog(true, dir, false);
+        MineRoom room = new MineRoom("compact", 10, 10, 15);
+        log.roomCreated(room);
+        join(log, room, "a");
+        act(log, room, "a", Map.of("actionType", "START", "seed", 99L));
+        log.flushAll();
+        long before = Files.size(dir.resolve(room.getRoomId() + ".log"));
+
+        room.setPlaying(false);
+        log.compact(room);
+        log.close();
+
+        assertTrue(Files.size(dir.resolve(room.getRoomId() + ".log")) < before);
+        MineRoom copy = (MineRoom) new RoomEventLog(true, dir, false).recover().get(0);
+        assertFalse(copy.isPlaying());
+        assertEquals(room.getUsers().keySet(), copy.getUsers().keySet());
+    }
+
+    @Test
+    void truncatedTailIsIgnored() throws Exception {
+        RoomEventLog log = new RoomEventLog(true, dir, false);
+        MineRoom room = new MineRoom("torn", 10, 10, 15);
+        log.roomCreated(room);
+        join(log, room, "a");
+        log.close();
+
+        // 쓰다 만 레코드
+        Files.write(dir.resolve(room.getRoomId() + ".log"), new byte[]{0, 0, 0, 50, 3, 1},
+                StandardOpenOption.APPEND);
+
+        List<BaseGameRoom> recovered = new RoomEventLog(true, dir, false).recover();
+        assertEquals(1, recovered.size());
+        assertEquals(1, recovered.get(0).getUsers().size());
+    }
+
+    private static void join(RoomEventLog log, MineRoom room, String id) {
+        Player player = new Player("nick-" + id, id);
+        room.enterUser(player);
+        log.joined(room.getRoomId(), player);
+    }
+
+    private static void act(RoomEventLog log, MineRoom room, String senderId, Map<String, Object> data) {
+        GameMessage message = GameMessage.builder()
+                .type("ACTION")
+                .senderId(senderId)
+                .sender("nick-" + senderId)
+                .data(new HashMap<>(data))
+                .build();
+        if (room.handleAction(message) != null) log.action(room.getRoomId(), message);
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.mine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RoomExecutor executor = new RoomExecutor(registry, 4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tasksOfOneRoomRunInSubmissionOrder() throws InterruptedException {
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1000);
+        executor.open("room");
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            executor.submit("room", () -> {
+                seen.add(n);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 1000; i++) assertEquals(i, seen.get(i));
+    }
+
+    @Test
+    void busyRoomDoesNotBlockOtherRooms() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        executor.open("busy");
+        executor.open("other");
+
+        executor.submit("busy", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.submit("other", otherDone::countDown);
+
+        assertTrue(otherDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void removingRoomUnregistersMetrics() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        executor.onRoomChanged(new RoomChangedEvent("room", RoomChangedEvent.Type.CREATED));
+        executor.submit("room", done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotNull(registry.find("mine.room.mailbox.wait").tag("roomId", "room").timer());
+
+        executor.onRoomChanged(new RoomChangedEvent("room", RoomChangedEvent.Type.REMOVED));
+        assertNull(registry.find("mine.room.mailbox.wait").tag("roomId", "room").timer());
+        assertNull(registry.find("mine.room.mailbox.depth").tag("roomId", "room").gauge());
+    }
+
+    @Test
+    void workForUnknownOrRemovedRoomIsDropped() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        assertFalse(executor.submit("never-created", ran::countDown));
+
+        executor.open("room");
+        executor.remove("room");
+        // 삭제 뒤 늦게 온 작업이 메일박스와 메트릭을 다시 만들지 않음
+        assertFalse(executor.submit("room", ran::countDown));
+        assertFalse(ran.await(100, TimeUnit.MILLISECONDS));
+        assertNull(registry.find("mine.room.mailbox.wait").tag("roomId", "room").timer());
+        assertEquals(0, executor.depth("room"));
+    }
+}
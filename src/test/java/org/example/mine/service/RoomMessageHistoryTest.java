@@ -0,0 +1,69 @@
+package org.example.mine.service;
+
+import org.example.mine.dto.GameMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomMessageHistoryTest {
+
+    @Test
+    void appendAssignsIncreasingSequenceNumbers() {
+        RoomMessageHistory.Ring ring = new RoomMessageHistory(8).ring("room");
+
+        GameMessage first = message("a");
+        GameMessage second = message("b");
+        ring.append(first, RoomMessageHistoryTest::encode);
+        ring.append(second, RoomMessageHistoryTest::encode);
+
+        assertEquals(1L, first.getSeq());
+        assertEquals(2L, second.getSeq());
+        assertEquals(2L, ring.lastSeq());
+    }
+
+    @Test
+    void payloadsSinceReplaysEncodedBodies() {
+        RoomMessageHistory.Ring ring = new RoomMessageHistory(8).ring("room");
+        for (int i = 0; i < 5; i++) {
+            byte[] payload = ring.append(message("m" + i), RoomMessageHistoryTest::encode);
+            assertEquals("m" + i + "@" + (i + 1), new String(payload));
+        }
+
+        List<byte[]> missed = ring.payloadsSince(3);
+        assertEquals(List.of("m3@4", "m4@5"), missed.stream().map(String::new).toList());
+        assertTrue(ring.payloadsSince(5).isEmpty());
+    }
+
+    @Test
+    void payloadsSinceReturnsNullWhenGapIsNoLongerBuffered() {
+        RoomMessageHistory.Ring ring = new RoomMessageHistory(4).ring("room");
+        for (int i = 0; i < 10; i++) ring.append(message("m" + i), RoomMessageHistoryTest::encode);
+
+        // 링에는 7~10번만 남아 있음 -> 5번 이후를 채울 수 없으니 전체 SYNC 필요
+        assertNull(ring.payloadsSince(5));
+        assertEquals(4, ring.payloadsSince(6).size());
+    }
+
+    @Test
+    void payloadsSinceReturnsNullWhenClientIsAheadOfRing() {
+        // 재시작 뒤 새 링 : 클라이언트가 기억하는 순번이 링보다 크면 전체 SYNC
+        RoomMessageHistory.Ring ring = new RoomMessageHistory(8).ring("room");
+        ring.append(message("m0"), RoomMessageHistoryTest::encode);
+
+        assertNull(ring.payloadsSince(40));
+        assertTrue(ring.payloadsSince(1).isEmpty());
+    }
+
+    private static byte[] encode(GameMessage message) {
+        return (message.getContent() + "@" + message.getSeq()).getBytes();
+    }
+
+    private static GameMessage message(String content) {
+        GameMessage msg = new GameMessage();
+        msg.setType("CHAT");
+        msg.setContent(content);
+        return msg;
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.mine.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreSubmissionQueueTest {
+
+    @TempDir
+    Path tempDir;
+
+    // 랭킹 서버 HTTP API 대신 쓰는 로컬 스텁
+    private final List<ScoreRecord> received = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean backendDown = new AtomicBoolean(false);
+    private final AtomicInteger failuresLeft = new AtomicInteger(0);
+    private final ScoreSink stub = record -> {
+        if (backendDown.get() || failuresLeft.getAndDecrement() > 0) throw new IllegalStateException("backend down");
+        received.add(record);
+    };
+
+    private ScoreSubmissionQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) queue.stop();
+    }
+
+    @Test
+    void submitsScoresFromManyRoomsInBackground() {
+        queue = newQueue();
+        queue.start();
+        for (int i = 0; i < 50; i++) queue.submit(new ScoreRecord("user" + i, "Mine", -1));
+
+        awaitReceived(50);
+    }
+
+    @Test
+    void retriesWithBackoffUntilBackendAnswers() {
+        failuresLeft.set(2);
+        queue = newQueue();
+        queue.start();
+        queue.submit(new ScoreRecord("winner", "Mine", -1));
+
+        awaitReceived(1);
+        assertEquals("winner", received.get(0).username());
+    }
+
+    @Test
+    void spillsToFileWhileBackendIsDownAndReplaysWhenItRecovers() throws Exception {
+        backendDown.set(true);
+        queue = newQueue();
+        queue.start();
+        queue.submit(new ScoreRecord("a", "Mine", -1));
+        queue.submit(new ScoreRecord("b", "Mine", -1));
+
+        Path spill = tempDir.resolve("spill.tsv");
+        awaitCondition(() -> Files.exists(spill) && lines(spill) == 2);
+        assertTrue(received.isEmpty());
+
+        // 서버 복구 후 새 점수가 성공하면 보관분도 같이 전송
+        backendDown.set(false);
+        queue.submit(new ScoreRecord("c", "Mine", -1));
+
+        awaitReceived(3);
+        assertFalse(Files.exists(spill));
+    }
+
+    @Test
+    void batchGoesOutInOneSendAllCall() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        ScoreSink batchStub = new ScoreSink() {
+            @Override
+            public void send(ScoreRecord record) {
+                fail("묶음 API가 있으면 한 건씩 보내지 않음");
+            }
+
+            @Override
+            public Delivery sendAll(List<ScoreRecord> records) {
+                batchSizes.add(records.size());
+                received.addAll(records);
+                return new Delivery(records.size(), null);
+            }
+        };
+        queue = newQueue(batchStub);
+        for (int i = 0; i < 10; i++) queue.submit(new ScoreRecord("user" + i, "Mine", -1));
+        queue.start();
+
+        awaitReceived(10);
+        assertEquals(List.of(10), batchSizes);
+    }
+
+    @Test
+    void retryResendsOnlyUndeliveredRecords() {
+        // 첫 시도는 앞의 2건만 전달되고 실패
+        AtomicBoolean firstCall = new AtomicBoolean(true);
+        ScoreSink partial = new ScoreSink() {
+            @Override
+            public void send(ScoreRecord record) {
+                received.add(record);
+            }
+
+            @Override
+            public Delivery sendAll(List<ScoreRecord> records) {
+                if (!firstCall.getAndSet(false)) return ScoreSink.super.sendAll(records);
+                received.addAll(records.subList(0, 2));
+                return new Delivery(2, new IllegalStateException("timeout"));
+            }
+        };
+        queue = newQueue(partial);
+        for (int i = 0; i < 5; i++) queue.submit(new ScoreRecord("user" + i, "Mine", -1));
+        queue.start();
+
+        awaitReceived(5);
+        assertEquals(List.of("user0", "user1", "user2", "user3", "user4"),
+                received.stream().map(ScoreRecord::username).toList());
+    }
+
+    @Test
+    void spilledFieldsAreEscapedAndCorruptLinesAreDroppedOnce() throws Exception {
+        ScoreRecord tricky = new ScoreRecord("a\tb\nc\\d", "Mine", -1);
+        ScoreRecord parsed = ScoreSubmissionQueue.parse(ScoreSubmissionQueue.format(tricky));
+        assertEquals(tricky, parsed);
+
+        // 잘린 줄, 숫자가 아닌 점수 -> 버리고 나머지만 한 번씩 전송
+        Path spill = tempDir.resolve("spill.tsv");
+        Files.writeString(spill, ScoreSubmissionQueue.format(tricky) + "\n" + "x\tMine\tNaN\n" + "trunc\n"
+                + ScoreSubmissionQueue.format(new ScoreRecord("ok", "Mine", -1)) + "\n");
+        queue = newQueue();
+        queue.start();
+
+        awaitReceived(2);
+        assertEquals(List.of(tricky.username(), "ok"), received.stream().map(ScoreRecord::username).toList());
+        awaitCondition(() -> !Files.exists(spill) && !Files.exists(tempDir.resolve("spill.tsv.replay")));
+    }
+
+    private ScoreSubmissionQueue newQueue() {
+        return newQueue(stub);
+    }
+
+    private ScoreSubmissionQueue newQueue(ScoreSink sink) {
+        return new ScoreSubmissionQueue(sink, event -> { }, 100, 10, Duration.ofMillis(20), 3,
+                Duration.ofMillis(5), tempDir.resolve("spill.tsv"));
+    }
+
+    private void awaitReceived(int count) {
+        awaitCondition(() -> received.size() >= count);
+        assertEquals(count, received.size());
+    }
+
+    private static long lines(Path file) {
+        try {
+            return Files.readAllLines(file).size();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) fail("timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+}